@@ -8,6 +8,10 @@
 -- SET FOREIGN_KEY_CHECKS = 0;
 
 -- Limpar todas as tabelas na ordem correta (respeitando foreign keys)
+DELETE FROM order_summary;
+DELETE FROM archived_order_products;
+DELETE FROM order_snapshots;
+DELETE FROM order_events;
 DELETE FROM order_items;
 DELETE FROM orders;
 DELETE FROM partners;
@@ -28,9 +32,15 @@ DELETE FROM partners;
 -- Create indexes for better performance
 CREATE INDEX IF NOT EXISTS idx_orders_partner_created ON orders(partner_id, created_at);
 CREATE INDEX IF NOT EXISTS idx_orders_status_created ON orders(status, created_at);
+CREATE INDEX IF NOT EXISTS idx_orders_status_updated ON orders(status, updated_at);
 CREATE INDEX IF NOT EXISTS idx_orders_partner_status ON orders(partner_id, status);
 CREATE INDEX IF NOT EXISTS idx_orders_created_at ON orders(created_at);
 CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items(order_id);
+CREATE INDEX IF NOT EXISTS idx_order_items_product_order ON order_items(product_id, order_id);
+CREATE INDEX IF NOT EXISTS idx_order_summary_partner_created ON order_summary(partner_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_order_summary_status_created ON order_summary(status, created_at);
+CREATE INDEX IF NOT EXISTS idx_order_summary_created_at ON order_summary(created_at);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_order_events_order_sequence ON order_events(order_id, sequence);
 
 -- ========================================
 -- INSERÇÃO DE DADOS DE EXEMPLO
@@ -115,6 +125,22 @@ VALUES
 ('PROD001', 15, 100.00, '550e8400-e29b-41d4-a716-446655440012')
     ON CONFLICT DO NOTHING;
 
+-- Popular o read model (order_summary) a partir dos pedidos inseridos
+INSERT INTO order_summary (id, partner_id, status, total_amount, item_count, created_at, updated_at, order_version)
+SELECT o.id, o.partner_id, o.status, o.total_amount, COUNT(i.id), o.created_at, o.updated_at, o.version
+FROM orders o
+LEFT JOIN order_items i ON i.order_id = o.id
+GROUP BY o.id
+    ON CONFLICT (id) DO NOTHING;
+
+-- Registrar a criação dos pedidos no log de eventos (order_events)
+INSERT INTO order_events (order_id, sequence, type, partner_id, status, total_amount, item_count, occurred_at)
+SELECT o.id, o.version, 'CREATED', o.partner_id, o.status, o.total_amount, COUNT(i.id), o.created_at
+FROM orders o
+LEFT JOIN order_items i ON i.order_id = o.id
+GROUP BY o.id
+    ON CONFLICT DO NOTHING;
+
 -- ========================================
 -- VERIFICAÇÃO DOS DADOS INSERIDOS
 -- ========================================
@@ -124,7 +150,9 @@ SELECT 'Partners inserted' AS info, COUNT(*) AS count FROM partners
 UNION ALL
 SELECT 'Orders inserted' AS info, COUNT(*) AS count FROM orders
 UNION ALL
-SELECT 'Order items inserted' AS info, COUNT(*) AS count FROM order_items;
+SELECT 'Order items inserted' AS info, COUNT(*) AS count FROM order_items
+UNION ALL
+SELECT 'Order summaries inserted' AS info, COUNT(*) AS count FROM order_summary;
 
 -- Verificar distribuição por status
 SELECT
@@ -0,0 +1,16 @@
+package com.b2b.ordermanagement.application.dto;
+
+/**
+ * How a paged listing computes its total.
+ * <ul>
+ *   <li>{@code EXACT} - a {@code COUNT(*)} with the listing's filters</li>
+ *   <li>{@code CACHED} - a recent exact count for the same filters, dropped on a short TTL or
+ *       when a matching order changes</li>
+ *   <li>{@code ESTIMATED} - the planner's row estimate from table statistics</li>
+ * </ul>
+ */
+public enum CountStrategy {
+    EXACT,
+    CACHED,
+    ESTIMATED
+}
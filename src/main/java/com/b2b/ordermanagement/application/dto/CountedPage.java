@@ -0,0 +1,8 @@
+package com.b2b.ordermanagement.application.dto;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * A page together with the strategy that actually produced its total.
+ */
+public record CountedPage<T>(Page<T> page, CountStrategy countStrategy) {}
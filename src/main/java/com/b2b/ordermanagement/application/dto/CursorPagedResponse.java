@@ -0,0 +1,12 @@
+package com.b2b.ordermanagement.application.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page. {@code nextCursor} is null on the last page.
+ */
+public record CursorPagedResponse<T>(
+        List<T> records,
+        int size,
+        String nextCursor
+) {}
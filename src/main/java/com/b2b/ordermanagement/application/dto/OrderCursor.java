@@ -0,0 +1,33 @@
+package com.b2b.ordermanagement.application.dto;
+
+import com.b2b.ordermanagement.shared.exceptions.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset position in a (createdAt DESC, id DESC) listing: the last row of the previous
+ * page. Travels as an opaque URL-safe token.
+ */
+public record OrderCursor(LocalDateTime createdAt, String id) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            if (separator <= 0 || separator == value.length() - 1) {
+                throw new BusinessException("Invalid cursor: " + token);
+            }
+            return new OrderCursor(LocalDateTime.parse(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException("Invalid cursor: " + token);
+        }
+    }
+}
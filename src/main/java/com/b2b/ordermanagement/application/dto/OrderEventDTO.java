@@ -0,0 +1,17 @@
+package com.b2b.ordermanagement.application.dto;
+
+import com.b2b.ordermanagement.domain.enums.OrderEventType;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderEventDTO(
+        long sequence,
+        OrderEventType type,
+        OrderStatus previousStatus,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        Integer itemCount,
+        LocalDateTime occurredAt
+) {}
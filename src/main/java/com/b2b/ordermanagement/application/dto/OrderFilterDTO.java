@@ -4,6 +4,7 @@ import com.b2b.ordermanagement.application.interfaces.OrderFilterParams;
 import com.b2b.ordermanagement.domain.enums.OrderStatus;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 public class OrderFilterDTO implements OrderFilterParams {
     private String partnerId;
@@ -34,4 +35,33 @@ public class OrderFilterDTO implements OrderFilterParams {
     @Override
     public LocalDateTime getEndDate() { return endDate; }
     public void setEndDate(LocalDateTime endDate) { this.endDate = endDate; }
+
+    /**
+     * Copy that keeps only the criteria {@link OrderFilterParams} actually applies: a blank
+     * partner id or a half-open date range filter nothing, so they compare as absent, and
+     * the partner id is trimmed. Anything keyed on this copy must also query with it, or
+     * two filters that share a key could select different orders.
+     */
+    public static OrderFilterDTO normalized(OrderFilterParams filters) {
+        return new OrderFilterDTO(
+                filters.hasPartnerId() ? filters.getPartnerId().trim() : null,
+                filters.getStatus(),
+                filters.hasDateRange() ? filters.getStartDate() : null,
+                filters.hasDateRange() ? filters.getEndDate() : null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderFilterDTO that)) return false;
+        return Objects.equals(partnerId, that.partnerId)
+                && status == that.status
+                && Objects.equals(startDate, that.startDate)
+                && Objects.equals(endDate, that.endDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partnerId, status, startDate, endDate);
+    }
 }
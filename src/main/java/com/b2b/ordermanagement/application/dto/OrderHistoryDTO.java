@@ -0,0 +1,9 @@
+package com.b2b.ordermanagement.application.dto;
+
+import java.util.List;
+
+public record OrderHistoryDTO(
+        String orderId,
+        String partnerId,
+        List<OrderEventDTO> events
+) {}
@@ -0,0 +1,16 @@
+package com.b2b.ordermanagement.application.dto;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderSummaryDTO(
+        String id,
+        String partnerId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        int itemCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
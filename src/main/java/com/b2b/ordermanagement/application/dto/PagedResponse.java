@@ -8,6 +8,7 @@ public class PagedResponse<T> {
     private int page;
     private int pages;
     private long total;
+    private CountStrategy countStrategy = CountStrategy.EXACT;
 
     public PagedResponse() {}
 
@@ -18,12 +19,26 @@ public class PagedResponse<T> {
         this.total = total;
     }
 
+    public PagedResponse(List<T> records, int page, int pages, long total, CountStrategy countStrategy) {
+        this(records, page, pages, total);
+        this.countStrategy = countStrategy;
+    }
+
     public static <T> PagedResponse<T> of(Page<T> page) {
+        return of(page, CountStrategy.EXACT);
+    }
+
+    public static <T> PagedResponse<T> of(CountedPage<T> counted) {
+        return of(counted.page(), counted.countStrategy());
+    }
+
+    public static <T> PagedResponse<T> of(Page<T> page, CountStrategy countStrategy) {
         return new PagedResponse<>(
                 page.getContent(),
                 page.getNumber(),
                 page.getTotalPages(),
-                page.getTotalElements()
+                page.getTotalElements(),
+                countStrategy
         );
     }
 
@@ -38,4 +53,7 @@ public class PagedResponse<T> {
 
     public long getTotal() { return total; }
     public void setTotal(long total) { this.total = total; }
+
+    public CountStrategy getCountStrategy() { return countStrategy; }
+    public void setCountStrategy(CountStrategy countStrategy) { this.countStrategy = countStrategy; }
 }
@@ -0,0 +1,13 @@
+package com.b2b.ordermanagement.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record PartnerDashboardDTO(
+        String partnerId,
+        long totalOrders,
+        BigDecimal totalAmount,
+        BigDecimal availableCredit,
+        List<StatusTotalsDTO> byStatus,
+        List<OrderSummaryDTO> recentOrders
+) {}
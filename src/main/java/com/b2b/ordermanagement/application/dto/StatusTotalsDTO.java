@@ -0,0 +1,11 @@
+package com.b2b.ordermanagement.application.dto;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+
+public record StatusTotalsDTO(
+        OrderStatus status,
+        Long orders,
+        BigDecimal totalAmount
+) {}
@@ -0,0 +1,22 @@
+package com.b2b.ordermanagement.application.events;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published inside the creating transaction; listeners that write must run before commit.
+ */
+public record OrderCreatedEvent(
+        String orderId,
+        String partnerId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        int itemCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long version,
+        List<String> productIds
+) {}
@@ -0,0 +1,18 @@
+package com.b2b.ordermanagement.application.events;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published inside the transition's transaction; {@code version} is the order version
+ * after the change.
+ */
+public record OrderStatusChangedEvent(
+        String orderId,
+        String partnerId,
+        OrderStatus previousStatus,
+        OrderStatus newStatus,
+        LocalDateTime changedAt,
+        long version
+) {}
@@ -0,0 +1,86 @@
+package com.b2b.ordermanagement.application.notifications;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Serializes {@link OrderNotification}s as compact UTF-8 JSON with a streaming generator
+ * into a per-thread buffer that is reused across calls.
+ *
+ * <p>The returned {@link ByteBuffer} is a view over that buffer: it is only valid until
+ * the next {@code encode} on the same thread, so publishers must consume or copy it
+ * before returning.</p>
+ */
+public final class NotificationEncoder {
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final ThreadLocal<PooledBuffer> BUFFERS = ThreadLocal.withInitial(PooledBuffer::new);
+
+    private NotificationEncoder() {}
+
+    public static ByteBuffer encode(OrderNotification notification) {
+        PooledBuffer buffer = BUFFERS.get();
+        buffer.reset();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("event", notification.event());
+            notification.writeFields(generator);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            // The target is in memory, so this only happens on a bug in writeFields
+            throw new UncheckedIOException("Failed to encode " + notification.event(), e);
+        }
+        return buffer.view();
+    }
+
+    static void writeTimestamp(JsonGenerator generator, LocalDateTime timestamp) throws IOException {
+        generator.writeStringField("timestamp", timestamp != null ? timestamp.toString() : null);
+    }
+
+    private static final class PooledBuffer extends OutputStream {
+        private byte[] bytes = new byte[INITIAL_CAPACITY];
+        private ByteBuffer view = ByteBuffer.wrap(bytes);
+        private int count;
+
+        void reset() {
+            count = 0;
+        }
+
+        ByteBuffer view() {
+            view.limit(count).position(0);
+            return view;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(source, offset, bytes, count, length);
+            count += length;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+                view = ByteBuffer.wrap(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.b2b.ordermanagement.application.notifications;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderCreatedNotification(
+        String orderId,
+        String partnerId,
+        BigDecimal totalAmount,
+        int itemCount,
+        OrderStatus status,
+        LocalDateTime timestamp
+) implements OrderNotification {
+
+    public static final String TOPIC = "order.created";
+
+    @Override
+    public String topic() {
+        return TOPIC;
+    }
+
+    @Override
+    public String event() {
+        return "order_created";
+    }
+
+    @Override
+    public void writeFields(JsonGenerator generator) throws IOException {
+        generator.writeStringField("orderId", orderId);
+        generator.writeStringField("partnerId", partnerId);
+        generator.writeFieldName("totalAmount");
+        generator.writeNumber(totalAmount);
+        generator.writeNumberField("itemCount", itemCount);
+        generator.writeStringField("status", status.name());
+        NotificationEncoder.writeTimestamp(generator, timestamp);
+    }
+}
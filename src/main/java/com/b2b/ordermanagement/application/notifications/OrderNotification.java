@@ -0,0 +1,18 @@
+package com.b2b.ordermanagement.application.notifications;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * A message published to the notification broker. Each type writes its own fields
+ * straight into a {@link JsonGenerator}; {@link NotificationEncoder} adds the envelope.
+ */
+public sealed interface OrderNotification permits OrderCreatedNotification, OrderStatusChangedNotification {
+
+    String topic();
+
+    String event();
+
+    void writeFields(JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,37 @@
+package com.b2b.ordermanagement.application.notifications;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+public record OrderStatusChangedNotification(
+        String orderId,
+        String partnerId,
+        OrderStatus previousStatus,
+        OrderStatus newStatus,
+        LocalDateTime timestamp
+) implements OrderNotification {
+
+    public static final String TOPIC = "order.status.changed";
+
+    @Override
+    public String topic() {
+        return TOPIC;
+    }
+
+    @Override
+    public String event() {
+        return "order_status_changed";
+    }
+
+    @Override
+    public void writeFields(JsonGenerator generator) throws IOException {
+        generator.writeStringField("orderId", orderId);
+        generator.writeStringField("partnerId", partnerId);
+        generator.writeStringField("previousStatus", previousStatus != null ? previousStatus.name() : null);
+        generator.writeStringField("newStatus", newStatus != null ? newStatus.name() : null);
+        NotificationEncoder.writeTimestamp(generator, timestamp);
+    }
+}
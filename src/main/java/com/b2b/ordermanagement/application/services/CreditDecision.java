@@ -0,0 +1,7 @@
+package com.b2b.ordermanagement.application.services;
+
+public enum CreditDecision {
+    GRANTED,
+    INSUFFICIENT_CREDIT,
+    PARTNER_NOT_FOUND
+}
@@ -1,9 +1,13 @@
 package com.b2b.ordermanagement.application.services;
 
+import com.b2b.ordermanagement.infrastructure.jfr.NotificationPublishEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 @Service
 public class NotificationService {
 
@@ -12,6 +16,16 @@ public class NotificationService {
     private boolean connectionFailure = false;
 
     public boolean simulateMessageSend(String topic, String message) {
+        return simulateMessageSend(topic, ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Publishes an encoded payload. The buffer may be a reused view (see
+     * {@code NotificationEncoder}), so it is read without being retained.
+     */
+    public boolean simulateMessageSend(String topic, ByteBuffer payload) {
+        NotificationPublishEvent event = NotificationPublishEvent.start();
+        boolean sent = false;
         try {
             if (connectionFailure) {
                 logger.error("RabbitMQ connection failed for topic '{}'", topic);
@@ -19,12 +33,17 @@ public class NotificationService {
             }
 
             Thread.sleep(10); // Simulate network latency
-            logger.debug("Message sent to topic '{}': {}", topic, message);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Message sent to topic '{}': {}", topic, StandardCharsets.UTF_8.decode(payload.duplicate()));
+            }
+            sent = true;
             return true;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             logger.error("Error sending notification", e);
             return false;
+        } finally {
+            event.complete(topic, payload.remaining(), sent);
         }
     }
 }
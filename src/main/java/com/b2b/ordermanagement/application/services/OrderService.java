@@ -4,47 +4,135 @@ import com.b2b.ordermanagement.domain.entities.Partner;
 import com.b2b.ordermanagement.domain.enums.OrderStatus;
 import com.b2b.ordermanagement.shared.exceptions.BusinessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import com.b2b.ordermanagement.application.dto.CountStrategy;
+import com.b2b.ordermanagement.application.dto.CountedPage;
 import com.b2b.ordermanagement.application.dto.CreateOrderDTO;
+import com.b2b.ordermanagement.application.dto.CursorPagedResponse;
+import com.b2b.ordermanagement.application.dto.OrderCursor;
+import com.b2b.ordermanagement.application.dto.OrderFilterDTO;
+import com.b2b.ordermanagement.application.dto.OrderHistoryDTO;
 import com.b2b.ordermanagement.application.dto.OrderResponseDTO;
+import com.b2b.ordermanagement.application.dto.OrderSummaryDTO;
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
 import com.b2b.ordermanagement.application.interfaces.OrderFilterParams;
+import com.b2b.ordermanagement.application.notifications.NotificationEncoder;
+import com.b2b.ordermanagement.application.notifications.OrderCreatedNotification;
+import com.b2b.ordermanagement.application.notifications.OrderNotification;
+import com.b2b.ordermanagement.application.notifications.OrderStatusChangedNotification;
 import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.entities.OrderEvent;
 import com.b2b.ordermanagement.domain.entities.OrderItem;
+import com.b2b.ordermanagement.domain.entities.OrderSummary;
+import com.b2b.ordermanagement.infrastructure.approval.AutoApprovalRules;
+import com.b2b.ordermanagement.infrastructure.archive.ArchivedOrder;
+import com.b2b.ordermanagement.infrastructure.archive.OrderArchive;
+import com.b2b.ordermanagement.infrastructure.cache.OrderResponseCache;
+import com.b2b.ordermanagement.infrastructure.coalescing.CoalesceConcurrentCalls;
+import com.b2b.ordermanagement.infrastructure.counting.OrderCountInvalidator;
+import com.b2b.ordermanagement.infrastructure.counting.TotalCounter;
+import com.b2b.ordermanagement.infrastructure.jfr.CreditCheckEvent;
+import com.b2b.ordermanagement.infrastructure.limits.PartnerRateLimiter;
+import com.b2b.ordermanagement.infrastructure.jfr.OrderTransitionEvent;
+import com.b2b.ordermanagement.infrastructure.metrics.OperationOutcome;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderOperation;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderEventRepository;
 import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSummaryRepository;
+import com.b2b.ordermanagement.infrastructure.retry.RetryOnConflict;
+import com.b2b.ordermanagement.infrastructure.retry.RetryScope;
+import com.b2b.ordermanagement.infrastructure.retry.TransientConflicts;
+import com.b2b.ordermanagement.infrastructure.search.RecentProductIndex;
+import com.b2b.ordermanagement.shared.exceptions.InsufficientCreditException;
+import com.b2b.ordermanagement.shared.exceptions.RateLimitExceededException;
 import com.b2b.ordermanagement.shared.exceptions.ResourceNotFoundException;
 import com.b2b.ordermanagement.shared.mappers.OrderMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @Transactional
 public class OrderService {
 
+    // Bounds used when a product lookup has no date range; both fit a Postgres timestamp
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final int MAX_PRODUCT_PAGE_SIZE = 100;
+    private static final String RATE_LIMIT_KEY = "rate-limit";
+
     private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
 
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
     private final PartnerService partnerService;
     private final NotificationService notificationService;
+    private final OrderMetrics orderMetrics;
+    private final OrderResponseCache responseCache;
+    private final PartnerRateLimiter rateLimiter;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderEventRepository orderEventRepository;
+    private final RecentProductIndex recentProductIndex;
+    private final TotalCounter totalCounter;
+    private final AutoApprovalRules autoApprovalRules;
+    private final OrderArchive orderArchive;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(OrderRepository orderRepository,
+                        OrderSummaryRepository orderSummaryRepository,
+                        OrderEventRepository orderEventRepository,
+                        RecentProductIndex recentProductIndex,
+                        TotalCounter totalCounter,
+                        AutoApprovalRules autoApprovalRules,
+                        OrderArchive orderArchive,
+                        ApplicationEventPublisher eventPublisher,
                         PartnerService partnerService,
                         NotificationService notificationService,
-                        OrderMapper orderMapper) {
+                        OrderMapper orderMapper,
+                        OrderMetrics orderMetrics,
+                        OrderResponseCache responseCache,
+                        PartnerRateLimiter rateLimiter) {
         this.orderRepository = orderRepository;
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.orderEventRepository = orderEventRepository;
+        this.recentProductIndex = recentProductIndex;
+        this.totalCounter = totalCounter;
+        this.autoApprovalRules = autoApprovalRules;
+        this.orderArchive = orderArchive;
+        this.eventPublisher = eventPublisher;
         this.partnerService = partnerService;
         this.orderMapper = orderMapper;
         this.notificationService = notificationService;
+        this.orderMetrics = orderMetrics;
+        this.responseCache = responseCache;
+        this.rateLimiter = rateLimiter;
     }
 
+    @RetryOnConflict
     public OrderResponseDTO createOrder(CreateOrderDTO createOrderDTO) {
+        long start = System.nanoTime();
         try {
+            // One token per call: a conflict retry is not a new request
+            RetryScope.once(RATE_LIMIT_KEY, () ->
+                    rateLimiter.acquire(PartnerRateLimiter.Operation.CREATE, createOrderDTO.partnerId()));
+
             Partner partner = partnerService.getPartnerEntityById(createOrderDTO.partnerId());
 
             logger.info("Creating order for partner: {}", createOrderDTO.partnerId());
@@ -58,179 +146,381 @@ public class OrderService {
             Order order = new Order(createOrderDTO.partnerId(), orderItems);
 
             // Check credit availability
-            if (!partner.hasAvailableCredit(order.getTotalAmount())) {
-                throw new BusinessException("Insufficient credit available for partner: " + partner.getId());
+            boolean creditAvailable = partner.hasAvailableCredit(order.getTotalAmount());
+            CreditCheckEvent.emit(partner.getId(), "createOrder", order.getTotalAmount(),
+                    partner.getAvailableCredit(), creditAvailable);
+            if (!creditAvailable) {
+                throw new InsufficientCreditException(partner.getId());
             }
 
+            // Orders matching an auto-approval rule are saved as APPROVED, skipping the
+            // separate approve call and its status-change notification
+            autoApprovalRules.match(order, partner).ifPresent(rule -> autoApprove(order, rule));
+
             Order savedOrder = orderRepository.save(order);
             logger.info("Order created successfully: {}", savedOrder.getId());
+            OrderTransitionEvent.emit(order.getId(), order.getPartnerId(), null, order.getStatus());
+            orderMetrics.recordOrderShape(order.getItems().size(), order.getTotalAmount());
+            eventPublisher.publishEvent(new OrderCreatedEvent(
+                    savedOrder.getId(),
+                    savedOrder.getPartnerId(),
+                    savedOrder.getStatus(),
+                    savedOrder.getTotalAmount(),
+                    savedOrder.getItems().size(),
+                    savedOrder.getCreatedAt(),
+                    savedOrder.getUpdatedAt(),
+                    versionOf(savedOrder),
+                    savedOrder.getItems().stream().map(OrderItem::getProductId).distinct().toList()));
 
             // Send notification
-            notificationService.simulateMessageSend("order.created", String.format("""
-            {
-                "event": "order_created",
-                "orderId": "%s",
-                "partnerId": "%s",
-                "totalAmount": %s,
-                "itemCount": %d,
-                "timestamp": "%s"
-            }
-            """,
+            publish(new OrderCreatedNotification(
                     order.getId(),
                     order.getPartnerId(),
                     order.getTotalAmount(),
                     order.getItems().size(),
-                    order.getCreatedAt()
-            ));
-
-            return orderMapper.toResponseDTO(savedOrder);
-
-        } catch (Exception e) {
+                    order.getStatus(),
+                    order.getCreatedAt()));
+
+            OrderResponseDTO response = orderMapper.toResponseDTO(savedOrder);
+            orderMetrics.recordOperationOnCompletion(OrderOperation.CREATE_ORDER, start);
+            return response;
+
+        } catch (BusinessException | ResourceNotFoundException | RateLimitExceededException e) {
+            orderMetrics.recordOperation(OrderOperation.CREATE_ORDER, OperationOutcome.of(e), System.nanoTime() - start);
+            throw e;
+        } catch (RuntimeException e) {
+            orderMetrics.recordOperation(OrderOperation.CREATE_ORDER, OperationOutcome.of(e), System.nanoTime() - start);
+            if (TransientConflicts.isRetryable(e)) {
+                throw e;
+            }
             logger.error("Unexpected error creating order for partner: {}", createOrderDTO.partnerId(), e);
-            throw new BusinessException("Error creating order: " + e.getMessage());
+            throw new BusinessException("Error creating order: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Debits the partner's credit under the partner lock, as {@link #approveOrder} does, and
+     * approves the not yet saved order. When the credit has been used up concurrently the
+     * order is simply left PENDING for manual approval.
+     */
+    private void autoApprove(Order order, String rule) {
+        CreditDecision decision = partnerService.debitCredit(order.getPartnerId(), order.getTotalAmount());
+        if (decision != CreditDecision.GRANTED) {
+            logger.info("Order {} matched auto-approval rule {} but was left pending: {}", order.getId(), rule, decision);
+            return;
         }
+        order.updateStatus(OrderStatus.APPROVED);
+        logger.info("Order {} auto-approved by rule {}", order.getId(), rule);
     }
 
+    @CoalesceConcurrentCalls
     @Transactional(readOnly = true)
     public OrderResponseDTO getOrderById(String orderId) {
-        Order order = orderRepository.findById(orderId)
+        Optional<Order> order = orderRepository.findById(orderId);
+        if (order.isPresent()) {
+            OrderResponseDTO response = orderMapper.toResponseDTO(order.get());
+            responseCache.store(orderId, order.get().getVersion(), order.get().getStatus(), response);
+            return response;
+        }
+
+        // Terminal orders past the retention window only exist in the cold archive
+        ArchivedOrder archived = orderArchive.find(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found: " + orderId));
+        OrderResponseDTO response = orderMapper.toResponseDTO(archived);
+        responseCache.store(orderId, archived.version(), archived.status(), response);
+        return response;
+    }
 
-        return orderMapper.toResponseDTO(order);
+    /**
+     * Returns every logged change of an order, oldest first, in one range read over the
+     * (order_id, sequence) index of {@code order_events}.
+     */
+    @Transactional(readOnly = true)
+    public OrderHistoryDTO getOrderHistory(String orderId) {
+        List<OrderEvent> events = orderEventRepository.findByOrderIdOrderBySequenceAsc(orderId);
+        if (events.isEmpty()) {
+            throw new ResourceNotFoundException("Order not found: " + orderId);
+        }
+        return orderMapper.toHistoryDTO(orderId, events);
     }
 
+    /**
+     * Lists orders from the {@code order_summary} read model, so listings never join or
+     * lazily load order items. The total comes from {@link TotalCounter} with the requested
+     * strategy (the configured default when {@code countStrategy} is null).
+     */
+    @CoalesceConcurrentCalls
     @Transactional(readOnly = true)
-    public Page<OrderResponseDTO> getFilteredOrders(OrderFilterParams filters, Pageable pageable) {
+    public CountedPage<OrderSummaryDTO> getFilteredOrders(OrderFilterParams filters, Pageable pageable,
+                                                          CountStrategy countStrategy) {
         if (pageable.getSort().isUnsorted()) {
             pageable = PageRequest.of(
                     pageable.getPageNumber(),
                     pageable.getPageSize(),
-                    Sort.by(Sort.Direction.DESC, "created_at")
+                    Sort.by(Sort.Direction.DESC, "createdAt")
             );
         }
 
-        Page<Order> orders;
-
-        if (filters.hasPartnerId() && filters.hasStatus() && filters.hasDateRange()) {
-            // Partner, Status and DateRange
-            orders = orderRepository.findByPartnerIdAndStatusAndCreatedAtBetween(
-                    filters.getPartnerId(), filters.getStatus(),
-                    filters.getStartDate(), filters.getEndDate(), pageable);
-
-        } else if (filters.hasPartnerId() && filters.hasDateRange()) {
-            // Partner and DateRange
-            orders = orderRepository.findByPartnerIdAndCreatedAtBetween(
-                    filters.getPartnerId(), filters.getStartDate(), filters.getEndDate(), pageable);
-
-        } else if (filters.hasPartnerId() && filters.hasStatus()) {
-            // Partner and Status
-            orders = orderRepository.findByPartnerIdAndStatus(
-                    filters.getPartnerId(), filters.getStatus(), pageable);
-
-        } else if (filters.hasStatus() && filters.hasDateRange()) {
-            // Only and DateRange
-            orders = orderRepository.findByStatusAndCreatedAtBetween(
-                    filters.getStatus(), filters.getStartDate(), filters.getEndDate(), pageable);
-
-        } else if (filters.hasPartnerId()) {
-            // Only Partner
-            orders = orderRepository.findByPartnerIdOrderByCreatedAtDesc(filters.getPartnerId(), pageable);
-
-        } else if (filters.hasStatus()) {
-            // Only Status
-            orders = orderRepository.findByStatusOrderByCreatedAtDesc(filters.getStatus(), pageable);
-
-        } else if (filters.hasDateRange()) {
-            // Only DateRange
-            orders = orderRepository.findByCreatedAtBetween(
-                    filters.getStartDate(), filters.getEndDate(), pageable);
-
-        } else {
-            // All orders without filter
-            orders = orderRepository.findAll(pageable);
+        // The coalescing and count-cache keys are this normalized copy, so the queries use it too
+        OrderFilterDTO normalized = OrderFilterDTO.normalized(filters);
+        List<OrderSummary> orders = orderSummaryRepository.findMatching(normalized, pageable);
+        TotalCounter.Total total = totalCounter.total(OrderCountInvalidator.RESOURCE,
+                normalized, countStrategy, pageable, orders.size(),
+                () -> orderSummaryRepository.countMatching(normalized),
+                () -> orderSummaryRepository.estimateMatching(normalized));
+
+        Page<OrderSummaryDTO> page = new PageImpl<>(
+                orders.stream().map(orderMapper::toSummaryDTO).toList(), pageable, total.value());
+        return new CountedPage<>(page, total.strategy());
+    }
+
+    /**
+     * Keyset page of the orders containing {@code productId}, newest first, of at most
+     * {@value #MAX_PRODUCT_PAGE_SIZE} orders. Recent ranges are answered from
+     * {@link RecentProductIndex} when it covers them and every order it returns has its
+     * summary; everything else reads the (product_id, order_id) index joined to
+     * {@code order_summary}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<OrderSummaryDTO> getOrdersByProduct(String productId, OrderFilterParams filters,
+                                                                   String cursor, int requestedSize) {
+        if (requestedSize < 1) {
+            throw new BusinessException("Page size must be positive");
+        }
+        int size = Math.min(requestedSize, MAX_PRODUCT_PAGE_SIZE);
+        OrderCursor after = cursor != null && !cursor.isBlank() ? OrderCursor.decode(cursor) : null;
+        String partnerId = filters.hasPartnerId() ? filters.getPartnerId().trim() : null;
+        LocalDateTime startDate = filters.hasDateRange() ? filters.getStartDate() : EARLIEST;
+        LocalDateTime endDate = filters.hasDateRange() ? filters.getEndDate() : LATEST;
+        // One extra row tells whether there is a next page
+        int limit = size + 1;
+
+        Optional<List<String>> recent = filters.hasStatus()
+                ? Optional.empty()
+                : recentProductIndex.lookup(productId, partnerId, startDate, endDate, after, limit);
+
+        // The index can be ahead of order_summary; rather than return a short page for a
+        // missing summary, let the database answer
+        List<OrderSummary> rows = recent.map(this::findSummariesInOrder).orElse(null);
+        if (rows == null && after == null) {
+            rows = orderSummaryRepository.findFirstByProduct(productId, Objects.toString(partnerId, ""),
+                    filters.hasStatus() ? filters.getStatus().name() : "", startDate, endDate, limit);
+        } else if (rows == null) {
+            rows = orderSummaryRepository.findByProductAfter(productId, Objects.toString(partnerId, ""),
+                    filters.hasStatus() ? filters.getStatus().name() : "", startDate, endDate,
+                    after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<OrderSummary> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummary last = page.get(page.size() - 1);
+            nextCursor = new OrderCursor(last.getCreatedAt(), last.getId()).encode();
         }
+        return new CursorPagedResponse<>(page.stream().map(orderMapper::toSummaryDTO).toList(), size, nextCursor);
+    }
 
-        return orders.map(orderMapper::toResponseDTO);
+    /**
+     * Summaries of {@code orderIds} in the same order, or null when any of them is missing.
+     */
+    private List<OrderSummary> findSummariesInOrder(List<String> orderIds) {
+        Map<String, OrderSummary> byId = new HashMap<>();
+        orderSummaryRepository.findAllById(orderIds).forEach(summary -> byId.put(summary.getId(), summary));
+        if (byId.size() < orderIds.size()) {
+            return null;
+        }
+        return orderIds.stream().map(byId::get).toList();
     }
 
+    @RetryOnConflict
     public OrderResponseDTO approveOrder(String orderId) {
-        try {
-            logger.info("Approving order: {}", orderId);
-
-            Order order = orderRepository.findByIdWithLock(orderId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Order not found: " + orderId));
-
-            if (!order.canBeApproved()) {
-                throw new BusinessException("Order cannot be approved in current status: " + order.getStatus());
-            }
+        return transition(orderId, OrderStatus.APPROVED, OrderOperation.APPROVE_ORDER);
+    }
 
-            // Debit partner credit
-            partnerService.debitCredit(order.getPartnerId(), order.getTotalAmount());
+    @RetryOnConflict
+    public OrderResponseDTO cancelOrder(String orderId) {
+        return transition(orderId, OrderStatus.CANCELLED, OrderOperation.CANCEL_ORDER);
+    }
 
-            OrderStatus previousStatus = order.getStatus();
-            order.updateStatus(OrderStatus.APPROVED);
+    @RetryOnConflict
+    public OrderResponseDTO processOrder(String orderId) {
+        return transition(orderId, OrderStatus.PROCESSING, OrderOperation.PROCESS_ORDER);
+    }
 
-            Order savedOrder = orderRepository.save(order);
-            logger.info("Order approved successfully: {}", orderId);
+    @RetryOnConflict
+    public OrderResponseDTO shipOrder(String orderId) {
+        return transition(orderId, OrderStatus.SHIPPED, OrderOperation.SHIP_ORDER);
+    }
 
-            notificationService.simulateMessageSend("order.status.changed", statusChangeMessage(savedOrder, previousStatus));
+    @RetryOnConflict
+    public OrderResponseDTO deliverOrder(String orderId) {
+        return transition(orderId, OrderStatus.DELIVERED, OrderOperation.DELIVER_ORDER);
+    }
 
-            return orderMapper.toResponseDTO(savedOrder);
-        } catch (Exception e) {
-            logger.error("Unexpected error approve order: {}", orderId, e);
-            throw new BusinessException("Error creating order: " + e.getMessage());
+    /**
+     * Cancels the given orders that are still PENDING and were created at or before
+     * {@code createdBefore}, with the same side effects as {@link #cancelOrder} but one
+     * conditional UPDATE per batch. PENDING orders hold no credit, so none is restored.
+     * Returns the ids actually cancelled; the rest were approved, cancelled or expired
+     * elsewhere in the meantime.
+     */
+    public List<String> expirePendingOrders(List<String> orderIds, LocalDateTime createdBefore) {
+        long start = System.nanoTime();
+        try {
+            List<Order> expired = orderRepository.expirePending(orderIds, createdBefore, LocalDateTime.now());
+            expired.forEach(this::announceTransition);
+            logger.info("Expired {} of {} stale pending orders", expired.size(), orderIds.size());
+            orderMetrics.recordOperationOnCompletion(OrderOperation.EXPIRE_ORDERS, start);
+            return expired.stream().map(Order::getId).toList();
+        } catch (RuntimeException e) {
+            orderMetrics.recordOperation(OrderOperation.EXPIRE_ORDERS, OperationOutcome.of(e), System.nanoTime() - start);
+            throw e;
         }
     }
 
-    public OrderResponseDTO cancelOrder(String orderId) {
+    /**
+     * Moves a batch of orders from {@code source} to {@code target} in one conditional
+     * UPDATE, with the same side effects as the single-order transitions. Meant for
+     * background processing of orders already claimed in the caller's transaction, so no
+     * partner rate limit applies. Only fulfillment steps are allowed: approvals and
+     * cancellations move credit and must go through {@link #approveOrder}/{@link #cancelOrder}.
+     */
+    public List<String> advanceOrders(List<String> orderIds, OrderStatus source, OrderStatus target) {
+        if (!source.canTransitionTo(target) || source.holdsCredit() != target.holdsCredit()) {
+            throw new IllegalArgumentException("Orders cannot be advanced from " + source + " to " + target);
+        }
+        long start = System.nanoTime();
         try {
-            logger.info("Cancelling order: {}", orderId);
-
-            Order order = orderRepository.findByIdWithLock(orderId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Order not found: " + orderId));
+            List<Order> advanced = orderRepository.transitionAll(orderIds, source.name(), target.name(), LocalDateTime.now());
+            advanced.forEach(this::announceTransition);
+            orderMetrics.recordOperationOnCompletion(OrderOperation.ADVANCE_ORDERS, start);
+            return advanced.stream().map(Order::getId).toList();
+        } catch (RuntimeException e) {
+            orderMetrics.recordOperation(OrderOperation.ADVANCE_ORDERS, OperationOutcome.of(e), System.nanoTime() - start);
+            throw e;
+        }
+    }
 
-            if (!order.canBeCancelled()) {
-                throw new BusinessException("Order cannot be cancelled in current status: " + order.getStatus());
-            }
+    /**
+     * Side effects of a status change applied by a batch UPDATE, which returns each row
+     * with the status it came from.
+     */
+    private void announceTransition(Order order) {
+        responseCache.invalidate(order.getId(), order.getVersion());
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order.getId(), order.getPartnerId(),
+                order.getPreviousStatus(), order.getStatus(), order.getUpdatedAt(), versionOf(order)));
+        OrderTransitionEvent.emit(order.getId(), order.getPartnerId(), order.getPreviousStatus(), order.getStatus());
+        publish(new OrderStatusChangedNotification(order.getId(), order.getPartnerId(),
+                order.getPreviousStatus(), order.getStatus(), order.getUpdatedAt()));
+    }
 
-            // If order was approved, restore partner credit
-            if (order.getStatus() == OrderStatus.APPROVED ||
-                    order.getStatus() == OrderStatus.PROCESSING ||
-                    order.getStatus() == OrderStatus.SHIPPED) {
+    /**
+     * Applies a status transition with one conditional UPDATE instead of locking and
+     * re-reading the row: the database only changes the order when its current status is
+     * an allowed source for {@code target} (see {@link OrderStatus}), and returns it with
+     * the status it came from. Credit side effects are then applied based on that status.
+     */
+    private OrderResponseDTO transition(String orderId, OrderStatus target, OrderOperation operation) {
+        long start = System.nanoTime();
+        try {
+            logger.info("Moving order {} to {}", orderId, target);
+
+            // Throttle on a plain read of the owner, so a throttled call takes no row lock
+            orderRepository.findPartnerIdById(orderId).ifPresent(partnerId -> RetryScope.once(RATE_LIMIT_KEY, () ->
+                    rateLimiter.acquire(PartnerRateLimiter.Operation.STATUS_CHANGE, partnerId)));
+
+            Order order = orderRepository.transitionStatus(orderId, target.name(), target.sourceNames(), LocalDateTime.now())
+                    .orElseThrow(() -> transitionRejected(orderId, target));
+            OrderStatus previousStatus = order.getPreviousStatus();
+
+            if (target == OrderStatus.APPROVED) {
+                // Debit partner credit; a rejection rolls the status change back
+                CreditDecision decision = partnerService.debitCredit(order.getPartnerId(), order.getTotalAmount());
+                if (decision != CreditDecision.GRANTED) {
+                    throw creditRejected(decision, order.getPartnerId());
+                }
+            } else if (target == OrderStatus.CANCELLED && previousStatus.holdsCredit()) {
+                // If order was approved, restore partner credit
                 partnerService.restoreCredit(order.getPartnerId(), order.getTotalAmount());
             }
 
-            OrderStatus previousStatus = order.getStatus();
-            order.updateStatus(OrderStatus.CANCELLED);
+            responseCache.invalidate(orderId, order.getVersion());
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                    orderId, order.getPartnerId(), previousStatus, target, order.getUpdatedAt(), versionOf(order)));
+            OrderTransitionEvent.emit(orderId, order.getPartnerId(), previousStatus, target);
+            logger.info("Order {} moved from {} to {}", orderId, previousStatus, target);
+
+            publish(new OrderStatusChangedNotification(
+                    orderId, order.getPartnerId(), previousStatus, order.getStatus(), order.getUpdatedAt()));
+
+            OrderResponseDTO response = orderMapper.toResponseDTO(order);
+            orderMetrics.recordOperationOnCompletion(operation, start);
+            return response;
+        } catch (BusinessException | ResourceNotFoundException | RateLimitExceededException e) {
+            orderMetrics.recordOperation(operation, OperationOutcome.of(e), System.nanoTime() - start);
+            throw e;
+        } catch (RuntimeException e) {
+            orderMetrics.recordOperation(operation, OperationOutcome.of(e), System.nanoTime() - start);
+            if (TransientConflicts.isRetryable(e)) {
+                throw e;
+            }
+            logger.error("Unexpected error moving order {} to {}", orderId, target, e);
+            throw new BusinessException("Error creating order: " + e.getMessage(), e);
+        }
+    }
 
-            Order savedOrder = orderRepository.save(order);
-            logger.info("Order cancelled successfully: {}", orderId);
+    private RuntimeException transitionRejected(String orderId, OrderStatus target) {
+        return orderRepository.findStatusById(orderId)
+                .or(() -> orderArchive.find(orderId).map(ArchivedOrder::status))
+                .<RuntimeException>map(current -> new BusinessException(
+                        "Order cannot be " + describe(target) + " in current status: " + current))
+                .orElseGet(() -> new ResourceNotFoundException("Order not found: " + orderId));
+    }
 
-            notificationService.simulateMessageSend("order.status.changed", statusChangeMessage(savedOrder, previousStatus));
+    private static long versionOf(Order order) {
+        return order.getVersion() != null ? order.getVersion() : 0L;
+    }
 
-            return orderMapper.toResponseDTO(savedOrder);
-        } catch (Exception e) {
-            logger.error("Unexpected error approve order: {}", orderId, e);
-            throw new BusinessException("Error creating order: " + e.getMessage());
+    private static RuntimeException creditRejected(CreditDecision decision, String partnerId) {
+        if (decision == CreditDecision.PARTNER_NOT_FOUND) {
+            return new ResourceNotFoundException("Partner not found: " + partnerId);
         }
+        return new InsufficientCreditException(partnerId);
+    }
+
+    private static String describe(OrderStatus target) {
+        return switch (target) {
+            case APPROVED -> "approved";
+            case PROCESSING -> "processed";
+            case SHIPPED -> "shipped";
+            case DELIVERED -> "delivered";
+            case CANCELLED -> "cancelled";
+            case PENDING -> "reopened";
+        };
     }
 
-    private String statusChangeMessage(Order order, OrderStatus previousStatus) {
-        return String.format("""
-            {
-                "event": "order_status_changed",
-                "orderId": "%s",
-                "partnerId": "%s",
-                "previousStatus": "%s",
-                "newStatus": "%s",
-                "timestamp": "%s"
+    /**
+     * Sends {@code notification} once the surrounding transaction commits, so a change that
+     * is rolled back, such as every warm-up request, notifies nobody. Sends immediately when
+     * no transaction is active.
+     */
+    private void publish(OrderNotification notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(notification);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(notification);
             }
-            """,
-                order.getId(),
-                order.getPartnerId(),
-                previousStatus,
-                order.getStatus(),
-                order.getUpdatedAt()
-        );
-    }
-}
\ No newline at end of file
+        });
+    }
+
+    private void send(OrderNotification notification) {
+        long start = System.nanoTime();
+        boolean sent = notificationService.simulateMessageSend(notification.topic(), NotificationEncoder.encode(notification));
+        orderMetrics.recordNotification(notification.topic(), sent, System.nanoTime() - start);
+    }
+}
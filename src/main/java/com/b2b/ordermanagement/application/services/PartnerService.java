@@ -1,9 +1,19 @@
 package com.b2b.ordermanagement.application.services;
 
-import com.b2b.ordermanagement.application.dto.OrderResponseDTO;
+import com.b2b.ordermanagement.application.dto.CountStrategy;
+import com.b2b.ordermanagement.application.dto.CountedPage;
+import com.b2b.ordermanagement.application.dto.PartnerDashboardDTO;
 import com.b2b.ordermanagement.application.dto.PartnerResponseDTO;
+import com.b2b.ordermanagement.application.dto.StatusTotalsDTO;
 import com.b2b.ordermanagement.application.interfaces.PartnerFilterParams;
 import com.b2b.ordermanagement.domain.entities.Partner;
+import com.b2b.ordermanagement.infrastructure.counting.TotalCounter;
+import com.b2b.ordermanagement.infrastructure.jfr.CreditCheckEvent;
+import com.b2b.ordermanagement.infrastructure.jfr.LockAcquisitionEvent;
+import com.b2b.ordermanagement.infrastructure.metrics.OperationOutcome;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderOperation;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSummaryRepository;
 import com.b2b.ordermanagement.infrastructure.repositories.PartnerRepository;
 import com.b2b.ordermanagement.shared.exceptions.BusinessException;
 import com.b2b.ordermanagement.shared.exceptions.ResourceNotFoundException;
@@ -12,6 +22,7 @@ import com.b2b.ordermanagement.shared.mappers.PartnerMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,6 +30,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
 
 @Service
 @Transactional
@@ -28,53 +42,101 @@ public class PartnerService {
 
     private static final Logger logger = LoggerFactory.getLogger(PartnerService.class);
 
+    private static final String PARTNERS = "partners";
+
     private final PartnerRepository partnerRepository;
 
-    public PartnerService(PartnerRepository partnerRepository, PartnerMapper partnerMapper) {
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    private final OrderMapper orderMapper;
+
+    private final OrderMetrics orderMetrics;
+
+    private final TotalCounter totalCounter;
+
+    public PartnerService(PartnerRepository partnerRepository,
+                          PartnerMapper partnerMapper,
+                          OrderSummaryRepository orderSummaryRepository,
+                          OrderMapper orderMapper,
+                          OrderMetrics orderMetrics,
+                          TotalCounter totalCounter) {
         this.partnerRepository = partnerRepository;
         this.partnerMapper = partnerMapper;
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.orderMapper = orderMapper;
+        this.orderMetrics = orderMetrics;
+        this.totalCounter = totalCounter;
     }
 
     @Transactional(readOnly = true)
     public Partner getPartnerEntityById(String partnerId) {
-        try {
-            return partnerRepository.findById(partnerId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Partner not found: " + partnerId));
-        } catch (ResourceNotFoundException e) {
-            logger.error("Partner not found: {}", partnerId);
-            throw new ResourceNotFoundException("Partner not found: " + partnerId);
-        }
-
-    }
-
-    public void debitCredit(String partnerId, BigDecimal amount) {
-        logger.info("Debiting credit for partner: {} amount: {}", partnerId, amount);
-
-        Partner partner = partnerRepository.findByIdWithLock(partnerId)
+        return partnerRepository.findById(partnerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Partner not found: " + partnerId));
+    }
 
-        if (!partner.hasAvailableCredit(amount)) {
-            throw new BusinessException("Insufficient credit available for partner: " + partnerId);
+    /**
+     * Debits the partner's credit under its row lock. Expected rejections are returned as a
+     * {@link CreditDecision} instead of thrown, so the caller decides how to surface them.
+     */
+    public CreditDecision debitCredit(String partnerId, BigDecimal amount) {
+        long start = System.nanoTime();
+        try {
+            logger.info("Debiting credit for partner: {} amount: {}", partnerId, amount);
+
+            Optional<Partner> locked = lockPartner(partnerId);
+            if (locked.isEmpty()) {
+                orderMetrics.recordOperation(OrderOperation.DEBIT_CREDIT, OperationOutcome.NOT_FOUND, System.nanoTime() - start);
+                return CreditDecision.PARTNER_NOT_FOUND;
+            }
+            Partner partner = locked.get();
+
+            boolean creditAvailable = partner.hasAvailableCredit(amount);
+            CreditCheckEvent.emit(partnerId, "debitCredit", amount, partner.getAvailableCredit(), creditAvailable);
+            if (!creditAvailable) {
+                orderMetrics.recordOperation(OrderOperation.DEBIT_CREDIT, OperationOutcome.INSUFFICIENT_CREDIT, System.nanoTime() - start);
+                return CreditDecision.INSUFFICIENT_CREDIT;
+            }
+
+            partner.debitCredit(amount);
+            partnerRepository.save(partner);
+
+            logger.info("Credit debited successfully for partner: {} new available credit: {}",
+                    partnerId, partner.getAvailableCredit());
+            orderMetrics.recordOperation(OrderOperation.DEBIT_CREDIT, OperationOutcome.SUCCESS, System.nanoTime() - start);
+            return CreditDecision.GRANTED;
+        } catch (RuntimeException e) {
+            orderMetrics.recordOperation(OrderOperation.DEBIT_CREDIT, OperationOutcome.of(e), System.nanoTime() - start);
+            throw e;
         }
-
-        partner.debitCredit(amount);
-        partnerRepository.save(partner);
-
-        logger.info("Credit debited successfully for partner: {} new available credit: {}",
-                partnerId, partner.getAvailableCredit());
     }
 
     public void restoreCredit(String partnerId, BigDecimal amount) {
-        logger.info("Restoring credit for partner: {} amount: {}", partnerId, amount);
+        long start = System.nanoTime();
+        try {
+            logger.info("Restoring credit for partner: {} amount: {}", partnerId, amount);
 
-        Partner partner = partnerRepository.findByIdWithLock(partnerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Partner not found: " + partnerId));
+            Partner partner = lockPartner(partnerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Partner not found: " + partnerId));
 
-        partner.creditCredit(amount);
-        partnerRepository.save(partner);
+            partner.creditCredit(amount);
+            partnerRepository.save(partner);
 
-        logger.info("Credit restored successfully for partner: {} new available credit: {}",
-                partnerId, partner.getAvailableCredit());
+            logger.info("Credit restored successfully for partner: {} new available credit: {}",
+                    partnerId, partner.getAvailableCredit());
+            orderMetrics.recordOperation(OrderOperation.RESTORE_CREDIT, OperationOutcome.SUCCESS, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            orderMetrics.recordOperation(OrderOperation.RESTORE_CREDIT, OperationOutcome.of(e), System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private Optional<Partner> lockPartner(String partnerId) {
+        LockAcquisitionEvent event = LockAcquisitionEvent.start();
+        long start = System.nanoTime();
+        Optional<Partner> partner = partnerRepository.findByIdWithLock(partnerId);
+        orderMetrics.recordLockWait(OrderMetrics.LockTarget.PARTNER, System.nanoTime() - start);
+        event.complete("partner", partnerId, partnerId, partner.isPresent());
+        return partner;
     }
 
     public Partner createPartner(String id, String name, BigDecimal creditLimit) {
@@ -90,31 +152,67 @@ public class PartnerService {
 
         Partner partner = new Partner(id, name, creditLimit);
         Partner savedPartner = partnerRepository.save(partner);
+        totalCounter.invalidate(PARTNERS, filters -> true);
 
         logger.info("Partner created successfully: {}", savedPartner.getId());
         return savedPartner;
     }
 
     @Transactional(readOnly = true)
-    public Page<PartnerResponseDTO> getFiltered(PartnerFilterParams filters, Pageable pageable) {
+    public CountedPage<PartnerResponseDTO> getFiltered(PartnerFilterParams filters, Pageable pageable,
+                                                       CountStrategy countStrategy) {
         if (pageable.getSort().isUnsorted()) {
             pageable = PageRequest.of(
                     pageable.getPageNumber(),
                     pageable.getPageSize(),
-                    Sort.by(Sort.Direction.DESC, "created_at")
+                    Sort.by(Sort.Direction.DESC, "createdAt")
             );
         }
 
-        Page<Partner> partners;
+        List<Partner> partners;
+        LongSupplier exactCount;
 
         if (filters.hasDateRange()) {
-            partners = partnerRepository.findByCreatedAtBetween(filters.getStartDate(), filters.getEndDate(), pageable);
+            partners = partnerRepository.findPageByCreatedAtBetween(filters.getStartDate(), filters.getEndDate(), pageable);
+            exactCount = () -> partnerRepository.countByCreatedAtBetween(filters.getStartDate(), filters.getEndDate());
         } else {
-            // All orders without filter
-            partners = partnerRepository.findAll(pageable);
+            // All partners without filter
+            partners = partnerRepository.findPage(pageable);
+            exactCount = partnerRepository::count;
         }
 
-        return partners.map(partnerMapper::toResponseDTO);
+        Object cacheKey = filters.hasDateRange() ? List.of(filters.getStartDate(), filters.getEndDate()) : List.of();
+        TotalCounter.Total total = totalCounter.total(PARTNERS, cacheKey, countStrategy, pageable, partners.size(),
+                exactCount, () -> partnerRepository.estimateMatching(filters));
+
+        Page<PartnerResponseDTO> page = new PageImpl<>(
+                partners.stream().map(partnerMapper::toResponseDTO).toList(), pageable, total.value());
+        return new CountedPage<>(page, total.strategy());
     }
 
-}
\ No newline at end of file
+    /**
+     * Builds the partner dashboard from the {@code order_summary} read model: one grouped
+     * aggregate plus the ten most recent summaries, without touching orders or items.
+     */
+    @Transactional(readOnly = true)
+    public PartnerDashboardDTO getPartnerDashboard(String partnerId) {
+        Partner partner = getPartnerEntityById(partnerId);
+
+        List<StatusTotalsDTO> byStatus = orderSummaryRepository.totalsByStatus(partnerId);
+        long totalOrders = byStatus.stream().mapToLong(StatusTotalsDTO::orders).sum();
+        BigDecimal totalAmount = byStatus.stream()
+                .map(StatusTotalsDTO::totalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new PartnerDashboardDTO(
+                partnerId,
+                totalOrders,
+                totalAmount,
+                partner.getAvailableCredit(),
+                byStatus,
+                orderSummaryRepository.findTop10ByPartnerIdOrderByCreatedAtDesc(partnerId).stream()
+                        .map(orderMapper::toSummaryDTO)
+                        .toList()
+        );
+    }
+}
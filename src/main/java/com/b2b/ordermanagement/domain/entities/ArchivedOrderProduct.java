@@ -0,0 +1,77 @@
+package com.b2b.ordermanagement.domain.entities;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * One product of an archived order. Archiving deletes the order's items, so this is what
+ * lets product listings keep finding it; the primary key leads with the product, like
+ * the (product_id, order_id) index on {@code order_items}.
+ */
+@Entity
+@Table(name = "archived_order_products")
+@IdClass(ArchivedOrderProduct.Key.class)
+public class ArchivedOrderProduct {
+
+    @Id
+    @Column(name = "product_id")
+    private String productId;
+
+    @Id
+    @Column(name = "order_id")
+    private String orderId;
+
+    protected ArchivedOrderProduct() {}
+
+    public ArchivedOrderProduct(String productId, String orderId) {
+        this.productId = productId;
+        this.orderId = orderId;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArchivedOrderProduct that)) return false;
+        return Objects.equals(productId, that.productId) && Objects.equals(orderId, that.orderId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, orderId);
+    }
+
+    public static class Key implements Serializable {
+
+        private String productId;
+        private String orderId;
+
+        public Key() {}
+
+        public Key(String productId, String orderId) {
+            this.productId = productId;
+            this.orderId = orderId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return Objects.equals(productId, that.productId) && Objects.equals(orderId, that.orderId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, orderId);
+        }
+    }
+}
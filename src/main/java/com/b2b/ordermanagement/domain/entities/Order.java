@@ -15,6 +15,8 @@ import java.util.UUID;
 @Table(name = "orders", indexes = {
         @Index(name = "idx_partner_id", columnList = "partnerId"),
         @Index(name = "idx_status", columnList = "status"),
+        @Index(name = "idx_orders_status_created", columnList = "status, createdAt"),
+        @Index(name = "idx_orders_status_updated", columnList = "status, updatedAt"),
         @Index(name = "idx_created_at", columnList = "createdAt")
 })
 public class Order {
@@ -31,6 +33,10 @@ public class Order {
     @Column(name = "status", nullable = false)
     private OrderStatus status;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private OrderStatus previousStatus;
+
     @NotNull
     @Column(name = "total_amount", nullable = false, precision = 12, scale = 2)
     private BigDecimal totalAmount;
@@ -74,6 +80,7 @@ public class Order {
     }
 
     public void updateStatus(OrderStatus newStatus) {
+        this.previousStatus = this.status;
         this.status = newStatus;
         this.updatedAt = LocalDateTime.now();
     }
@@ -85,11 +92,11 @@ public class Order {
     }
 
     public boolean canBeApproved() {
-        return status == OrderStatus.PENDING;
+        return status.canTransitionTo(OrderStatus.APPROVED);
     }
 
     public boolean canBeCancelled() {
-        return status != OrderStatus.DELIVERED && status != OrderStatus.CANCELLED;
+        return status.canTransitionTo(OrderStatus.CANCELLED);
     }
 
     // Getters and Setters
@@ -113,6 +120,10 @@ public class Order {
         this.status = status;
     }
 
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
     public BigDecimal getTotalAmount() {
         return totalAmount;
     }
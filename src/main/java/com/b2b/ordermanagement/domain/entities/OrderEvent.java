@@ -0,0 +1,135 @@
+package com.b2b.ordermanagement.domain.entities;
+
+import com.b2b.ordermanagement.domain.enums.OrderEventType;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * One immutable entry of the order event log. {@code sequence} is the order version the
+ * event produced, so the unique (order_id, sequence) index both orders an order's history
+ * for a single range read and rejects a duplicated append.
+ */
+@Entity
+@Table(name = "order_events", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_order_events_order_sequence", columnNames = {"order_id", "sequence"})
+})
+public class OrderEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private String orderId;
+
+    @Column(name = "sequence", nullable = false, updatable = false)
+    private long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false)
+    private OrderEventType type;
+
+    @Column(name = "partner_id", nullable = false, updatable = false)
+    private String partnerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", updatable = false)
+    private OrderStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, updatable = false)
+    private OrderStatus status;
+
+    @Column(name = "total_amount", precision = 12, scale = 2, updatable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "item_count", updatable = false)
+    private Integer itemCount;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    protected OrderEvent() {}
+
+    private OrderEvent(String orderId, long sequence, OrderEventType type, String partnerId,
+                       OrderStatus previousStatus, OrderStatus status, BigDecimal totalAmount,
+                       Integer itemCount, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.sequence = sequence;
+        this.type = type;
+        this.partnerId = partnerId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.itemCount = itemCount;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OrderEvent created(String orderId, long sequence, String partnerId, OrderStatus status,
+                                     BigDecimal totalAmount, int itemCount, LocalDateTime occurredAt) {
+        return new OrderEvent(orderId, sequence, OrderEventType.CREATED, partnerId,
+                null, status, totalAmount, itemCount, occurredAt);
+    }
+
+    public static OrderEvent statusChanged(String orderId, long sequence, String partnerId,
+                                           OrderStatus previousStatus, OrderStatus status, LocalDateTime occurredAt) {
+        return new OrderEvent(orderId, sequence, OrderEventType.STATUS_CHANGED, partnerId,
+                previousStatus, status, null, null, occurredAt);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public OrderEventType getType() {
+        return type;
+    }
+
+    public String getPartnerId() {
+        return partnerId;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public Integer getItemCount() {
+        return itemCount;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderEvent that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -8,7 +8,9 @@ import java.math.BigDecimal;
 import java.util.Objects;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_product_order", columnList = "product_id, order_id")
+})
 public class OrderItem {
 
     @Id
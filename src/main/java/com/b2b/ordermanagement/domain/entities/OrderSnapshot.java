@@ -0,0 +1,128 @@
+package com.b2b.ordermanagement.domain.entities;
+
+import com.b2b.ordermanagement.domain.enums.OrderEventType;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Latest folded state of an order's event log, up to and including {@code sequence}.
+ * Rebuilding an order starts here and applies only the events after it.
+ */
+@Entity
+@Table(name = "order_snapshots")
+public class OrderSnapshot {
+
+    @Id
+    @Column(name = "order_id")
+    private String orderId;
+
+    @Column(name = "sequence", nullable = false)
+    private long sequence = -1;
+
+    @Column(name = "partner_id")
+    private String partnerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private OrderStatus status;
+
+    @Column(name = "total_amount", precision = 12, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    protected OrderSnapshot() {}
+
+    /**
+     * An empty state for {@code orderId}, before any event has been applied.
+     */
+    public OrderSnapshot(String orderId) {
+        this.orderId = orderId;
+    }
+
+    /**
+     * Folds {@code event} into this state. Events at or below the current sequence were
+     * already applied and are ignored.
+     */
+    public OrderSnapshot apply(OrderEvent event) {
+        if (event.getSequence() <= sequence) {
+            return this;
+        }
+        if (event.getType() == OrderEventType.CREATED) {
+            this.partnerId = event.getPartnerId();
+            this.totalAmount = event.getTotalAmount();
+            this.itemCount = event.getItemCount() != null ? event.getItemCount() : 0;
+            this.createdAt = event.getOccurredAt();
+        }
+        this.status = event.getStatus();
+        this.updatedAt = event.getOccurredAt();
+        this.sequence = event.getSequence();
+        return this;
+    }
+
+    /**
+     * Whether a {@code CREATED} event has been folded in, i.e. the state describes a real order.
+     */
+    public boolean isComplete() {
+        return createdAt != null;
+    }
+
+    public OrderSummary toSummary() {
+        return new OrderSummary(orderId, partnerId, status, totalAmount, itemCount, createdAt, updatedAt, sequence);
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getPartnerId() {
+        return partnerId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderSnapshot that)) return false;
+        return Objects.equals(orderId, that.orderId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(orderId);
+    }
+}
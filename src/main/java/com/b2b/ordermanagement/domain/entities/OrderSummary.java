@@ -0,0 +1,106 @@
+package com.b2b.ordermanagement.domain.entities;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Denormalized, read-only view of an order for listings and dashboards: one row per order
+ * with the item count precomputed, so list queries never touch order_items. Maintained
+ * from order events by {@code OrderSummaryProjector}; {@code orderVersion} is the version
+ * of the order the row reflects and makes replays idempotent.
+ */
+@Entity
+@Table(name = "order_summary", indexes = {
+        @Index(name = "idx_order_summary_partner_created", columnList = "partner_id, created_at"),
+        @Index(name = "idx_order_summary_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_order_summary_created_at", columnList = "created_at")
+})
+public class OrderSummary {
+
+    @Id
+    private String id;
+
+    @Column(name = "partner_id", nullable = false)
+    private String partnerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OrderStatus status;
+
+    @Column(name = "total_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "order_version", nullable = false)
+    private long orderVersion;
+
+    protected OrderSummary() {}
+
+    public OrderSummary(String id, String partnerId, OrderStatus status, BigDecimal totalAmount, int itemCount,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, long orderVersion) {
+        this.id = id;
+        this.partnerId = partnerId;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.itemCount = itemCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.orderVersion = orderVersion;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getPartnerId() {
+        return partnerId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getOrderVersion() {
+        return orderVersion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderSummary that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
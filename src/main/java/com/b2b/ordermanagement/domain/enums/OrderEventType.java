@@ -0,0 +1,6 @@
+package com.b2b.ordermanagement.domain.enums;
+
+public enum OrderEventType {
+    CREATED,
+    STATUS_CHANGED
+}
@@ -1,10 +1,69 @@
 package com.b2b.ordermanagement.domain.enums;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     PENDING,
     APPROVED,
     PROCESSING,
     SHIPPED,
     DELIVERED,
-    CANCELLED
-}
\ No newline at end of file
+    CANCELLED;
+
+    private static final Map<OrderStatus, Set<OrderStatus>> TARGETS = new EnumMap<>(OrderStatus.class);
+    private static final Map<OrderStatus, List<String>> SOURCE_NAMES = new EnumMap<>(OrderStatus.class);
+
+    /*
+     * Transition matrix: each row lists the statuses an order may move to from the row's status.
+     * DELIVERED and CANCELLED are terminal.
+     */
+    static {
+        allow(PENDING, APPROVED, CANCELLED);
+        allow(APPROVED, PROCESSING, CANCELLED);
+        allow(PROCESSING, SHIPPED, CANCELLED);
+        allow(SHIPPED, DELIVERED, CANCELLED);
+        allow(DELIVERED);
+        allow(CANCELLED);
+
+        for (OrderStatus target : values()) {
+            SOURCE_NAMES.put(target, TARGETS.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(target))
+                    .map(entry -> entry.getKey().name())
+                    .toList());
+        }
+    }
+
+    private static void allow(OrderStatus from, OrderStatus... to) {
+        Set<OrderStatus> targets = EnumSet.noneOf(OrderStatus.class);
+        Collections.addAll(targets, to);
+        TARGETS.put(from, Collections.unmodifiableSet(targets));
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return TARGETS.get(this).contains(target);
+    }
+
+    /**
+     * Names of the statuses allowed to move into this one, ready to bind into
+     * {@code status IN (:sources)}.
+     */
+    public List<String> sourceNames() {
+        return SOURCE_NAMES.get(this);
+    }
+
+    public boolean isTerminal() {
+        return TARGETS.get(this).isEmpty();
+    }
+
+    /**
+     * Whether an order in this status has already debited the partner's credit.
+     */
+    public boolean holdsCredit() {
+        return this == APPROVED || this == PROCESSING || this == SHIPPED;
+    }
+}
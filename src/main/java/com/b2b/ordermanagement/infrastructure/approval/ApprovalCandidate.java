@@ -0,0 +1,33 @@
+package com.b2b.ordermanagement.infrastructure.approval;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.entities.OrderItem;
+import com.b2b.ordermanagement.domain.entities.Partner;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The facts rules are evaluated against, extracted once per order.
+ *
+ * @param creditInUse  credit the partner would have in use once this order is approved
+ */
+record ApprovalCandidate(
+        String partnerId,
+        BigDecimal amount,
+        int itemCount,
+        Set<String> productIds,
+        BigDecimal creditLimit,
+        BigDecimal creditInUse
+) {
+    static ApprovalCandidate of(Order order, Partner partner) {
+        return new ApprovalCandidate(
+                order.getPartnerId(),
+                order.getTotalAmount(),
+                order.getItems().size(),
+                order.getItems().stream().map(OrderItem::getProductId).collect(Collectors.toUnmodifiableSet()),
+                partner.getCreditLimit(),
+                partner.getCreditLimit().subtract(partner.getAvailableCredit()).add(order.getTotalAmount()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.b2b.ordermanagement.infrastructure.approval;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @param enabled  approve new orders that match any of the {@code rules} as part of creating them
+ * @param rules    checked in order; the first match approves the order
+ */
+@ConfigurationProperties(prefix = "orders.auto-approval")
+public record AutoApprovalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Rule> rules
+) {
+    public AutoApprovalProperties {
+        rules = List.copyOf(rules);
+    }
+
+    /**
+     * A rule matches when every condition it sets holds; unset conditions are ignored, but
+     * at least one must be set.
+     *
+     * @param name                  reported in logs and the {@code orders.auto.approval} metric
+     * @param partners              partner ids the rule applies to
+     * @param maxAmount             highest order total approved
+     * @param maxItems              most order lines approved
+     * @param products              products an order may contain; any other product fails the rule
+     * @param excludedProducts      products that fail the rule
+     * @param maxCreditUtilization  highest share of the credit limit in use once this order is approved, from 0 to 1
+     */
+    public record Rule(
+            String name,
+            Set<String> partners,
+            BigDecimal maxAmount,
+            Integer maxItems,
+            Set<String> products,
+            Set<String> excludedProducts,
+            BigDecimal maxCreditUtilization
+    ) {
+        public Rule {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("orders.auto-approval rules need a name");
+            }
+            if (partners == null && maxAmount == null && maxItems == null && products == null
+                    && excludedProducts == null && maxCreditUtilization == null) {
+                throw new IllegalArgumentException("orders.auto-approval rule " + name + " sets no condition");
+            }
+            if (maxCreditUtilization != null
+                    && (maxCreditUtilization.signum() < 0 || maxCreditUtilization.compareTo(BigDecimal.ONE) > 0)) {
+                throw new IllegalArgumentException("orders.auto-approval rule " + name
+                        + " max-credit-utilization must be between 0 and 1");
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.b2b.ordermanagement.infrastructure.approval;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.entities.Partner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Decides whether a new order can skip the manual approval step. The configured rules are
+ * compiled once at startup into plain predicate chains, cheapest conditions first, so the
+ * check in the create path is a few comparisons per rule with no parsing or reflection.
+ */
+@Component
+public class AutoApprovalRules {
+
+    private final boolean enabled;
+    private final List<CompiledRule> rules;
+    private final Counter unmatched;
+
+    public AutoApprovalRules(AutoApprovalProperties properties, MeterRegistry registry) {
+        this.enabled = properties.enabled() && !properties.rules().isEmpty();
+        List<CompiledRule> compiled = new ArrayList<>();
+        for (AutoApprovalProperties.Rule rule : properties.rules()) {
+            compiled.add(new CompiledRule(rule.name(), compile(rule), Counter.builder("orders.auto.approval")
+                    .description("New orders checked against the auto-approval rules, by matching rule")
+                    .tag("rule", rule.name())
+                    .register(registry)));
+        }
+        this.rules = Collections.unmodifiableList(compiled);
+        this.unmatched = Counter.builder("orders.auto.approval")
+                .description("New orders checked against the auto-approval rules, by matching rule")
+                .tag("rule", "none")
+                .register(registry);
+    }
+
+    /**
+     * Returns the name of the first rule {@code order} matches, if auto-approval is enabled.
+     */
+    public Optional<String> match(Order order, Partner partner) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        ApprovalCandidate candidate = ApprovalCandidate.of(order, partner);
+        for (CompiledRule rule : rules) {
+            if (rule.predicate().test(candidate)) {
+                rule.matches().increment();
+                return Optional.of(rule.name());
+            }
+        }
+        unmatched.increment();
+        return Optional.empty();
+    }
+
+    static Predicate<ApprovalCandidate> compile(AutoApprovalProperties.Rule rule) {
+        Predicate<ApprovalCandidate> predicate = candidate -> true;
+        if (rule.partners() != null) {
+            Set<String> partners = Set.copyOf(rule.partners());
+            predicate = predicate.and(candidate -> partners.contains(candidate.partnerId()));
+        }
+        if (rule.maxAmount() != null) {
+            BigDecimal maxAmount = rule.maxAmount();
+            predicate = predicate.and(candidate -> candidate.amount().compareTo(maxAmount) <= 0);
+        }
+        if (rule.maxItems() != null) {
+            int maxItems = rule.maxItems();
+            predicate = predicate.and(candidate -> candidate.itemCount() <= maxItems);
+        }
+        if (rule.maxCreditUtilization() != null) {
+            BigDecimal maxUtilization = rule.maxCreditUtilization();
+            // in use / limit <= max, multiplied out to avoid dividing by the limit
+            predicate = predicate.and(candidate ->
+                    candidate.creditInUse().compareTo(candidate.creditLimit().multiply(maxUtilization)) <= 0);
+        }
+        if (rule.products() != null) {
+            Set<String> products = Set.copyOf(rule.products());
+            predicate = predicate.and(candidate -> products.containsAll(candidate.productIds()));
+        }
+        if (rule.excludedProducts() != null) {
+            Set<String> excluded = Set.copyOf(rule.excludedProducts());
+            predicate = predicate.and(candidate -> candidate.productIds().stream().noneMatch(excluded::contains));
+        }
+        return predicate;
+    }
+
+    private record CompiledRule(String name, Predicate<ApprovalCandidate> predicate, Counter matches) {}
+}
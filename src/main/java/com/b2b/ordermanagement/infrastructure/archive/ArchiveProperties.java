@@ -0,0 +1,36 @@
+package com.b2b.ordermanagement.infrastructure.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Segments are read by every instance that serves order lookups, so with more than one
+ * instance {@code directory} must be a volume they all mount.
+ *
+ * @param enabled          move terminal orders out of the database on this instance
+ * @param directory        where segment files are written and read
+ * @param olderThan        how long an order must have been DELIVERED or CANCELLED before it is archived
+ * @param batchSize        orders per segment file, moved in one transaction
+ * @param rowGroupSize     orders per row group, the unit a lookup decompresses
+ * @param interval         pause between archiving runs
+ * @param refreshInterval  how often segments written by other instances are picked up
+ */
+@ConfigurationProperties(prefix = "orders.archive")
+public record ArchiveProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("/tmp/order-management-archive") Path directory,
+        @DefaultValue("90d") Duration olderThan,
+        @DefaultValue("10000") int batchSize,
+        @DefaultValue("1000") int rowGroupSize,
+        @DefaultValue("1h") Duration interval,
+        @DefaultValue("1m") Duration refreshInterval
+) {
+    public ArchiveProperties {
+        if (batchSize < 1 || rowGroupSize < 1) {
+            throw new IllegalArgumentException("orders.archive batch and row group sizes must be positive");
+        }
+    }
+}
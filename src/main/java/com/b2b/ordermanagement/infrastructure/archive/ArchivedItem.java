@@ -0,0 +1,14 @@
+package com.b2b.ordermanagement.infrastructure.archive;
+
+import java.math.BigDecimal;
+
+public record ArchivedItem(
+        Long id,
+        String productId,
+        int quantity,
+        BigDecimal unitPrice
+) {
+    public BigDecimal totalPrice() {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+}
@@ -0,0 +1,38 @@
+package com.b2b.ordermanagement.infrastructure.archive;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order as stored in the archive: the order row and its items, read-only.
+ */
+public record ArchivedOrder(
+        String id,
+        String partnerId,
+        OrderStatus status,
+        OrderStatus previousStatus,
+        BigDecimal totalAmount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long version,
+        List<ArchivedItem> items
+) {
+    public static ArchivedOrder of(Order order) {
+        return new ArchivedOrder(
+                order.getId(),
+                order.getPartnerId(),
+                order.getStatus(),
+                order.getPreviousStatus(),
+                order.getTotalAmount(),
+                order.getCreatedAt(),
+                order.getUpdatedAt(),
+                order.getVersion() != null ? order.getVersion() : 0L,
+                order.getItems().stream()
+                        .map(item -> new ArchivedItem(item.getId(), item.getProductId(), item.getQuantity(), item.getUnitPrice()))
+                        .toList());
+    }
+}
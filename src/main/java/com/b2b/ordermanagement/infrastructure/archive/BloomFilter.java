@@ -0,0 +1,84 @@
+package com.b2b.ordermanagement.infrastructure.archive;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-size Bloom filter over order ids, sized at about 1% false positives. Lets a lookup
+ * skip a segment without touching its row groups.
+ */
+final class BloomFilter {
+
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASHES = 7;
+
+    private final long[] words;
+    private final long bitCount;
+
+    private BloomFilter(long[] words) {
+        this.words = words;
+        this.bitCount = (long) words.length * Long.SIZE;
+    }
+
+    static BloomFilter forEntries(int entries) {
+        long bits = Math.max(Long.SIZE, (long) entries * BITS_PER_ENTRY);
+        return new BloomFilter(new long[(int) ((bits + Long.SIZE - 1) / Long.SIZE)]);
+    }
+
+    void add(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = bitIndex(hash, i);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = bitIndex(hash, i);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    static BloomFilter readFrom(DataInput in) throws IOException {
+        long[] words = new long[in.readInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        return new BloomFilter(words);
+    }
+
+    // Double hashing: bit i is h1 + i * h2, from the two halves of one 64-bit hash
+    private long bitIndex(long hash, int i) {
+        long combined = (hash & 0xffffffffL) + i * (hash >>> 32);
+        return Long.remainderUnsigned(combined, bitCount);
+    }
+
+    // FNV-1a over the UTF-8 bytes, finished with the murmur3 mixer
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,158 @@
+package com.b2b.ordermanagement.infrastructure.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read and append access to the cold archive: the {@code segment-*.seg} files under
+ * {@code orders.archive.directory}, each memory-mapped once and kept open.
+ *
+ * <p>An order whose archiving transaction rolled back after its segment was written is
+ * archived again by a later run, so more than one segment can hold it. The copies are
+ * identical, since terminal orders no longer change, and a lookup returns the first it
+ * finds, and {@link #orderCount()} counts every copy. Lookups try the newest segments
+ * first since recently archived orders are the ones most often asked for. Segment names
+ * start with their UTC creation time, which keeps that order stable across instances
+ * sharing the directory.</p>
+ */
+@Component
+public class OrderArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchive.class);
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".seg";
+    private static final DateTimeFormatter NAME_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS");
+
+    private final Path directory;
+    private final int rowGroupSize;
+    // Newest first; replaced wholesale so lookups never see a half-updated list
+    private volatile List<Segment> segments = List.of();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public OrderArchive(ArchiveProperties properties, MeterRegistry registry) {
+        this.directory = properties.directory();
+        this.rowGroupSize = properties.rowGroupSize();
+
+        this.hits = Counter.builder("orders.archive.lookups")
+                .description("Order lookups that fell through to the archive")
+                .tag("result", "hit")
+                .register(registry);
+        this.misses = Counter.builder("orders.archive.lookups")
+                .description("Order lookups that fell through to the archive")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("orders.archive.segments", this, archive -> archive.segments.size())
+                .description("Archive segment files open on this instance")
+                .register(registry);
+        Gauge.builder("orders.archive.orders", this, OrderArchive::orderCount)
+                .description("Orders held in open archive segments")
+                .register(registry);
+
+        refresh();
+    }
+
+    public Optional<ArchivedOrder> find(String orderId) {
+        for (Segment segment : segments) {
+            Optional<ArchivedOrder> order = segment.find(orderId);
+            if (order.isPresent()) {
+                hits.increment();
+                return order;
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Writes {@code orders} as one new segment and makes it visible to lookups. Returns once
+     * the segment is durable on disk, so the caller may then delete the orders' rows.
+     */
+    public synchronized Path append(List<ArchivedOrder> orders) {
+        String name = PREFIX + NAME_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)) + '-'
+                + UUID.randomUUID().toString().substring(0, 8) + SUFFIX;
+        Path file = directory.resolve(name);
+        try {
+            Segment.write(file, orders, rowGroupSize);
+            Segment segment = Segment.open(file);
+            List<Segment> updated = new ArrayList<>(segments.size() + 1);
+            updated.add(segment);
+            updated.addAll(segments);
+            segments = List.copyOf(updated);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write archive segment " + file, e);
+        }
+        logger.info("Archived {} orders to {}", orders.size(), file);
+        return file;
+    }
+
+    /**
+     * Opens segments that appeared in the directory since the last scan, such as those
+     * written by another instance.
+     */
+    @Scheduled(fixedDelayString = "${orders.archive.refresh-interval:PT1M}")
+    public synchronized void refresh() {
+        Map<Path, Segment> open = new HashMap<>();
+        segments.forEach(segment -> open.put(segment.file().getFileName(), segment));
+        List<Segment> found = new ArrayList<>(segments);
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+                for (Path file : files) {
+                    if (open.containsKey(file.getFileName())) {
+                        continue;
+                    }
+                    try {
+                        found.add(Segment.open(file));
+                    } catch (IOException | RuntimeException e) {
+                        logger.error("Skipping unreadable archive segment {}", file, e);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Cannot scan archive directory {}: {}", directory, e.getMessage());
+            return;
+        }
+        found.sort(Comparator.comparing((Segment segment) -> segment.file().getFileName().toString()).reversed());
+        segments = List.copyOf(found);
+    }
+
+    public long orderCount() {
+        return segments.stream().mapToLong(Segment::orderCount).sum();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                logger.warn("Could not close archive segment {}: {}", segment.file(), e.getMessage());
+            }
+        }
+        segments = List.of();
+    }
+}
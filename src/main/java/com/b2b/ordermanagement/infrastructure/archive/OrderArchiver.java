@@ -0,0 +1,117 @@
+package com.b2b.ordermanagement.infrastructure.archive;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Moves DELIVERED and CANCELLED orders that have not changed for {@code olderThan} out of
+ * {@code orders} and {@code order_items} into archive segments, one segment per batch.
+ *
+ * <p>Each batch is one transaction: the order ids are claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, the orders and items are written to a synced segment, their
+ * products are recorded in {@code archived_order_products} for product listings, and only
+ * then are the rows deleted. If the delete rolls back the orders exist in both places
+ * with identical contents, since terminal orders no longer change, and lookups read the
+ * database first, so the next run archiving them again is harmless.</p>
+ *
+ * <p>{@code order_summary} and the event log are left alone, so listings, statements and
+ * order history still cover archived orders.</p>
+ */
+@Component
+public class OrderArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiver.class);
+    private static final List<String> ARCHIVABLE = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::isTerminal)
+            .map(OrderStatus::name)
+            .toList();
+
+    private final ArchiveProperties properties;
+    private final OrderRepository orderRepository;
+    private final OrderArchive archive;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archived;
+    private final Clock clock;
+
+    public OrderArchiver(ArchiveProperties properties,
+                         OrderRepository orderRepository,
+                         OrderArchive archive,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry registry) {
+        this(properties, orderRepository, archive, transactionManager, registry, Clock.systemDefaultZone());
+    }
+
+    OrderArchiver(ArchiveProperties properties,
+                  OrderRepository orderRepository,
+                  OrderArchive archive,
+                  PlatformTransactionManager transactionManager,
+                  MeterRegistry registry,
+                  Clock clock) {
+        this.properties = properties;
+        this.orderRepository = orderRepository;
+        this.archive = archive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archived = Counter.builder("orders.archived")
+                .description("Orders moved from the database to the archive")
+                .register(registry);
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.archive.interval:PT1H}")
+    public void archiveDueOrders() {
+        if (!properties.enabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.olderThan());
+        long total = 0;
+        try {
+            int moved;
+            do {
+                moved = archiveBatch(cutoff);
+                total += moved;
+            } while (moved == properties.batchSize());
+        } catch (RuntimeException e) {
+            logger.error("Archiving orders last changed before {} failed after {} orders", cutoff, total, e);
+            return;
+        }
+        if (total > 0) {
+            logger.info("Archived {} orders last changed before {}", total, cutoff);
+        }
+    }
+
+    /**
+     * Archives and deletes one batch of orders last changed before {@code cutoff}.
+     *
+     * @return the number of orders archived
+     */
+    int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<String> ids = orderRepository.claimArchivable(ARCHIVABLE, cutoff, properties.batchSize());
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            List<Order> orders = orderRepository.findWithItemsByIdIn(ids);
+            archive.append(orders.stream().map(ArchivedOrder::of).toList());
+            orderRepository.indexArchivedProducts(ids);
+            orderRepository.deleteItemsByOrderIdIn(ids);
+            orderRepository.deleteByIdIn(ids);
+            return orders.size();
+        });
+        archived.increment(moved);
+        return moved;
+    }
+}
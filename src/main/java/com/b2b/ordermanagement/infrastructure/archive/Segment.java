@@ -0,0 +1,350 @@
+package com.b2b.ordermanagement.infrastructure.archive;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * One immutable, memory-mapped archive file of orders sorted by id.
+ *
+ * <p>Layout: a header ({@code OSEG} magic and format version), then row groups, then a
+ * footer, then a trailer holding the footer offset and the magic again. A row group stores
+ * each column separately and deflate-compressed: the order columns one value per order, the
+ * item columns flattened in order sequence with the order's item count telling them apart.
+ * The footer is the sparse index, one entry per row group with its offset, row count and
+ * first and last id, followed by a Bloom filter over all ids.</p>
+ *
+ * <p>A lookup tests the Bloom filter, binary-searches the sparse index for the one row group
+ * that can hold the id, inflates that group's id column to find the row and only then
+ * inflates the other columns, so it reads a few kilobytes of one file whatever its size.</p>
+ */
+final class Segment implements AutoCloseable {
+
+    private static final int MAGIC = 0x4f534547; // "OSEG"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+    // Column order within a row group
+    private static final int ID = 0;
+    private static final int PARTNER = 1;
+    private static final int STATUS = 2;
+    private static final int PREVIOUS_STATUS = 3;
+    private static final int TOTAL = 4;
+    private static final int CREATED_AT = 5;
+    private static final int UPDATED_AT = 6;
+    private static final int VERSION = 7;
+    private static final int ITEM_COUNT = 8;
+    private static final int ITEM_ID = 9;
+    private static final int ITEM_PRODUCT = 10;
+    private static final int ITEM_QUANTITY = 11;
+    private static final int ITEM_PRICE = 12;
+    private static final int COLUMNS = 13;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final List<RowGroup> rowGroups;
+    private final BloomFilter ids;
+    private final long orderCount;
+
+    private Segment(Path file, FileChannel channel, MappedByteBuffer buffer, List<RowGroup> rowGroups, BloomFilter ids) {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.rowGroups = rowGroups;
+        this.ids = ids;
+        this.orderCount = rowGroups.stream().mapToLong(RowGroup::rows).sum();
+    }
+
+    /**
+     * Writes {@code orders} to {@code target} through a synced {@code .tmp} file renamed into
+     * place, so a segment file is either complete or absent.
+     */
+    static void write(Path target, List<ArchivedOrder> orders, int rowGroupSize) throws IOException {
+        List<ArchivedOrder> sorted = orders.stream().sorted(Comparator.comparing(ArchivedOrder::id)).toList();
+        BloomFilter bloom = BloomFilter.forEntries(sorted.size());
+        List<RowGroup> groups = new ArrayList<>();
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION).flip());
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            try {
+                for (int from = 0; from < sorted.size(); from += rowGroupSize) {
+                    List<ArchivedOrder> group = sorted.subList(from, Math.min(from + rowGroupSize, sorted.size()));
+                    group.forEach(order -> bloom.add(order.id()));
+                    groups.add(new RowGroup(channel.position(), group.size(), group.get(0).id(),
+                            group.get(group.size() - 1).id()));
+                    channel.write(ByteBuffer.wrap(encode(group, deflater)));
+                }
+            } finally {
+                deflater.end();
+            }
+
+            long footerOffset = channel.position();
+            ByteArrayOutputStream footer = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(footer);
+            out.writeInt(groups.size());
+            for (RowGroup group : groups) {
+                out.writeLong(group.offset());
+                out.writeInt(group.rows());
+                out.writeUTF(group.firstId());
+                out.writeUTF(group.lastId());
+            }
+            bloom.writeTo(out);
+            out.writeLong(footerOffset);
+            out.writeInt(MAGIC);
+            out.flush();
+            channel.write(ByteBuffer.wrap(footer.toByteArray()));
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Segment open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int limit = buffer.capacity();
+            if (limit < HEADER_SIZE + TRAILER_SIZE || buffer.getInt(0) != MAGIC
+                    || buffer.getInt(limit - Integer.BYTES) != MAGIC) {
+                throw new IOException("Not an archive segment: " + file);
+            }
+            if (buffer.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                throw new IOException("Unsupported archive segment version " + buffer.getInt(Integer.BYTES) + ": " + file);
+            }
+            int footerOffset = (int) buffer.getLong(limit - TRAILER_SIZE);
+            byte[] footer = new byte[limit - TRAILER_SIZE - footerOffset];
+            buffer.get(footerOffset, footer);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer));
+            int count = in.readInt();
+            List<RowGroup> groups = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                groups.add(new RowGroup(in.readLong(), in.readInt(), in.readUTF(), in.readUTF()));
+            }
+            return new Segment(file, channel, buffer, List.copyOf(groups), BloomFilter.readFrom(in));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Optional<ArchivedOrder> find(String orderId) {
+        if (!ids.mightContain(orderId)) {
+            return Optional.empty();
+        }
+        int low = 0;
+        int high = rowGroups.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            RowGroup group = rowGroups.get(middle);
+            if (orderId.compareTo(group.firstId()) < 0) {
+                high = middle - 1;
+            } else if (orderId.compareTo(group.lastId()) > 0) {
+                low = middle + 1;
+            } else {
+                return read(group, orderId);
+            }
+        }
+        return Optional.empty();
+    }
+
+    Path file() {
+        return file;
+    }
+
+    long orderCount() {
+        return orderCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private Optional<ArchivedOrder> read(RowGroup group, String orderId) {
+        try {
+            Column[] columns = columns(group);
+            DataInputStream idColumn = column(columns[ID]);
+            int row = -1;
+            for (int i = 0; i < group.rows(); i++) {
+                if (idColumn.readUTF().equals(orderId)) {
+                    row = i;
+                    break;
+                }
+            }
+            if (row < 0) {
+                return Optional.empty();
+            }
+
+            DataInputStream partners = column(columns[PARTNER]);
+            DataInputStream statuses = column(columns[STATUS]);
+            DataInputStream previousStatuses = column(columns[PREVIOUS_STATUS]);
+            DataInputStream totals = column(columns[TOTAL]);
+            DataInputStream createdAts = column(columns[CREATED_AT]);
+            DataInputStream updatedAts = column(columns[UPDATED_AT]);
+            DataInputStream versions = column(columns[VERSION]);
+            DataInputStream itemCounts = column(columns[ITEM_COUNT]);
+            int itemsBefore = 0;
+            for (int i = 0; i < row; i++) {
+                partners.readUTF();
+                statuses.readUTF();
+                previousStatuses.readUTF();
+                totals.readUTF();
+                createdAts.readLong();
+                updatedAts.readLong();
+                versions.readLong();
+                itemsBefore += itemCounts.readInt();
+            }
+
+            String partnerId = partners.readUTF();
+            OrderStatus status = OrderStatus.valueOf(statuses.readUTF());
+            String previous = previousStatuses.readUTF();
+            BigDecimal total = new BigDecimal(totals.readUTF());
+            LocalDateTime createdAt = fromMicros(createdAts.readLong());
+            LocalDateTime updatedAt = fromMicros(updatedAts.readLong());
+            long version = versions.readLong();
+            int itemCount = itemCounts.readInt();
+
+            DataInputStream itemIds = column(columns[ITEM_ID]);
+            DataInputStream products = column(columns[ITEM_PRODUCT]);
+            DataInputStream quantities = column(columns[ITEM_QUANTITY]);
+            DataInputStream prices = column(columns[ITEM_PRICE]);
+            for (int i = 0; i < itemsBefore; i++) {
+                itemIds.readLong();
+                products.readUTF();
+                quantities.readInt();
+                prices.readUTF();
+            }
+            List<ArchivedItem> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(new ArchivedItem(itemIds.readLong(), products.readUTF(), quantities.readInt(),
+                        new BigDecimal(prices.readUTF())));
+            }
+            return Optional.of(new ArchivedOrder(orderId, partnerId, status,
+                    previous.isEmpty() ? null : OrderStatus.valueOf(previous), total, createdAt, updatedAt, version,
+                    List.copyOf(items)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt row group at " + group.offset() + " in " + file, e);
+        }
+    }
+
+    private static byte[] encode(List<ArchivedOrder> group, Deflater deflater) throws IOException {
+        ColumnWriter[] columns = new ColumnWriter[COLUMNS];
+        for (int i = 0; i < COLUMNS; i++) {
+            columns[i] = new ColumnWriter();
+        }
+        for (ArchivedOrder order : group) {
+            columns[ID].out.writeUTF(order.id());
+            columns[PARTNER].out.writeUTF(order.partnerId());
+            columns[STATUS].out.writeUTF(order.status().name());
+            columns[PREVIOUS_STATUS].out.writeUTF(order.previousStatus() != null ? order.previousStatus().name() : "");
+            columns[TOTAL].out.writeUTF(order.totalAmount().toPlainString());
+            columns[CREATED_AT].out.writeLong(toMicros(order.createdAt()));
+            columns[UPDATED_AT].out.writeLong(toMicros(order.updatedAt() != null ? order.updatedAt() : order.createdAt()));
+            columns[VERSION].out.writeLong(order.version());
+            columns[ITEM_COUNT].out.writeInt(order.items().size());
+            for (ArchivedItem item : order.items()) {
+                columns[ITEM_ID].out.writeLong(item.id());
+                columns[ITEM_PRODUCT].out.writeUTF(item.productId());
+                columns[ITEM_QUANTITY].out.writeInt(item.quantity());
+                columns[ITEM_PRICE].out.writeUTF(item.unitPrice().toPlainString());
+            }
+        }
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(encoded);
+        byte[] chunk = new byte[8192];
+        for (ColumnWriter column : columns) {
+            byte[] raw = column.bytes.toByteArray();
+            deflater.reset();
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 16);
+            while (!deflater.finished()) {
+                compressed.write(chunk, 0, deflater.deflate(chunk));
+            }
+            out.writeInt(raw.length);
+            out.writeInt(compressed.size());
+            compressed.writeTo(out);
+        }
+        out.flush();
+        return encoded.toByteArray();
+    }
+
+    // Locates the compressed columns of a row group without inflating any of them
+    private Column[] columns(RowGroup group) {
+        Column[] columns = new Column[COLUMNS];
+        int position = (int) group.offset();
+        for (int i = 0; i < COLUMNS; i++) {
+            int rawLength = buffer.getInt(position);
+            int compressedLength = buffer.getInt(position + Integer.BYTES);
+            position += Integer.BYTES * 2;
+            columns[i] = new Column(buffer.slice(position, compressedLength), rawLength);
+            position += compressedLength;
+        }
+        return columns;
+    }
+
+    private static DataInputStream column(Column column) throws IOException {
+        byte[] raw = new byte[column.rawLength()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(column.compressed().duplicate());
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                read += inflater.inflate(raw, read, raw.length - read);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt column", e);
+        } finally {
+            inflater.end();
+        }
+        return new DataInputStream(new ByteArrayInputStream(raw));
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private record RowGroup(long offset, int rows, String firstId, String lastId) {}
+
+    private record Column(ByteBuffer compressed, int rawLength) {}
+
+    private static final class ColumnWriter {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+    }
+}
@@ -0,0 +1,155 @@
+package com.b2b.ordermanagement.infrastructure.cache;
+
+import com.b2b.ordermanagement.application.dto.OrderResponseDTO;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Pre-encoded JSON for orders in a terminal status, keyed by order id and {@code @Version}.
+ *
+ * <p>DELIVERED and CANCELLED orders never change, so their serialized response can be
+ * served without touching the database or Jackson. Entries live in a Caffeine cache
+ * weighed by their encoded bytes, so lookups don't contend on a lock and the least useful
+ * entries are evicted once {@code orders.response-cache.max-size} is exceeded. A status
+ * change still invalidates any entry older than the new version, so a stale payload
+ * can't outlive a transition even if the status rules change.</p>
+ *
+ * <p>Only terminal orders can be cached, so a miss is counted when a terminal order has
+ * to be stored after being read from the database; lookups of open orders, which always
+ * miss, don't drag the hit ratio down. Warm-up requests neither read nor fill the cache,
+ * since they run against state that is rolled back.</p>
+ */
+@Component
+public class OrderResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderResponseCache.class);
+
+    // Key, version and map bookkeeping on top of the payload itself
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final Cache<String, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private record Entry(long version, byte[] body) {
+        int weight() {
+            return body.length + ENTRY_OVERHEAD;
+        }
+    }
+
+    public OrderResponseCache(ObjectMapper objectMapper, ResponseCacheProperties properties, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.enabled();
+        this.maxBytes = properties.maxSize().toBytes();
+
+        this.hits = Counter.builder("orders.response.cache")
+                .description("Lookups of pre-encoded order responses")
+                .tag("result", "hit")
+                .register(registry);
+        this.misses = Counter.builder("orders.response.cache")
+                .description("Lookups of pre-encoded order responses")
+                .tag("result", "miss")
+                .register(registry);
+        this.evictions = Counter.builder("orders.response.cache.evictions")
+                .description("Entries evicted to stay within the byte budget")
+                .register(registry);
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String orderId, Entry entry) -> entry.weight())
+                .evictionListener((String orderId, Entry entry, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        evictions.increment();
+                    }
+                })
+                // Evict on the writing thread; stores are rare next to lookups
+                .executor(Runnable::run)
+                .build();
+        Gauge.builder("orders.response.cache.size", this, OrderResponseCache::usedBytes)
+                .description("Bytes held by the order response cache")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("orders.response.cache.entries", this, OrderResponseCache::entryCount)
+                .description("Orders held by the order response cache")
+                .register(registry);
+        Gauge.builder("orders.response.cache.hit.ratio", this, OrderResponseCache::hitRatio)
+                .description("Share of lookups served from the cache")
+                .register(registry);
+    }
+
+    public Optional<byte[]> find(String orderId) {
+        if (!enabled || WarmupSession.isWarmupRequest()) {
+            return Optional.empty();
+        }
+        Entry entry = entries.getIfPresent(orderId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.body());
+    }
+
+    /**
+     * Encodes and keeps {@code response} if the order is in a terminal status. Older
+     * versions are replaced; an entry with a newer version is left alone. Storing a
+     * terminal order counts as a miss: it was read from the database instead of the cache.
+     */
+    public void store(String orderId, Long version, OrderStatus status, OrderResponseDTO response) {
+        if (!enabled || WarmupSession.isWarmupRequest() || version == null || status == null || !status.isTerminal()) {
+            return;
+        }
+        misses.increment();
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not encode order {} for the response cache", orderId, e);
+            return;
+        }
+
+        Entry entry = new Entry(version, body);
+        if (entry.weight() > maxBytes) {
+            invalidate(orderId, version);
+            return;
+        }
+        entries.asMap().compute(orderId, (id, current) -> current != null && current.version() >= version ? current : entry);
+    }
+
+    /**
+     * Drops the entry for {@code orderId} unless it already holds {@code version} or newer.
+     */
+    public void invalidate(String orderId, Long version) {
+        entries.asMap().computeIfPresent(orderId,
+                (id, current) -> version == null || current.version() < version ? null : current);
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    long usedBytes() {
+        return entries.policy().eviction().orElseThrow().weightedSize().orElse(0);
+    }
+
+    long entryCount() {
+        return entries.estimatedSize();
+    }
+}
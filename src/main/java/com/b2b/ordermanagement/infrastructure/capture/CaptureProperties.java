@@ -0,0 +1,39 @@
+package com.b2b.ordermanagement.infrastructure.capture;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * @param enabled       record order and partner API exchanges; off unless explicitly turned on
+ * @param directory     where the rotating {@code capture-*.jsonl} files are written
+ * @param sampleRate    fraction of requests recorded, 0..1
+ * @param maxFileSize   a file is rotated once the next line would exceed this
+ * @param maxFiles      oldest files are deleted beyond this count
+ * @param queueCapacity exchanges buffered for the writer thread; beyond it they are dropped, never waited on
+ * @param maxBodySize   request and response bodies larger than this are recorded without content
+ * @param redactFields  JSON field names whose values are replaced before anything is written
+ */
+@ConfigurationProperties(prefix = "orders.capture")
+public record CaptureProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("/tmp/order-management-capture") Path directory,
+        @DefaultValue("1.0") double sampleRate,
+        @DefaultValue("64MB") DataSize maxFileSize,
+        @DefaultValue("20") int maxFiles,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("64KB") DataSize maxBodySize,
+        @DefaultValue("name") Set<String> redactFields
+) {
+    public CaptureProperties {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("orders.capture.sample-rate must be between 0 and 1");
+        }
+        if (maxFiles < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("orders.capture max files and queue capacity must be positive");
+        }
+    }
+}
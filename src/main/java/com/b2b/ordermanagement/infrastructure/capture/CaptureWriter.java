@@ -0,0 +1,162 @@
+package com.b2b.ordermanagement.infrastructure.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Appends captured exchanges to rotating JSONL files from a single background thread.
+ *
+ * <p>Request threads only enqueue: when the queue is full the exchange is dropped and
+ * counted rather than slowing the request down. Files are named
+ * {@code capture-<utc timestamp>-<sequence>.jsonl}, so name order is write order, and the
+ * oldest are deleted once more than {@code maxFiles} exist.</p>
+ */
+public class CaptureWriter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaptureWriter.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int DRAIN_BATCH = 512;
+
+    private final BlockingQueue<CapturedExchange> queue;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final Counter written;
+    private final Counter dropped;
+    private final Thread writerThread;
+    private volatile boolean closed;
+
+    private OutputStream out;
+    private long currentBytes;
+    private int fileSequence;
+
+    public CaptureWriter(CaptureProperties properties, ObjectMapper objectMapper, MeterRegistry registry) throws IOException {
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.objectMapper = objectMapper;
+        this.directory = Files.createDirectories(properties.directory());
+        this.maxFileBytes = properties.maxFileSize().toBytes();
+        this.maxFiles = properties.maxFiles();
+        this.written = Counter.builder("http.capture")
+                .description("API exchanges recorded for replay")
+                .tag("result", "written")
+                .register(registry);
+        this.dropped = Counter.builder("http.capture")
+                .description("API exchanges recorded for replay")
+                .tag("result", "dropped")
+                .register(registry);
+
+        this.writerThread = new Thread(this::drain, "traffic-capture-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public void offer(CapturedExchange exchange) {
+        if (closed || !queue.offer(exchange)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Stops accepting exchanges and waits briefly for the queued ones to be written.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void drain() {
+        List<CapturedExchange> batch = new ArrayList<>(DRAIN_BATCH);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                CapturedExchange first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, DRAIN_BATCH - 1);
+                for (CapturedExchange exchange : batch) {
+                    write(exchange);
+                }
+                out.flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException e) {
+                logger.warn("Traffic capture write failed, rotating: {}", e.getMessage());
+                closeCurrent();
+            } finally {
+                batch.clear();
+            }
+        }
+        closeCurrent();
+    }
+
+    private void write(CapturedExchange exchange) throws IOException {
+        byte[] line = objectMapper.writeValueAsBytes(exchange);
+        if (out == null || (currentBytes > 0 && currentBytes + line.length + 1 > maxFileBytes)) {
+            rotate();
+        }
+        out.write(line);
+        out.write('\n');
+        currentBytes += line.length + 1;
+        written.increment();
+    }
+
+    private void rotate() throws IOException {
+        closeCurrent();
+        String name = String.format("capture-%s-%06d.jsonl",
+                FILE_TIMESTAMP.format(ZonedDateTime.now(ZoneOffset.UTC)), fileSequence++);
+        out = new BufferedOutputStream(Files.newOutputStream(directory.resolve(name),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+        currentBytes = 0;
+        prune();
+    }
+
+    private void prune() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(CaptureWriter::isCaptureFile).sorted().toList();
+        }
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private void closeCurrent() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.warn("Could not close traffic capture file: {}", e.getMessage());
+        }
+        out = null;
+    }
+
+    static boolean isCaptureFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith("capture-") && name.endsWith(".jsonl");
+    }
+}
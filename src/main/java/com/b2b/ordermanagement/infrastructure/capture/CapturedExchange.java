@@ -0,0 +1,25 @@
+package com.b2b.ordermanagement.infrastructure.capture;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One recorded request/response pair, written as a JSON line. {@code method}, {@code path}
+ * and {@code body} use the same shape as the warm-up corpus, so a capture file can also
+ * be used as {@code orders.warmup.corpus}.
+ *
+ * @param at            epoch millis when the request arrived; replay keeps the gaps between them
+ * @param latencyMicros server-side time from this filter to the response being written
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CapturedExchange(
+        long at,
+        String method,
+        String path,
+        String accept,
+        JsonNode body,
+        int status,
+        long latencyMicros,
+        long responseBytes,
+        JsonNode response
+) {}
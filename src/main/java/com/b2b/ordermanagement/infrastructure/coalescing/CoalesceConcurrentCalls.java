@@ -0,0 +1,19 @@
+package com.b2b.ordermanagement.infrastructure.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets concurrent calls of the annotated read with equal arguments share one execution:
+ * the first caller runs it, callers arriving while it is in flight wait for and receive
+ * the same result (or exception). Nothing is kept once the call completes.
+ * Arguments must implement value equality; the shared result must not be mutated.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CoalesceConcurrentCalls {
+}
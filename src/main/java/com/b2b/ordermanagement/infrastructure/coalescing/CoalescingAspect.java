@@ -0,0 +1,114 @@
+package com.b2b.ordermanagement.infrastructure.coalescing;
+
+import com.b2b.ordermanagement.application.dto.OrderFilterDTO;
+import com.b2b.ordermanagement.application.interfaces.OrderFilterParams;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight for {@link CoalesceConcurrentCalls} methods. Ordered outside both the
+ * retry aspect and the transaction interceptor, so followers never open a transaction or
+ * borrow a connection. The in-flight entry is removed before the result is published, so
+ * a caller arriving after the query finished always triggers a fresh one: results are
+ * never older than the query that produced them. Calls made inside an existing
+ * transaction are not coalesced, since they may need to see that transaction's writes.
+ * A follower waits at most {@code orders.coalescing.max-wait} for the leader and then runs
+ * the call itself, so a stuck query does not pile up every caller behind it.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class CoalescingAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingAspect.class);
+
+    private final ConcurrentHashMap<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final OrderMetrics orderMetrics;
+    private final long maxWaitNanos;
+
+    public CoalescingAspect(OrderMetrics orderMetrics, CoalescingProperties properties) {
+        this.orderMetrics = orderMetrics;
+        this.maxWaitNanos = properties.maxWait().toNanos();
+    }
+
+    private record CallKey(Method method, List<Object> arguments) {}
+
+    @Around("@annotation(com.b2b.ordermanagement.infrastructure.coalescing.CoalesceConcurrentCalls)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        CallKey key = new CallKey(method, normalize(joinPoint.getArgs()));
+
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, call);
+        if (leader != null) {
+            orderMetrics.recordCoalescing(method.getName(), "joined");
+            try {
+                return await(leader);
+            } catch (TimeoutException e) {
+                logger.debug("Gave up waiting for an in-flight {} call after {} ms; running it directly",
+                        method.getName(), TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+                orderMetrics.recordCoalescing(method.getName(), "timed_out");
+                return joinPoint.proceed();
+            }
+        }
+
+        orderMetrics.recordCoalescing(method.getName(), "executed");
+        try {
+            Object result = joinPoint.proceed();
+            inFlight.remove(key, call);
+            call.complete(result);
+            return result;
+        } catch (Throwable e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static List<Object> normalize(Object[] args) {
+        Object[] normalized = Arrays.copyOf(args, args.length);
+        for (int i = 0; i < normalized.length; i++) {
+            if (normalized[i] instanceof OrderFilterParams filters) {
+                normalized[i] = OrderFilterDTO.normalized(filters);
+            }
+        }
+        return Arrays.asList(normalized);
+    }
+
+    private Object await(CompletableFuture<Object> leader) throws Throwable {
+        try {
+            return leader.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.b2b.ordermanagement.infrastructure.coalescing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maxWait how long a caller waits for an identical in-flight call before running
+ *                its own instead
+ */
+@ConfigurationProperties(prefix = "orders.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("2s") Duration maxWait
+) {}
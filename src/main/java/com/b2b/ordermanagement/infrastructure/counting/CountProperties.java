@@ -0,0 +1,21 @@
+package com.b2b.ordermanagement.infrastructure.counting;
+
+import com.b2b.ordermanagement.application.dto.CountStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param defaultStrategy    strategy used when a request does not ask for one
+ * @param cacheTtl           how long a cached count is served; invalidation is local, so this bounds staleness across instances
+ * @param cacheMaxEntries    distinct filter shapes kept per instance
+ * @param exactBelow         planner estimates below this are recounted exactly, since small counts are cheap
+ */
+@ConfigurationProperties(prefix = "orders.count")
+public record CountProperties(
+        @DefaultValue("EXACT") CountStrategy defaultStrategy,
+        @DefaultValue("10s") Duration cacheTtl,
+        @DefaultValue("10000") int cacheMaxEntries,
+        @DefaultValue("10000") long exactBelow
+) {}
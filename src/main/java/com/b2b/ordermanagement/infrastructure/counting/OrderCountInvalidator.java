@@ -0,0 +1,51 @@
+package com.b2b.ordermanagement.infrastructure.counting;
+
+import com.b2b.ordermanagement.application.dto.OrderFilterDTO;
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Drops cached order totals whose filters match a committed order change: a new order
+ * affects every shape it falls into; a status change only affects shapes filtering on
+ * the old or new status.
+ */
+@Component
+public class OrderCountInvalidator {
+
+    public static final String RESOURCE = "orders";
+
+    private final TotalCounter totalCounter;
+
+    public OrderCountInvalidator(TotalCounter totalCounter) {
+        this.totalCounter = totalCounter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(OrderCreatedEvent event) {
+        totalCounter.invalidate(RESOURCE, key -> key instanceof OrderFilterDTO filters
+                && matchesPartner(filters, event.partnerId())
+                && (filters.getStatus() == null || filters.getStatus() == event.status())
+                && inRange(filters, event.createdAt()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(OrderStatusChangedEvent event) {
+        totalCounter.invalidate(RESOURCE, key -> key instanceof OrderFilterDTO filters
+                && matchesPartner(filters, event.partnerId())
+                && (filters.getStatus() == event.previousStatus() || filters.getStatus() == event.newStatus()));
+    }
+
+    private static boolean matchesPartner(OrderFilterDTO filters, String partnerId) {
+        return filters.getPartnerId() == null || filters.getPartnerId().equals(partnerId);
+    }
+
+    private static boolean inRange(OrderFilterDTO filters, LocalDateTime createdAt) {
+        return filters.getStartDate() == null
+                || (!createdAt.isBefore(filters.getStartDate()) && !createdAt.isAfter(filters.getEndDate()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.b2b.ordermanagement.infrastructure.counting;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Row estimates from the PostgreSQL planner: runs {@code EXPLAIN} on a query and reads
+ * {@code rows=} from the top plan node. Must be called inside a transaction, where the
+ * plan cache is switched to custom plans so the estimate reflects the bound values
+ * rather than a generic plan's average selectivity.
+ */
+@Component
+public class PlannerEstimator {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public long estimate(String sql, Map<String, Object> parameters) {
+        entityManager.createNativeQuery("SELECT set_config('plan_cache_mode', 'force_custom_plan', true)")
+                .getSingleResult();
+        Query explain = entityManager.createNativeQuery("EXPLAIN " + sql);
+        parameters.forEach(explain::setParameter);
+        return planRows(explain.getResultList());
+    }
+
+    static long planRows(List<?> plan) {
+        if (plan.isEmpty()) {
+            throw new IllegalStateException("EXPLAIN returned no plan");
+        }
+        Matcher matcher = PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+        if (!matcher.find()) {
+            throw new IllegalStateException("No row estimate in plan: " + plan.get(0));
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,120 @@
+package com.b2b.ordermanagement.infrastructure.counting;
+
+import com.b2b.ordermanagement.application.dto.CountStrategy;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Resolves the total of a paged listing with the requested {@link CountStrategy}.
+ *
+ * <p>When the page itself proves the total (a short page) no count runs at all. Cached
+ * totals are keyed by resource and filter shape, expire after {@code cacheTtl}, and are
+ * dropped early through {@link #invalidate}. Estimates below {@code exactBelow} or that
+ * fail are replaced by an exact count. The strategy returned is the one that produced the
+ * value, which may differ from the one requested.</p>
+ */
+@Component
+public class TotalCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TotalCounter.class);
+
+    public record Total(long value, CountStrategy strategy) {}
+
+    private record CacheKey(String resource, Object filters) {}
+
+    private record CachedTotal(long value, long expiresAtNanos) {}
+
+    private final Map<CacheKey, CachedTotal> cache = new ConcurrentHashMap<>();
+    private final CountProperties properties;
+    private final OrderMetrics orderMetrics;
+    private final long ttlNanos;
+
+    public TotalCounter(CountProperties properties, OrderMetrics orderMetrics) {
+        this.properties = properties;
+        this.orderMetrics = orderMetrics;
+        this.ttlNanos = properties.cacheTtl().toNanos();
+    }
+
+    public Total total(String resource, Object filters, CountStrategy requested, Pageable pageable, int contentSize,
+                       LongSupplier exact, LongSupplier estimate) {
+        if (pageable.isPaged() && contentSize < pageable.getPageSize() && (contentSize > 0 || pageable.getOffset() == 0)) {
+            return new Total(pageable.getOffset() + contentSize, CountStrategy.EXACT);
+        }
+
+        CountStrategy strategy = requested != null ? requested : properties.defaultStrategy();
+        return switch (strategy) {
+            case EXACT -> exact(resource, exact);
+            case CACHED -> cached(resource, filters, exact);
+            case ESTIMATED -> estimated(resource, pageable, contentSize, exact, estimate);
+        };
+    }
+
+    /**
+     * Drops the cached totals of {@code resource} whose filters {@code affected} accepts.
+     */
+    public void invalidate(String resource, Predicate<Object> affected) {
+        cache.keySet().removeIf(key -> key.resource().equals(resource) && affected.test(key.filters()));
+    }
+
+    int cachedCount() {
+        return cache.size();
+    }
+
+    private Total exact(String resource, LongSupplier exact) {
+        long start = System.nanoTime();
+        long value = exact.getAsLong();
+        record(resource, CountStrategy.EXACT, start);
+        return new Total(value, CountStrategy.EXACT);
+    }
+
+    private Total cached(String resource, Object filters, LongSupplier exact) {
+        long start = System.nanoTime();
+        CacheKey key = new CacheKey(resource, filters);
+        CachedTotal cached = cache.get(key);
+        if (cached != null && cached.expiresAtNanos() - start > 0) {
+            record(resource, CountStrategy.CACHED, start);
+            return new Total(cached.value(), CountStrategy.CACHED);
+        }
+
+        Total total = exact(resource, exact);
+        if (cache.size() >= properties.cacheMaxEntries()) {
+            long now = System.nanoTime();
+            cache.values().removeIf(entry -> entry.expiresAtNanos() - now <= 0);
+        }
+        if (cache.size() < properties.cacheMaxEntries()) {
+            cache.put(key, new CachedTotal(total.value(), System.nanoTime() + ttlNanos));
+        }
+        return total;
+    }
+
+    private Total estimated(String resource, Pageable pageable, int contentSize, LongSupplier exact, LongSupplier estimate) {
+        long start = System.nanoTime();
+        long value;
+        try {
+            value = estimate.getAsLong();
+        } catch (RuntimeException e) {
+            logger.warn("Count estimate for {} failed, counting exactly: {}", resource, e.getMessage());
+            return exact(resource, exact);
+        }
+        record(resource, CountStrategy.ESTIMATED, start);
+        if (value < properties.exactBelow()) {
+            return exact(resource, exact);
+        }
+        // Never report fewer rows than the pages already served
+        long seen = pageable.isPaged() ? pageable.getOffset() + contentSize : contentSize;
+        return new Total(Math.max(value, seen), CountStrategy.ESTIMATED);
+    }
+
+    private void record(String resource, CountStrategy strategy, long start) {
+        orderMetrics.recordCount(resource, strategy.name().toLowerCase(Locale.ROOT), System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,25 @@
+package com.b2b.ordermanagement.infrastructure.eventlog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param snapshotEvery     snapshot an order after every Nth event; terminal statuses always snapshot
+ * @param replayBatchSize   order ids rebuilt per replay transaction
+ * @param replayParallelism default number of replay workers
+ */
+@ConfigurationProperties(prefix = "orders.event-log")
+public record EventLogProperties(
+        @DefaultValue("3") int snapshotEvery,
+        @DefaultValue("500") int replayBatchSize,
+        @DefaultValue("4") int replayParallelism
+) {
+    public EventLogProperties {
+        if (snapshotEvery < 1) {
+            throw new IllegalArgumentException("orders.event-log.snapshot-every must be at least 1");
+        }
+        if (replayBatchSize < 1 || replayParallelism < 1) {
+            throw new IllegalArgumentException("orders.event-log replay batch size and parallelism must be positive");
+        }
+    }
+}
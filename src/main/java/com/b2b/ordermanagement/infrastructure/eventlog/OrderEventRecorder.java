@@ -0,0 +1,59 @@
+package com.b2b.ordermanagement.infrastructure.eventlog;
+
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import com.b2b.ordermanagement.domain.entities.OrderEvent;
+import com.b2b.ordermanagement.domain.entities.OrderSnapshot;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderEventRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSnapshotRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Appends every order change to {@code order_events} in the transaction that made it, and
+ * folds the log into {@code order_snapshots} every {@code snapshotEvery} events and when
+ * the order reaches a terminal status.
+ */
+@Component
+public class OrderEventRecorder {
+
+    private final OrderEventRepository orderEventRepository;
+    private final OrderSnapshotRepository orderSnapshotRepository;
+    private final int snapshotEvery;
+
+    public OrderEventRecorder(OrderEventRepository orderEventRepository,
+                              OrderSnapshotRepository orderSnapshotRepository,
+                              EventLogProperties properties) {
+        this.orderEventRepository = orderEventRepository;
+        this.orderSnapshotRepository = orderSnapshotRepository;
+        this.snapshotEvery = properties.snapshotEvery();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderCreatedEvent event) {
+        orderEventRepository.save(OrderEvent.created(event.orderId(), event.version(), event.partnerId(),
+                event.status(), event.totalAmount(), event.itemCount(), event.createdAt()));
+        snapshotIfDue(event.orderId(), event.version(), event.status());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderStatusChangedEvent event) {
+        orderEventRepository.save(OrderEvent.statusChanged(event.orderId(), event.version(), event.partnerId(),
+                event.previousStatus(), event.newStatus(), event.changedAt()));
+        snapshotIfDue(event.orderId(), event.version(), event.newStatus());
+    }
+
+    private void snapshotIfDue(String orderId, long sequence, OrderStatus status) {
+        // Sequences start at 0, so sequence + 1 is the number of events logged so far
+        if ((sequence + 1) % snapshotEvery != 0 && !status.isTerminal()) {
+            return;
+        }
+        OrderSnapshot snapshot = orderSnapshotRepository.findById(orderId)
+                .orElseGet(() -> new OrderSnapshot(orderId));
+        orderEventRepository.findByOrderIdAndSequenceGreaterThanOrderBySequenceAsc(orderId, snapshot.getSequence())
+                .forEach(snapshot::apply);
+        orderSnapshotRepository.save(snapshot);
+    }
+}
@@ -0,0 +1,30 @@
+package com.b2b.ordermanagement.infrastructure.eventlog;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the order read model from the event log. Accepts an optional
+ * {@code parallelism}; defaults to {@code orders.event-log.replay-parallelism}. Exposed
+ * over JMX only: it rewrites every summary row.
+ */
+@Component
+@Endpoint(id = "orderreplay")
+public class OrderEventReplayEndpoint {
+
+    private final OrderEventReplayer replayer;
+    private final int defaultParallelism;
+
+    public OrderEventReplayEndpoint(OrderEventReplayer replayer, EventLogProperties properties) {
+        this.replayer = replayer;
+        this.defaultParallelism = properties.replayParallelism();
+    }
+
+    @WriteOperation
+    public ReplayReport replay(@Nullable Integer parallelism) {
+        int workers = parallelism != null && parallelism > 0 ? parallelism : defaultParallelism;
+        return replayer.replay(workers);
+    }
+}
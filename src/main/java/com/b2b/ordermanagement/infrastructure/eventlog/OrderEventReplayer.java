@@ -0,0 +1,145 @@
+package com.b2b.ordermanagement.infrastructure.eventlog;
+
+import com.b2b.ordermanagement.domain.entities.OrderEvent;
+import com.b2b.ordermanagement.domain.entities.OrderSnapshot;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderEventRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSnapshotRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rebuilds {@code order_summary} from the event log. Order ids are read in keyset batches
+ * and each batch is folded on a worker in its own transaction: start from the order's
+ * snapshot, apply the events after it, and upsert the summary. Upserts never overwrite a
+ * row at a later version, so a replay can run while the application is serving writes.
+ */
+@Component
+public class OrderEventReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventReplayer.class);
+
+    private final OrderEventRepository orderEventRepository;
+    private final OrderSnapshotRepository orderSnapshotRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OrderEventReplayer(OrderEventRepository orderEventRepository,
+                              OrderSnapshotRepository orderSnapshotRepository,
+                              OrderSummaryRepository orderSummaryRepository,
+                              PlatformTransactionManager transactionManager,
+                              EventLogProperties properties) {
+        this.orderEventRepository = orderEventRepository;
+        this.orderSnapshotRepository = orderSnapshotRepository;
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = properties.replayBatchSize();
+    }
+
+    public ReplayReport replay(int parallelism) {
+        long start = System.nanoTime();
+        LongAdder orders = new LongAdder();
+        LongAdder events = new LongAdder();
+        LongAdder failedBatches = new LongAdder();
+        // Bounds the batches read ahead of the workers
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, workerThreads());
+
+        logger.info("Replaying order event log with {} workers", parallelism);
+        try {
+            String after = "";
+            List<String> orderIds;
+            while (!(orderIds = orderEventRepository.findOrderIdsAfter(after, PageRequest.of(0, batchSize))).isEmpty()) {
+                after = orderIds.get(orderIds.size() - 1);
+                inFlight.acquire();
+                List<String> batch = orderIds;
+                workers.execute(() -> {
+                    try {
+                        Integer applied = transactionTemplate.execute(status -> rebuild(batch));
+                        orders.add(batch.size());
+                        events.add(applied != null ? applied : 0);
+                    } catch (RuntimeException e) {
+                        failedBatches.increment();
+                        logger.error("Replay of orders {}..{} failed", batch.get(0), batch.get(batch.size() - 1), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Order event replay interrupted", e);
+        } finally {
+            workers.shutdown();
+            awaitQuietly(workers);
+        }
+
+        ReplayReport report = new ReplayReport(orders.sum(), events.sum(), failedBatches.sum(), parallelism,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.info("Order event replay finished: {}", report);
+        return report;
+    }
+
+    /**
+     * Folds and upserts one batch of orders, returning the number of events applied. Only
+     * events past each order's snapshot are read. Snapshots loaded here are managed, so
+     * those that were behind are advanced on commit.
+     */
+    int rebuild(List<String> orderIds) {
+        Map<String, OrderSnapshot> states = new HashMap<>();
+        orderSnapshotRepository.findAllById(orderIds).forEach(snapshot -> states.put(snapshot.getOrderId(), snapshot));
+
+        int applied = 0;
+        for (OrderEvent event : orderEventRepository.findAfterSnapshotByOrderIdIn(orderIds)) {
+            OrderSnapshot state = states.computeIfAbsent(event.getOrderId(), OrderSnapshot::new);
+            if (event.getSequence() > state.getSequence()) {
+                state.apply(event);
+                applied++;
+            }
+        }
+
+        for (OrderSnapshot state : states.values()) {
+            if (state.isComplete()) {
+                orderSummaryRepository.upsert(state.toSummary());
+            } else {
+                logger.warn("Order {} has no CREATED event in the log, summary not rebuilt", state.getOrderId());
+            }
+        }
+        return applied;
+    }
+
+    private static void awaitQuietly(ExecutorService workers) {
+        try {
+            if (!workers.awaitTermination(1, TimeUnit.HOURS)) {
+                logger.warn("Order event replay workers did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory workerThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-replay-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.b2b.ordermanagement.infrastructure.eventlog;
+
+public record ReplayReport(
+        long orders,
+        long events,
+        long failedBatches,
+        int parallelism,
+        long elapsedMillis
+) {}
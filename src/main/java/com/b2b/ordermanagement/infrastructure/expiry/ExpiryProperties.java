@@ -0,0 +1,37 @@
+package com.b2b.ordermanagement.infrastructure.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled         cancel PENDING orders older than {@code ttl}
+ * @param ttl             how long an order may stay PENDING
+ * @param tick            wheel resolution; expirations due within the same tick are cancelled together
+ * @param wheelSize       slots per wheel level
+ * @param levels          wheel levels; the wheels span {@code tick * wheelSize^levels} before overflowing
+ * @param batchSize       orders cancelled per UPDATE
+ * @param loadPageSize    PENDING orders read per keyset page when loading
+ * @param resyncInterval  how often orders created on other instances are picked up
+ */
+@ConfigurationProperties(prefix = "orders.expiry")
+public record ExpiryProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("72h") Duration ttl,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("64") int wheelSize,
+        @DefaultValue("4") int levels,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1000") int loadPageSize,
+        @DefaultValue("5m") Duration resyncInterval
+) {
+    public ExpiryProperties {
+        if (tick.toMillis() < 1 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("orders.expiry tick, wheel size and levels must be positive");
+        }
+        if (batchSize < 1 || loadPageSize < 1) {
+            throw new IllegalArgumentException("orders.expiry batch and page sizes must be positive");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.b2b.ordermanagement.infrastructure.expiry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel of string keys. Level {@code l} has {@code wheelSize} slots of
+ * {@code wheelSize^l} ticks each; an entry sits in the lowest level whose current
+ * rotation contains its deadline and is cascaded one level down whenever the clock enters
+ * its slot, so scheduling is O(1) and each entry moves at most {@code levels} times.
+ * Deadlines beyond the top rotation wait in an overflow list re-placed once per top rotation.
+ *
+ * <p>Keys are not removed on cancellation; callers filter what {@link #advanceTo} returns.
+ * Not thread-safe on its own: callers synchronize.</p>
+ */
+final class HierarchicalTimingWheel {
+
+    private record Entry(String key, long tick) {}
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelTicks;
+    private final List<List<Entry>> slots;
+    private final List<Entry> due = new ArrayList<>();
+    private List<Entry> overflow = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTicks = new long[levels + 1];
+        levelTicks[0] = 1;
+        for (int level = 1; level <= levels; level++) {
+            levelTicks[level] = Math.multiplyExact(levelTicks[level - 1], wheelSize);
+        }
+        this.slots = new ArrayList<>(levels * wheelSize);
+        for (int i = 0; i < levels * wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    void schedule(String key, long deadlineMillis) {
+        // Rounded up, so nothing is returned before its deadline
+        place(new Entry(key, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis)));
+        size++;
+    }
+
+    /**
+     * Moves the clock to {@code nowMillis} and returns every key whose deadline has passed.
+     */
+    List<String> advanceTo(long nowMillis) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        List<String> expired = new ArrayList<>();
+        drain(due, expired);
+        while (currentTick < target) {
+            currentTick++;
+            int levels = levelTicks.length - 1;
+            if (currentTick % levelTicks[levels] == 0) {
+                List<Entry> waiting = overflow;
+                overflow = new ArrayList<>();
+                waiting.forEach(this::place);
+            }
+            for (int level = levels - 1; level >= 1; level--) {
+                if (currentTick % levelTicks[level] == 0) {
+                    List<Entry> slot = slot(level, currentTick);
+                    List<Entry> cascading = new ArrayList<>(slot);
+                    slot.clear();
+                    cascading.forEach(this::place);
+                }
+            }
+            drain(slot(0, currentTick), expired);
+            drain(due, expired);
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void place(Entry entry) {
+        if (entry.tick() <= currentTick) {
+            due.add(entry);
+            return;
+        }
+        int levels = levelTicks.length - 1;
+        for (int level = 0; level < levels; level++) {
+            // Same rotation of this level: the slot is reached before the wheel wraps
+            if (Math.floorDiv(entry.tick(), levelTicks[level + 1]) == Math.floorDiv(currentTick, levelTicks[level + 1])) {
+                slot(level, entry.tick()).add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+
+    private List<Entry> slot(int level, long tick) {
+        return slots.get(level * wheelSize + (int) Math.floorMod(Math.floorDiv(tick, levelTicks[level]), wheelSize));
+    }
+
+    private static void drain(List<Entry> entries, List<String> into) {
+        for (Entry entry : entries) {
+            into.add(entry.key());
+        }
+        entries.clear();
+    }
+}
@@ -0,0 +1,175 @@
+package com.b2b.ordermanagement.infrastructure.expiry;
+
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import com.b2b.ordermanagement.application.services.OrderService;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.PendingOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cancels orders that stay PENDING longer than {@code orders.expiry.ttl} without scanning
+ * the orders table on every tick. Deadlines live in a {@link HierarchicalTimingWheel}
+ * loaded at startup from the PENDING orders by created_at, fed by committed creations, and
+ * topped up every {@code resyncInterval} with PENDING orders created since the last load,
+ * which picks up orders taken by other instances.
+ *
+ * <p>Expirations due in the same tick are cancelled in batches through
+ * {@link OrderService#expirePendingOrders}, whose conditional UPDATE only touches orders
+ * that are still PENDING and old enough. Every instance can therefore hold the same
+ * deadlines: whichever gets to an order first cancels it, and the others update nothing.</p>
+ */
+@Component
+public class OrderExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderExpiryScheduler.class);
+    // Lower bound of the first load; fits a Postgres timestamp, unlike LocalDateTime.MIN
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // Re-reads this much before the last loaded order, for transactions that committed late
+    private static final Duration RESYNC_OVERLAP = Duration.ofMinutes(1);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final ExpiryProperties properties;
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final Clock clock;
+    private final HierarchicalTimingWheel wheel;
+    // Order id -> deadline millis; removed when the order leaves PENDING or expires
+    private final Map<String, Long> deadlines = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    // Written by the startup load and read by the scheduled resync on another thread
+    private volatile LocalDateTime loadedUpTo = EARLIEST;
+
+    public OrderExpiryScheduler(ExpiryProperties properties, OrderRepository orderRepository, OrderService orderService) {
+        this(properties, orderRepository, orderService, Clock.systemDefaultZone());
+    }
+
+    OrderExpiryScheduler(ExpiryProperties properties, OrderRepository orderRepository, OrderService orderService,
+                         Clock clock) {
+        this.properties = properties;
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel(properties.tick().toMillis(), properties.wheelSize(),
+                properties.levels(), clock.millis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPending() {
+        if (!properties.enabled()) {
+            return;
+        }
+        int count = loadCreatedAfter(EARLIEST);
+        loaded = true;
+        logger.info("Order expiry loaded {} pending orders, ttl {}", count, properties.ttl());
+    }
+
+    @Scheduled(fixedDelayString = "${orders.expiry.resync-interval:PT5M}")
+    public void resync() {
+        if (!properties.enabled() || !loaded) {
+            return;
+        }
+        loadCreatedAfter(loadedUpTo.equals(EARLIEST) ? EARLIEST : loadedUpTo.minus(RESYNC_OVERLAP));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(OrderCreatedEvent event) {
+        if (properties.enabled() && event.status() == OrderStatus.PENDING) {
+            schedule(event.orderId(), event.createdAt());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(OrderStatusChangedEvent event) {
+        if (event.previousStatus() == OrderStatus.PENDING) {
+            deadlines.remove(event.orderId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orders.expiry.tick:PT1S}")
+    public void tick() {
+        if (!properties.enabled() || !loaded) {
+            return;
+        }
+        List<String> due;
+        synchronized (wheel) {
+            due = wheel.advanceTo(clock.millis());
+        }
+        // Entries whose order was approved or cancelled meanwhile are dropped here
+        List<String> expiring = due.stream().filter(orderId -> deadlines.remove(orderId) != null).toList();
+        if (expiring.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime createdBefore = LocalDateTime.now(clock).minus(properties.ttl());
+        for (int from = 0; from < expiring.size(); from += properties.batchSize()) {
+            List<String> batch = expiring.subList(from, Math.min(from + properties.batchSize(), expiring.size()));
+            try {
+                orderService.expirePendingOrders(batch, createdBefore);
+            } catch (RuntimeException e) {
+                logger.warn("Expiring {} pending orders failed, retrying in {}: {}", batch.size(), RETRY_DELAY, e.getMessage());
+                long retryAt = clock.millis() + RETRY_DELAY.toMillis();
+                batch.forEach(orderId -> scheduleAt(orderId, retryAt));
+            }
+        }
+    }
+
+    int scheduledCount() {
+        return deadlines.size();
+    }
+
+    private int loadCreatedAfter(LocalDateTime from) {
+        int count = 0;
+        LocalDateTime afterCreatedAt = from;
+        String afterId = "";
+        List<PendingOrder> page;
+        do {
+            page = orderRepository.findPendingAfter(afterCreatedAt, afterId, PageRequest.of(0, properties.loadPageSize()));
+            for (PendingOrder order : page) {
+                schedule(order.id(), order.createdAt());
+            }
+            count += page.size();
+            if (!page.isEmpty()) {
+                PendingOrder last = page.get(page.size() - 1);
+                afterCreatedAt = last.createdAt();
+                afterId = last.id();
+                if (last.createdAt().isAfter(loadedUpTo)) {
+                    loadedUpTo = last.createdAt();
+                }
+            }
+        } while (page.size() == properties.loadPageSize());
+        return count;
+    }
+
+    private void schedule(String orderId, LocalDateTime createdAt) {
+        long deadline = createdAt.plus(properties.ttl()).atZone(clock.getZone()).toInstant().toEpochMilli();
+        if (deadlines.putIfAbsent(orderId, deadline) == null) {
+            synchronized (wheel) {
+                wheel.schedule(orderId, deadline);
+            }
+        }
+    }
+
+    private void scheduleAt(String orderId, long deadline) {
+        deadlines.put(orderId, deadline);
+        synchronized (wheel) {
+            wheel.schedule(orderId, deadline);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.b2b.ordermanagement.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.math.BigDecimal;
+
+@Name(CreditCheckEvent.NAME)
+@Label("Credit Check")
+@Category({"Order Management", "Credit"})
+@Description("Result of a partner credit availability check")
+@StackTrace(false)
+public class CreditCheckEvent extends Event {
+
+    public static final String NAME = "com.b2b.ordermanagement.CreditCheck";
+
+    @Label("Partner ID")
+    String partnerId;
+
+    @Label("Stage")
+    @Description("createOrder for the pre-check, debitCredit for the check under the partner lock")
+    String stage;
+
+    @Label("Requested Amount")
+    double amount;
+
+    @Label("Available Credit")
+    double availableCredit;
+
+    @Label("Granted")
+    boolean granted;
+
+    public static void emit(String partnerId, String stage, BigDecimal amount, BigDecimal availableCredit, boolean granted) {
+        CreditCheckEvent event = new CreditCheckEvent();
+        if (event.shouldCommit()) {
+            event.partnerId = partnerId;
+            event.stage = stage;
+            event.amount = amount != null ? amount.doubleValue() : 0d;
+            event.availableCredit = availableCredit != null ? availableCredit.doubleValue() : 0d;
+            event.granted = granted;
+            event.commit();
+        }
+    }
+}
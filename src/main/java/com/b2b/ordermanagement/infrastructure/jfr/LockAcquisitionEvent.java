@@ -0,0 +1,47 @@
+package com.b2b.ordermanagement.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(LockAcquisitionEvent.NAME)
+@Label("Row Lock Acquisition")
+@Category({"Order Management", "Locking"})
+@Description("Time spent acquiring a PESSIMISTIC_WRITE row lock on an order or partner")
+@StackTrace(false)
+public class LockAcquisitionEvent extends Event {
+
+    public static final String NAME = "com.b2b.ordermanagement.LockAcquisition";
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Entity ID")
+    String entityId;
+
+    @Label("Partner ID")
+    String partnerId;
+
+    @Label("Found")
+    boolean found;
+
+    public static LockAcquisitionEvent start() {
+        LockAcquisitionEvent event = new LockAcquisitionEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(String entity, String entityId, String partnerId, boolean found) {
+        end();
+        if (shouldCommit()) {
+            this.entity = entity;
+            this.entityId = entityId;
+            this.partnerId = partnerId;
+            this.found = found;
+            commit();
+        }
+    }
+}
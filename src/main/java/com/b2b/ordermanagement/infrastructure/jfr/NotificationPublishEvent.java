@@ -0,0 +1,43 @@
+package com.b2b.ordermanagement.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(NotificationPublishEvent.NAME)
+@Label("Notification Publish")
+@Category({"Order Management", "Messaging"})
+@Description("A message handed to the notification broker")
+@StackTrace(false)
+public class NotificationPublishEvent extends Event {
+
+    public static final String NAME = "com.b2b.ordermanagement.NotificationPublish";
+
+    @Label("Topic")
+    String topic;
+
+    @Label("Payload Size")
+    int payloadSize;
+
+    @Label("Sent")
+    boolean sent;
+
+    public static NotificationPublishEvent start() {
+        NotificationPublishEvent event = new NotificationPublishEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(String topic, int payloadSize, boolean sent) {
+        end();
+        if (shouldCommit()) {
+            this.topic = topic;
+            this.payloadSize = payloadSize;
+            this.sent = sent;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.b2b.ordermanagement.infrastructure.jfr;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(OrderTransitionEvent.NAME)
+@Label("Order Status Transition")
+@Category({"Order Management", "Lifecycle"})
+@Description("An order moved from one status to another")
+@StackTrace(false)
+public class OrderTransitionEvent extends Event {
+
+    public static final String NAME = "com.b2b.ordermanagement.OrderTransition";
+
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Partner ID")
+    String partnerId;
+
+    @Label("From Status")
+    String fromStatus;
+
+    @Label("To Status")
+    String toStatus;
+
+    public static void emit(String orderId, String partnerId, OrderStatus fromStatus, OrderStatus toStatus) {
+        OrderTransitionEvent event = new OrderTransitionEvent();
+        if (event.shouldCommit()) {
+            event.orderId = orderId;
+            event.partnerId = partnerId;
+            event.fromStatus = fromStatus != null ? fromStatus.name() : null;
+            event.toStatus = toStatus != null ? toStatus.name() : null;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.b2b.ordermanagement.infrastructure.journal;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of journal segments.
+ *
+ * <p>A segment starts with a {@value #HEADER_SIZE}-byte header (magic, format version and the
+ * segment's base offset), followed by records. A record is a 4-byte body length, a CRC32C of
+ * the body and the body: type, version, timestamp in epoch microseconds, then order id,
+ * partner id, previous status, status and total as length-prefixed UTF-8 (empty when
+ * absent) and the item count. A length of {@value #END_OF_DATA} marks where writing stopped
+ * and {@value #END_OF_SEGMENT} that the writer rolled to the next segment.</p>
+ */
+final class JournalCodec {
+
+    static final int MAGIC = 0x4f4a4e4c; // "OJNL"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_HEADER_SIZE = 8;
+    static final int END_OF_DATA = 0;
+    static final int END_OF_SEGMENT = -1;
+
+    private static final JournalRecord.Type[] TYPES = JournalRecord.Type.values();
+
+    private JournalCodec() {}
+
+    static void writeHeader(ByteBuffer segment, long baseOffset) {
+        segment.putInt(0, MAGIC);
+        segment.putInt(4, FORMAT_VERSION);
+        segment.putLong(8, baseOffset);
+    }
+
+    /**
+     * Checks the header of a mapped segment and returns its base offset.
+     */
+    static long readHeader(ByteBuffer segment) {
+        if (segment.capacity() < HEADER_SIZE || segment.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a journal segment");
+        }
+        if (segment.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported journal format version " + segment.getInt(4));
+        }
+        return segment.getLong(8);
+    }
+
+    /**
+     * Encodes the body of {@code record} into {@code body}, cleared first and flipped for
+     * reading afterwards.
+     */
+    static void encode(JournalRecord record, ByteBuffer body) {
+        body.clear();
+        body.put((byte) record.type().ordinal());
+        body.putLong(record.version());
+        body.putLong(toMicros(record.timestamp()));
+        putString(body, record.orderId());
+        putString(body, record.partnerId());
+        putString(body, record.previousStatus() != null ? record.previousStatus().name() : "");
+        putString(body, record.status().name());
+        putString(body, record.totalAmount() != null ? record.totalAmount().toPlainString() : "");
+        body.putInt(record.itemCount());
+        body.flip();
+    }
+
+    static int checksum(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Whether a complete record with a matching checksum starts at {@code position}.
+     */
+    static boolean isValid(ByteBuffer segment, int position) {
+        int length = segment.getInt(position);
+        if (length <= 0 || position + RECORD_HEADER_SIZE + (long) length > segment.capacity()) {
+            return false;
+        }
+        return checksum(segment.slice(position + RECORD_HEADER_SIZE, length)) == segment.getInt(position + 4);
+    }
+
+    static JournalRecord decode(ByteBuffer segment, int position, long offset) {
+        int length = segment.getInt(position);
+        ByteBuffer body = segment.slice(position + RECORD_HEADER_SIZE, length);
+        JournalRecord.Type type = TYPES[body.get()];
+        long version = body.getLong();
+        LocalDateTime timestamp = fromMicros(body.getLong());
+        String orderId = getString(body);
+        String partnerId = getString(body);
+        String previous = getString(body);
+        OrderStatus status = OrderStatus.valueOf(getString(body));
+        String total = getString(body);
+        int itemCount = body.getInt();
+        return new JournalRecord(offset, type, orderId, partnerId,
+                previous.isEmpty() ? null : OrderStatus.valueOf(previous), status,
+                total.isEmpty() ? null : new BigDecimal(total), itemCount, version, timestamp);
+    }
+
+    private static void putString(ByteBuffer body, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal field longer than " + Short.MAX_VALUE + " bytes");
+        }
+        body.putShort((short) bytes.length);
+        body.put(bytes);
+    }
+
+    private static String getString(ByteBuffer body) {
+        byte[] bytes = new byte[body.getShort()];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,37 @@
+package com.b2b.ordermanagement.infrastructure.journal;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads up to {@code limit} journaled order events (default 100, at most 1000) starting
+ * at {@code from}, or at the oldest retained record when omitted. Pass the returned
+ * {@code nextOffset} as {@code from} to page forward. Exposed over JMX only.
+ */
+@Component
+@Endpoint(id = "journal")
+public class JournalEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private final OrderJournal journal;
+
+    public JournalEndpoint(OrderJournal journal) {
+        this.journal = journal;
+    }
+
+    @ReadOperation
+    public JournalPage read(@Nullable Long from, @Nullable Integer limit) {
+        int max = limit != null && limit > 0 ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+        JournalTailer tailer = journal.tailer(from != null ? from : journal.firstOffset());
+        List<JournalRecord> records = new ArrayList<>(max);
+        tailer.poll(records::add, max);
+        return new JournalPage(journal.firstOffset(), journal.endOffset(), tailer.offset(), records);
+    }
+}
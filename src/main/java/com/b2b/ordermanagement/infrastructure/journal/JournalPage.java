@@ -0,0 +1,13 @@
+package com.b2b.ordermanagement.infrastructure.journal;
+
+import java.util.List;
+
+/**
+ * Records read from the journal; {@code nextOffset} continues after the last of them.
+ */
+public record JournalPage(
+        long firstOffset,
+        long endOffset,
+        long nextOffset,
+        List<JournalRecord> records
+) {}
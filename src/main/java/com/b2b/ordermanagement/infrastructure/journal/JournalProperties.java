@@ -0,0 +1,38 @@
+package com.b2b.ordermanagement.infrastructure.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @param enabled        journal committed order events on this instance
+ * @param directory      where journal segments are written
+ * @param segmentSize    size of each memory-mapped segment file
+ * @param retention      segments last written longer ago than this are deleted when the journal rolls
+ * @param queueCapacity  events waiting for the writer thread before further events are dropped
+ * @param flushInterval  how often written records are forced to disk; records are readable before that
+ */
+@ConfigurationProperties(prefix = "orders.journal")
+public record JournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("/tmp/order-management-journal") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("65536") int queueCapacity,
+        @DefaultValue("1s") Duration flushInterval
+) {
+    public JournalProperties {
+        if (segmentSize.toBytes() < 4096 || segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("orders.journal.segment-size must be between 4KB and 2GB");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("orders.journal.queue-capacity must be positive");
+        }
+        if (retention.isNegative()) {
+            throw new IllegalArgumentException("orders.journal.retention must not be negative");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.b2b.ordermanagement.infrastructure.journal;
+
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One journaled order event. {@code offset} is where the record starts in the journal, and
+ * -1 until it has been written; {@code totalAmount} and {@code itemCount} are only set on
+ * {@link Type#CREATED} records and {@code previousStatus} only on status changes.
+ */
+public record JournalRecord(
+        long offset,
+        Type type,
+        String orderId,
+        String partnerId,
+        OrderStatus previousStatus,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        int itemCount,
+        long version,
+        LocalDateTime timestamp
+) {
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED
+    }
+
+    public static JournalRecord of(OrderCreatedEvent event) {
+        return new JournalRecord(-1, Type.CREATED, event.orderId(), event.partnerId(), null, event.status(),
+                event.totalAmount(), event.itemCount(), event.version(), event.createdAt());
+    }
+
+    public static JournalRecord of(OrderStatusChangedEvent event) {
+        return new JournalRecord(-1, Type.STATUS_CHANGED, event.orderId(), event.partnerId(), event.previousStatus(),
+                event.newStatus(), null, 0, event.version(), event.changedAt());
+    }
+
+    JournalRecord at(long offset) {
+        return new JournalRecord(offset, type, orderId, partnerId, previousStatus, status, totalAmount, itemCount,
+                version, timestamp);
+    }
+}
@@ -0,0 +1,90 @@
+package com.b2b.ordermanagement.infrastructure.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads journal records in order from a starting offset, following the writer across
+ * segments. Each tailer maps the segments it reads itself and only reads up to the
+ * journal's published end offset, so any number of tailers run alongside the writer
+ * without coordinating with it. Not thread-safe; use one per reading thread.
+ *
+ * <p>Records in segments deleted by retention are skipped: a tailer behind them resumes at
+ * the oldest retained record.</p>
+ */
+public final class JournalTailer {
+
+    private final OrderJournal journal;
+    private long offset;
+    private MappedByteBuffer segment;
+    private long segmentBase;
+
+    JournalTailer(OrderJournal journal, long offset) {
+        this.journal = journal;
+        this.offset = offset;
+    }
+
+    /**
+     * Hands up to {@code max} records to {@code consumer}, stopping early at the end of the
+     * journal.
+     *
+     * @return the number of records read
+     */
+    public int poll(Consumer<JournalRecord> consumer, int max) {
+        int read = 0;
+        while (read < max && offset < journal.endOffset()) {
+            if (segment == null || offset < segmentBase || offset >= segmentBase + segment.capacity()) {
+                if (!open()) {
+                    break;
+                }
+                continue;
+            }
+            int position = (int) (offset - segmentBase);
+            int length = segment.getInt(position);
+            if (length == JournalCodec.END_OF_SEGMENT) {
+                offset = segmentBase + segment.capacity();
+                continue;
+            }
+            if (length <= 0) {
+                break;
+            }
+            consumer.accept(JournalCodec.decode(segment, position, offset));
+            offset += JournalCodec.RECORD_HEADER_SIZE + length;
+            read++;
+        }
+        return read;
+    }
+
+    /**
+     * Offset of the next record this tailer will read.
+     */
+    public long offset() {
+        return offset;
+    }
+
+    private boolean open() {
+        Map.Entry<Long, Path> entry = journal.segmentFor(offset);
+        if (entry == null) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(entry.getValue(), StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            // Deleted by retention since the lookup; the next poll finds a later segment
+            segment = null;
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read journal segment " + entry.getValue(), e);
+        }
+        segmentBase = entry.getKey();
+        offset = Math.max(offset, segmentBase + JournalCodec.HEADER_SIZE);
+        return true;
+    }
+}
@@ -0,0 +1,312 @@
+package com.b2b.ordermanagement.infrastructure.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only local journal of order events in fixed-size, memory-mapped segment files
+ * named by their base offset; see {@link JournalCodec} for the layout.
+ *
+ * <p>{@link #append} never blocks or takes a lock: callers add the record to a lock-free
+ * queue and wake the single writer thread, which encodes records straight into the mapped
+ * segment and then publishes the new end offset. A full queue drops the record rather than
+ * stall the request that produced it; drops are counted in {@code orders.journal.records}.
+ * When a record does not fit, the writer marks the end of the segment, maps a new one at
+ * the next base offset and deletes segments last written longer than {@code retention} ago.</p>
+ *
+ * <p>Written records survive a crash of the process as soon as they are in the mapping; the
+ * writer forces them to disk every {@code flushInterval} and on shutdown, so a machine crash
+ * loses at most that window. On start the last segment is scanned and writing resumes after
+ * its last record with a valid checksum.</p>
+ */
+@Component
+public class OrderJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderJournal.class);
+    private static final String SUFFIX = ".journal";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int MAX_BODY_SIZE = 256 * 1024;
+
+    private final JournalProperties properties;
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalNanos;
+    private final ConcurrentLinkedQueue<JournalRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    // Base offset to file; the writer adds and retention removes, tailers look up
+    private final ConcurrentSkipListMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+    private final ByteBuffer body = ByteBuffer.allocate(MAX_BODY_SIZE);
+
+    private final Counter appended;
+    private final Counter dropped;
+
+    // Owned by the writer thread
+    private MappedByteBuffer active;
+    private long activeBase;
+    private int position;
+    private boolean dirty;
+    private long lastForce;
+
+    // Offset just past the last record readers may see
+    private volatile long endOffset;
+    private volatile boolean running;
+    private Thread writer;
+
+    public OrderJournal(JournalProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.directory = properties.directory();
+        this.segmentSize = (int) properties.segmentSize().toBytes();
+        this.flushIntervalNanos = properties.flushInterval().toNanos();
+
+        this.appended = Counter.builder("orders.journal.records")
+                .description("Order events offered to the journal")
+                .tag("result", "appended")
+                .register(registry);
+        this.dropped = Counter.builder("orders.journal.records")
+                .description("Order events offered to the journal")
+                .tag("result", "dropped")
+                .register(registry);
+        Gauge.builder("orders.journal.queue", queued, AtomicInteger::get)
+                .description("Order events waiting for the journal writer")
+                .register(registry);
+        Gauge.builder("orders.journal.segments", segments, Map::size)
+                .description("Journal segment files retained")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (!properties.enabled() || running) {
+            return;
+        }
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open order journal in " + directory, e);
+        }
+        running = true;
+        writer = new Thread(this::write, "order-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+        logger.info("Order journal writing to {} from offset {}", directory, endOffset);
+    }
+
+    /**
+     * Drains the queue, forces the active segment and stops the writer.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues {@code record} for the writer thread.
+     *
+     * @return false when the journal is stopped or its queue is full and the record was dropped
+     */
+    public boolean append(JournalRecord record) {
+        if (!running) {
+            return false;
+        }
+        if (queued.incrementAndGet() > properties.queueCapacity()) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        queue.offer(record);
+        LockSupport.unpark(writer);
+        return true;
+    }
+
+    /**
+     * Opens a tailer positioned at {@code offset}, which must be {@link #firstOffset()},
+     * {@link #endOffset()} or the offset or next offset of a record read earlier.
+     */
+    public JournalTailer tailer(long offset) {
+        return new JournalTailer(this, offset);
+    }
+
+    /**
+     * Offset of the oldest retained record.
+     */
+    public long firstOffset() {
+        Map.Entry<Long, Path> first = segments.firstEntry();
+        return first != null ? first.getKey() + JournalCodec.HEADER_SIZE : endOffset;
+    }
+
+    public long endOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Segment holding {@code offset}, or the oldest one when it has been deleted.
+     */
+    Map.Entry<Long, Path> segmentFor(long offset) {
+        Map.Entry<Long, Path> segment = segments.floorEntry(offset);
+        return segment != null ? segment : segments.firstEntry();
+    }
+
+    private void write() {
+        lastForce = System.nanoTime();
+        while (running || !queue.isEmpty()) {
+            JournalRecord record = queue.poll();
+            if (record == null) {
+                forceIfDue(true);
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                writeRecord(record);
+                appended.increment();
+            } catch (RuntimeException | IOException e) {
+                dropped.increment();
+                logger.error("Could not journal {} of order {}", record.type(), record.orderId(), e);
+            }
+            forceIfDue(false);
+        }
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    private void writeRecord(JournalRecord record) throws IOException {
+        JournalCodec.encode(record, body);
+        int length = body.remaining();
+        int size = JournalCodec.RECORD_HEADER_SIZE + length;
+        if (size + Integer.BYTES > segmentSize - JournalCodec.HEADER_SIZE) {
+            throw new IllegalArgumentException("Record of " + size + " bytes does not fit a journal segment");
+        }
+        // Keep room for the end-of-segment marker
+        if (position + size + Integer.BYTES > active.capacity()) {
+            active.putInt(position, JournalCodec.END_OF_SEGMENT);
+            active.force();
+            roll(activeBase + active.capacity());
+        }
+        active.putInt(position + 4, JournalCodec.checksum(body));
+        active.put(position + JournalCodec.RECORD_HEADER_SIZE, body, body.position(), length);
+        // Length last: a non-zero length means the record behind it is complete
+        active.putInt(position, length);
+        position += size;
+        dirty = true;
+        endOffset = activeBase + position;
+    }
+
+    private void forceIfDue(boolean idle) {
+        if (dirty && (idle || System.nanoTime() - lastForce >= flushIntervalNanos)) {
+            active.force();
+            dirty = false;
+            lastForce = System.nanoTime();
+        }
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    segments.put(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())), file);
+                } catch (NumberFormatException e) {
+                    logger.warn("Ignoring unexpected file {} in the journal directory", file);
+                }
+            }
+        }
+        if (segments.isEmpty()) {
+            roll(0);
+            return;
+        }
+
+        Map.Entry<Long, Path> last = segments.lastEntry();
+        active = map(last.getValue(), 0);
+        activeBase = JournalCodec.readHeader(active);
+        position = JournalCodec.HEADER_SIZE;
+        while (position + JournalCodec.RECORD_HEADER_SIZE <= active.capacity()) {
+            int length = active.getInt(position);
+            if (length == JournalCodec.END_OF_SEGMENT) {
+                roll(activeBase + active.capacity());
+                return;
+            }
+            if (!JournalCodec.isValid(active, position)) {
+                break;
+            }
+            position += JournalCodec.RECORD_HEADER_SIZE + length;
+        }
+        if (position + Integer.BYTES <= active.capacity() && active.getInt(position) != JournalCodec.END_OF_DATA) {
+            // A record torn by a crash: clear it so the next one is not read past
+            logger.warn("Discarding a partly written journal record at offset {}", activeBase + position);
+            for (int i = position; i < active.capacity(); i++) {
+                active.put(i, (byte) 0);
+            }
+            active.force();
+        }
+        endOffset = activeBase + position;
+    }
+
+    private void roll(long base) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", base, SUFFIX));
+        active = map(file, segmentSize);
+        JournalCodec.writeHeader(active, base);
+        active.force();
+        activeBase = base;
+        position = JournalCodec.HEADER_SIZE;
+        segments.put(base, file);
+        endOffset = base + position;
+        deleteExpired();
+    }
+
+    private void deleteExpired() {
+        Instant cutoff = Instant.now().minus(properties.retention());
+        for (Map.Entry<Long, Path> segment : segments.headMap(activeBase).entrySet()) {
+            try {
+                if (Files.getLastModifiedTime(segment.getValue()).toInstant().isBefore(cutoff)) {
+                    segments.remove(segment.getKey());
+                    Files.deleteIfExists(segment.getValue());
+                    logger.info("Deleted journal segment {} past retention", segment.getValue());
+                }
+            } catch (IOException e) {
+                logger.warn("Could not delete journal segment {}: {}", segment.getValue(), e.getMessage());
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size > 0 ? size : channel.size());
+        }
+    }
+}
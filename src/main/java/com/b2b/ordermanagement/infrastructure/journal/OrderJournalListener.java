@@ -0,0 +1,32 @@
+package com.b2b.ordermanagement.infrastructure.journal;
+
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Journals order events once their transaction has committed, so the journal never holds
+ * a change that was rolled back. Appending only queues the record, which keeps the request
+ * thread off the disk.
+ */
+@Component
+public class OrderJournalListener {
+
+    private final OrderJournal journal;
+
+    public OrderJournalListener(OrderJournal journal) {
+        this.journal = journal;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(OrderCreatedEvent event) {
+        journal.append(JournalRecord.of(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(OrderStatusChangedEvent event) {
+        journal.append(JournalRecord.of(event));
+    }
+}
@@ -0,0 +1,116 @@
+package com.b2b.ordermanagement.infrastructure.limits;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency, in the style of the gradient
+ * algorithm: a long-window average of response times is the "no queueing" baseline, and
+ * each sample moves the limit by {@code min(1, tolerance * baseline / sample)} plus a
+ * {@code sqrt(limit)} allowance for queueing. Latency creeping above the baseline shrinks
+ * the limit; failed requests (5xx or exceptions) cut it multiplicatively, as in AIMD.
+ *
+ * <p>Admission is a CAS on the in-flight count; limit updates are serialized, since they
+ * happen once per completed request and are cheap.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // ~600 samples: long enough to ignore bursts, short enough to follow a new steady state
+    private static final double BASELINE_ALPHA = 1.0 / 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double baselineNanos; // guarded by this
+
+    private final Counter rejected;
+
+    public AdaptiveConcurrencyLimiter(String kind, ConcurrencyLimitProperties.Limits limits,
+                                      ConcurrencyLimitProperties properties, MeterRegistry registry) {
+        this.minLimit = Math.max(1, limits.minLimit());
+        this.maxLimit = Math.max(minLimit, limits.maxLimit());
+        this.limit = clamp(limits.initialLimit(), minLimit, maxLimit);
+        this.tolerance = properties.tolerance();
+        this.smoothing = properties.smoothing();
+        this.backoffRatio = properties.backoffRatio();
+
+        Gauge.builder("http.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("Current adaptive concurrency limit")
+                .tag("kind", kind)
+                .register(registry);
+        Gauge.builder("http.concurrency.inflight", this, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Requests currently admitted by the concurrency limiter")
+                .tag("kind", kind)
+                .register(registry);
+        this.rejected = Counter.builder("http.concurrency.rejected")
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Releases a permit taken with {@link #tryAcquire()} and feeds its latency back.
+     */
+    public void release(long elapsedNanos, boolean failed) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        synchronized (this) {
+            update(Math.max(1, elapsedNanos), inFlightAtCompletion, failed);
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long sampleNanos, int inFlightAtCompletion, boolean failed) {
+        if (failed) {
+            limit = clamp(limit * backoffRatio, minLimit, maxLimit);
+            return;
+        }
+
+        baselineNanos = baselineNanos == 0
+                ? sampleNanos
+                : baselineNanos * (1 - BASELINE_ALPHA) + sampleNanos * BASELINE_ALPHA;
+        if (baselineNanos > 2 * sampleNanos) {
+            // Latency recovered well below the baseline: let the baseline catch up quickly
+            baselineNanos *= 0.95;
+        }
+
+        // Don't let an idle service talk itself into an ever higher limit
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = clamp(tolerance * baselineNanos / sampleNanos, 0.5, 1.0);
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - smoothing) + target * smoothing, minLimit, maxLimit);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
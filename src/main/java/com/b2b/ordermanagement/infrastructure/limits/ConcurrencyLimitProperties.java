@@ -0,0 +1,30 @@
+package com.b2b.ordermanagement.infrastructure.limits;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param urlPatterns servlet URL patterns the limits apply to; routes outside them are
+ *                    never shed
+ */
+@ConfigurationProperties(prefix = "orders.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"/api/v1/orders/*", "/api/v1/partners/*"}) List<String> urlPatterns,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue("1.5") double tolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue Limits read,
+        @DefaultValue Limits write
+) {
+
+    public record Limits(
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("2") int minLimit,
+            @DefaultValue("200") int maxLimit
+    ) {}
+}
@@ -0,0 +1,132 @@
+package com.b2b.ordermanagement.infrastructure.limits;
+
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import com.b2b.ordermanagement.shared.exceptions.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-partner rate limits for order creation and status changes.
+ *
+ * <p>Each bucket is a GCRA token bucket reduced to one {@link AtomicLong}, the
+ * "theoretical arrival time": a request is admitted by CAS-ing it forward one emission
+ * interval, and refused when that would put it more than {@code burst} intervals ahead
+ * of now. No locks, no refill thread. A bucket whose arrival time is long past is
+ * indistinguishable from a new one, so idle buckets are dropped periodically.</p>
+ */
+@Component
+public class PartnerRateLimiter {
+
+    public enum Operation {
+        CREATE, STATUS_CHANGE
+    }
+
+    private final RateLimitProperties properties;
+    private final long idleTimeoutNanos;
+    private final Map<Operation, ConcurrentHashMap<String, TokenBucket>> buckets = new EnumMap<>(Operation.class);
+    private final Map<Operation, Counter> throttled = new EnumMap<>(Operation.class);
+
+    public PartnerRateLimiter(RateLimitProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.idleTimeoutNanos = properties.idleTimeout().toNanos();
+
+        for (Operation operation : Operation.values()) {
+            String tag = operation.name().toLowerCase(Locale.ROOT);
+            ConcurrentHashMap<String, TokenBucket> perPartner = new ConcurrentHashMap<>();
+            buckets.put(operation, perPartner);
+            throttled.put(operation, Counter.builder("orders.rate.limited")
+                    .description("Requests refused by the per-partner rate limit")
+                    .tag("operation", tag)
+                    .register(registry));
+            Gauge.builder("orders.rate.buckets", perPartner, Map::size)
+                    .description("Active per-partner token buckets")
+                    .tag("operation", tag)
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Takes one token for {@code partnerId} or throws {@link RateLimitExceededException}.
+     */
+    public void acquire(Operation operation, String partnerId) {
+        // A warm-up request is rolled back, but a spent token would not be
+        if (!properties.enabled() || partnerId == null || WarmupSession.isWarmupRequest()) {
+            return;
+        }
+        TokenBucket bucket = buckets.get(operation)
+                .computeIfAbsent(partnerId, id -> new TokenBucket(limitFor(operation, id)));
+        long waitNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            throttled.get(operation).increment();
+            throw new RateLimitExceededException("Rate limit exceeded for partner: " + partnerId,
+                    Duration.ofNanos(waitNanos));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orders.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (ConcurrentHashMap<String, TokenBucket> perPartner : buckets.values()) {
+            perPartner.values().removeIf(bucket -> bucket.idleSince(now, idleTimeoutNanos));
+        }
+    }
+
+    int bucketCount(Operation operation) {
+        return buckets.get(operation).size();
+    }
+
+    private RateLimitProperties.Bucket limitFor(Operation operation, String partnerId) {
+        RateLimitProperties.PartnerOverride override = properties.partners().get(partnerId);
+        RateLimitProperties.Bucket bucket = null;
+        if (override != null) {
+            bucket = operation == Operation.CREATE ? override.create() : override.statusChange();
+        }
+        if (bucket == null) {
+            bucket = operation == Operation.CREATE ? properties.create() : properties.statusChange();
+        }
+        return bucket;
+    }
+
+    static final class TokenBucket {
+        private final long emissionIntervalNanos;
+        private final long burstWindowNanos;
+        private final AtomicLong theoreticalArrival;
+
+        TokenBucket(RateLimitProperties.Bucket limit) {
+            this.emissionIntervalNanos = (long) (1_000_000_000L / Math.max(limit.ratePerSecond(), 1e-3));
+            this.burstWindowNanos = emissionIntervalNanos * Math.max(1, limit.burst());
+            this.theoreticalArrival = new AtomicLong(System.nanoTime() - burstWindowNanos);
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise how long until one is available
+         */
+        long tryAcquire(long now) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                long ahead = next - now;
+                if (ahead > burstWindowNanos) {
+                    return ahead - burstWindowNanos;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean idleSince(long now, long idleNanos) {
+            return now - theoreticalArrival.get() > idleNanos;
+        }
+    }
+}
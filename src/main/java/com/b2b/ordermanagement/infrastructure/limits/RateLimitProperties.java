@@ -0,0 +1,36 @@
+package com.b2b.ordermanagement.infrastructure.limits;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-partner token buckets. {@code create} and {@code status-change} are the defaults;
+ * {@code partners.<partnerId>.create|status-change} override them for one partner.
+ */
+@ConfigurationProperties(prefix = "orders.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue Bucket create,
+        @DefaultValue Bucket statusChange,
+        Map<String, PartnerOverride> partners
+) {
+
+    public RateLimitProperties {
+        partners = partners != null ? Map.copyOf(partners) : Map.of();
+    }
+
+    /**
+     * @param ratePerSecond sustained requests per second
+     * @param burst         requests accepted back to back from a full bucket
+     */
+    public record Bucket(
+            @DefaultValue("20") double ratePerSecond,
+            @DefaultValue("40") int burst
+    ) {}
+
+    public record PartnerOverride(Bucket create, Bucket statusChange) {}
+}
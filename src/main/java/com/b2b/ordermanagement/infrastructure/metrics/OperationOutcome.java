@@ -0,0 +1,53 @@
+package com.b2b.ordermanagement.infrastructure.metrics;
+
+import com.b2b.ordermanagement.shared.exceptions.BusinessException;
+import com.b2b.ordermanagement.shared.exceptions.InsufficientCreditException;
+import com.b2b.ordermanagement.shared.exceptions.RateLimitExceededException;
+import com.b2b.ordermanagement.shared.exceptions.ResourceNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.util.Locale;
+
+public enum OperationOutcome {
+    SUCCESS,
+    INSUFFICIENT_CREDIT,
+    NOT_FOUND,
+    CONFLICT,
+    REJECTED,
+    THROTTLED,
+    ERROR;
+
+    private final String tagValue = name().toLowerCase(Locale.ROOT);
+
+    public String tagValue() {
+        return tagValue;
+    }
+
+    public static OperationOutcome of(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof InsufficientCreditException) {
+                return INSUFFICIENT_CREDIT;
+            }
+            if (current instanceof ResourceNotFoundException) {
+                return NOT_FOUND;
+            }
+            if (current instanceof ConcurrencyFailureException
+                    || current instanceof OptimisticLockException
+                    || current instanceof PessimisticLockException) {
+                return CONFLICT;
+            }
+            if (current instanceof RateLimitExceededException) {
+                return THROTTLED;
+            }
+            if (current instanceof BusinessException) {
+                return REJECTED;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return ERROR;
+    }
+}
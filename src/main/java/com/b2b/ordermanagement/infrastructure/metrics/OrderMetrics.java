@@ -0,0 +1,211 @@
+package com.b2b.ordermanagement.infrastructure.metrics;
+
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer instruments for the order lifecycle.
+ *
+ * <p>Operation timers and outcome counters are registered on first use, so only the
+ * operation and outcome pairs that actually occur become series. Every timer and summary
+ * publishes a percentile histogram only: its buckets aggregate across instances in
+ * Prometheus, which client-side percentiles cannot, and skipping them keeps each series to
+ * one set of buckets.</p>
+ *
+ * <p>Request-path measurements are dropped while a warm-up request is being served, so
+ * cold-start latencies and rolled-back writes stay out of the dashboards.</p>
+ */
+@Component
+public class OrderMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> operationCounters = new ConcurrentHashMap<>();
+    private final Map<LockTarget, Timer> lockWaitTimers = new EnumMap<>(LockTarget.class);
+    private final Map<String, Timer> notificationTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> retryCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalescingCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> countTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> processingBatchTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> processedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> processingLagTimers = new ConcurrentHashMap<>();
+    private final DistributionSummary itemsPerOrder;
+    private final DistributionSummary orderAmount;
+
+    public enum LockTarget {
+        ORDER, PARTNER
+    }
+
+    public OrderMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        for (LockTarget target : LockTarget.values()) {
+            lockWaitTimers.put(target, Timer.builder("orders.lock.wait")
+                    .description("Time spent waiting for a pessimistic row lock")
+                    .tag("entity", target.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+
+        this.itemsPerOrder = DistributionSummary.builder("orders.items")
+                .description("Number of items per created order")
+                .baseUnit("items")
+                .publishPercentileHistogram()
+                .register(registry);
+
+        this.orderAmount = DistributionSummary.builder("orders.amount")
+                .description("Total amount per created order")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void recordOperation(OrderOperation operation, OperationOutcome outcome, long elapsedNanos) {
+        if (WarmupSession.isWarmupRequest()) {
+            return;
+        }
+        String key = operation.tagValue() + '|' + outcome.tagValue();
+        operationTimers.computeIfAbsent(key, k -> Timer.builder("orders.operation")
+                        .description("Latency of order lifecycle operations")
+                        .tag("operation", operation.tagValue())
+                        .tag("outcome", outcome.tagValue())
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        operationCounters.computeIfAbsent(key, k -> Counter.builder("orders.operation.outcomes")
+                        .description("Order lifecycle operations by outcome")
+                        .tag("operation", operation.tagValue())
+                        .tag("outcome", outcome.tagValue())
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Records a successful {@code operation} started at {@code startNanos} once its
+     * transaction has finished, so the timing includes the commit and a failed commit counts
+     * as an error. Records immediately when no transaction is active.
+     */
+    public void recordOperationOnCompletion(OrderOperation operation, long startNanos) {
+        if (WarmupSession.isWarmupRequest()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordOperation(operation, OperationOutcome.SUCCESS, System.nanoTime() - startNanos);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                recordOperation(operation, status == STATUS_COMMITTED ? OperationOutcome.SUCCESS : OperationOutcome.ERROR,
+                        System.nanoTime() - startNanos);
+            }
+        });
+    }
+
+    public void recordOrderShape(int itemCount, BigDecimal totalAmount) {
+        if (WarmupSession.isWarmupRequest()) {
+            return;
+        }
+        itemsPerOrder.record(itemCount);
+        if (totalAmount != null) {
+            orderAmount.record(totalAmount.doubleValue());
+        }
+    }
+
+    public void recordLockWait(LockTarget target, long elapsedNanos) {
+        if (WarmupSession.isWarmupRequest()) {
+            return;
+        }
+        lockWaitTimers.get(target).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordNotification(String topic, boolean sent, long elapsedNanos) {
+        if (WarmupSession.isWarmupRequest()) {
+            return;
+        }
+        String result = sent ? "sent" : "failed";
+        notificationTimers.computeIfAbsent(topic + '|' + result, key -> Timer.builder("orders.notification.send")
+                        .description("Latency of order notification publishing")
+                        .tag("topic", topic)
+                        .tag("result", result)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetry(String operation, String result) {
+        if (WarmupSession.isWarmupRequest()) {
+            return;
+        }
+        retryCounters.computeIfAbsent(operation + '|' + result, key -> Counter.builder("orders.retry")
+                        .description("Retries of transactional operations after transient conflicts")
+                        .tag("operation", operation)
+                        .tag("result", result)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * @param result {@code executed}, {@code joined} an identical in-flight call, or
+     *               {@code timed_out} waiting for it and executed after all
+     */
+    public void recordCoalescing(String operation, String result) {
+        if (WarmupSession.isWarmupRequest()) {
+            return;
+        }
+        coalescingCounters.computeIfAbsent(operation + '|' + result, key -> Counter.builder("orders.coalesced.calls")
+                        .description("Reads executed, joined to an identical in-flight call, or run after waiting too long")
+                        .tag("operation", operation)
+                        .tag("result", result)
+                        .register(registry))
+                .increment();
+    }
+
+    public void recordCount(String resource, String strategy, long elapsedNanos) {
+        if (WarmupSession.isWarmupRequest()) {
+            return;
+        }
+        countTimers.computeIfAbsent(resource + '|' + strategy, key -> Timer.builder("pagination.count")
+                        .description("Latency of computing listing totals by count strategy")
+                        .tag("resource", resource)
+                        .tag("strategy", strategy)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordProcessedBatch(String stage, int orders, long elapsedNanos) {
+        processingBatchTimers.computeIfAbsent(stage, key -> Timer.builder("orders.processing.batch")
+                        .description("Latency of claiming, processing and committing one background batch")
+                        .tag("stage", stage)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        processedCounters.computeIfAbsent(stage, key -> Counter.builder("orders.processing.processed")
+                        .description("Orders moved on by background processing")
+                        .tag("stage", stage)
+                        .register(registry))
+                .increment(orders);
+    }
+
+    public void recordProcessingLag(String stage, long lagNanos) {
+        processingLagTimers.computeIfAbsent(stage, key -> Timer.builder("orders.processing.lag")
+                        .description("Time orders waited in a stage's source status before being claimed")
+                        .tag("stage", stage)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(Math.max(0, lagNanos), TimeUnit.NANOSECONDS);
+    }
+}
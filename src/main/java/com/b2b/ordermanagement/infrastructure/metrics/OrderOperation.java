@@ -0,0 +1,24 @@
+package com.b2b.ordermanagement.infrastructure.metrics;
+
+public enum OrderOperation {
+    CREATE_ORDER("createOrder"),
+    APPROVE_ORDER("approveOrder"),
+    CANCEL_ORDER("cancelOrder"),
+    PROCESS_ORDER("processOrder"),
+    SHIP_ORDER("shipOrder"),
+    DELIVER_ORDER("deliverOrder"),
+    EXPIRE_ORDERS("expireOrders"),
+    ADVANCE_ORDERS("advanceOrders"),
+    DEBIT_CREDIT("debitCredit"),
+    RESTORE_CREDIT("restoreCredit");
+
+    private final String tagValue;
+
+    OrderOperation(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
@@ -0,0 +1,209 @@
+package com.b2b.ordermanagement.infrastructure.processing;
+
+import com.b2b.ordermanagement.application.services.OrderService;
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the {@link OrderStage}s on a pool of worker threads. Each worker repeatedly claims
+ * a batch per stage with {@code FOR UPDATE SKIP LOCKED}, processes it and moves it on in
+ * one transaction, so a batch commits or rolls back as a whole.
+ *
+ * <p>Locked rows are skipped rather than waited on, so workers on this instance and on any
+ * other instance pointed at the same database claim disjoint batches without blocking each
+ * other; throughput scales by adding workers or nodes. A worker keeps claiming while it
+ * gets full batches and sleeps {@code pollInterval} (with jitter, so idle nodes do not poll
+ * in step) once every stage came back short.</p>
+ *
+ * <p>Publishes {@code orders.processing.processed} and {@code orders.processing.batch} for
+ * throughput, {@code orders.processing.lag} for how long claimed orders had waited, and
+ * {@code orders.processing.backlog} for the orders still waiting, all tagged by stage.</p>
+ */
+@Component
+public class OrderProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderProcessor.class);
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(10);
+
+    private final ProcessingProperties properties;
+    private final List<OrderStage> stages;
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final OrderMetrics orderMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Map<OrderStage, AtomicLong> backlog = new LinkedHashMap<>();
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public OrderProcessor(ProcessingProperties properties,
+                          List<OrderStage> stages,
+                          OrderRepository orderRepository,
+                          OrderService orderService,
+                          OrderMetrics orderMetrics,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry registry) {
+        this(properties, stages, orderRepository, orderService, orderMetrics, transactionManager,
+                registry, Clock.systemDefaultZone());
+    }
+
+    OrderProcessor(ProcessingProperties properties,
+                   List<OrderStage> stages,
+                   OrderRepository orderRepository,
+                   OrderService orderService,
+                   OrderMetrics orderMetrics,
+                   PlatformTransactionManager transactionManager,
+                   MeterRegistry registry,
+                   Clock clock) {
+        this.properties = properties;
+        this.stages = stages.stream().filter(properties::runs).toList();
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.orderMetrics = orderMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+
+        for (OrderStage stage : this.stages) {
+            AtomicLong waiting = new AtomicLong();
+            backlog.put(stage, waiting);
+            Gauge.builder("orders.processing.backlog", waiting, AtomicLong::get)
+                    .description("Orders waiting in a stage's source status, as of the last recount")
+                    .tag("stage", stage.name())
+                    .register(registry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.enabled() || stages.isEmpty() || running) {
+            return;
+        }
+        running = true;
+        workers = Executors.newFixedThreadPool(properties.workers(), workerThreads());
+        for (int i = 0; i < properties.workers(); i++) {
+            workers.submit(this::work);
+        }
+        logger.info("Order processing started with {} workers, batches of {}, stages {}",
+                properties.workers(), properties.batchSize(), stages.stream().map(OrderStage::name).toList());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        workers.shutdown();
+        try {
+            // Workers finish the batch in hand; sleeping ones are woken by the interrupt
+            if (!workers.awaitTermination(SHUTDOWN_GRACE.toMillis(), TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orders.processing.backlog-refresh:PT30S}")
+    public void refreshBacklog() {
+        if (!properties.enabled()) {
+            return;
+        }
+        backlog.forEach((stage, waiting) -> waiting.set(orderRepository.countByStatus(stage.source())));
+    }
+
+    /**
+     * Claims, processes and commits one batch of {@code stage}.
+     *
+     * @return the number of orders claimed
+     */
+    int runBatch(OrderStage stage) {
+        long start = System.nanoTime();
+        BatchResult result = transactionTemplate.execute(status -> {
+            List<Order> claimed = orderRepository.claimByStatus(stage.source().name(), properties.batchSize());
+            if (claimed.isEmpty()) {
+                return new BatchResult(0, 0);
+            }
+            LocalDateTime now = LocalDateTime.now(clock);
+            for (Order order : claimed) {
+                orderMetrics.recordProcessingLag(stage.name(), Duration.between(order.getUpdatedAt(), now).toNanos());
+            }
+            stage.process(claimed);
+
+            // The batch UPDATE flushes the stage's changes and detaches the claimed copies
+            List<String> orderIds = claimed.stream().map(Order::getId).toList();
+            return new BatchResult(claimed.size(), orderService.advanceOrders(orderIds, stage.source(), stage.target()).size());
+        });
+        if (result.advanced() > 0) {
+            orderMetrics.recordProcessedBatch(stage.name(), result.advanced(), System.nanoTime() - start);
+        }
+        return result.claimed();
+    }
+
+    private void work() {
+        while (running) {
+            boolean drained = true;
+            for (OrderStage stage : stages) {
+                try {
+                    if (runBatch(stage) == properties.batchSize()) {
+                        drained = false;
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Order processing stage {} failed, batch rolled back: {}", stage.name(), e.getMessage());
+                }
+            }
+            if (drained && !pause()) {
+                return;
+            }
+        }
+    }
+
+    private boolean pause() {
+        long interval = properties.pollInterval().toMillis();
+        try {
+            Thread.sleep(interval + ThreadLocalRandom.current().nextLong(interval / 4 + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static ThreadFactory workerThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-processor-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record BatchResult(int claimed, int advanced) {}
+}
@@ -0,0 +1,27 @@
+package com.b2b.ordermanagement.infrastructure.processing;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.util.List;
+
+/**
+ * One step of background order processing: orders in {@link #source()} are claimed in
+ * batches, handed to {@link #process} and then moved to {@link #target()}, all in the
+ * claiming transaction. Throwing from {@code process} rolls the whole batch back, so the
+ * orders stay in {@code source} and are claimed again on a later poll.
+ */
+public interface OrderStage {
+
+    String name();
+
+    OrderStatus source();
+
+    OrderStatus target();
+
+    /**
+     * Work to do before the claimed orders move on. The orders are locked for the
+     * duration of the call; changes made to them are flushed with the batch.
+     */
+    void process(List<Order> claimed);
+}
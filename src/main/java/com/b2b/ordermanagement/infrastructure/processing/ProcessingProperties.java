@@ -0,0 +1,39 @@
+package com.b2b.ordermanagement.infrastructure.processing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * @param enabled         run the background processing workers on this instance
+ * @param stages          names of the {@link OrderStage}s to run; empty runs all of them
+ * @param workers         worker threads; each claims and commits its own batches
+ * @param batchSize       orders claimed, processed and committed per transaction
+ * @param pollInterval    how long a worker waits after finding nothing to claim
+ * @param backlogRefresh  how often the per-stage backlog gauges are recounted
+ */
+@ConfigurationProperties(prefix = "orders.processing")
+public record ProcessingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue Set<String> stages,
+        @DefaultValue("4") int workers,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("30s") Duration backlogRefresh
+) {
+    public ProcessingProperties {
+        if (workers < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("orders.processing workers and batch size must be positive");
+        }
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("orders.processing.poll-interval must be positive");
+        }
+        stages = Set.copyOf(stages);
+    }
+
+    boolean runs(OrderStage stage) {
+        return stages.isEmpty() || stages.contains(stage.name());
+    }
+}
@@ -0,0 +1,34 @@
+package com.b2b.ordermanagement.infrastructure.processing;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Marks processed orders as shipped. Booking the carrier belongs in {@link #process};
+ * until then every claimed order ships as soon as it is picked up.
+ */
+@Component
+public class ShipOrdersStage implements OrderStage {
+
+    @Override
+    public String name() {
+        return "ship";
+    }
+
+    @Override
+    public OrderStatus source() {
+        return OrderStatus.PROCESSING;
+    }
+
+    @Override
+    public OrderStatus target() {
+        return OrderStatus.SHIPPED;
+    }
+
+    @Override
+    public void process(List<Order> claimed) {
+    }
+}
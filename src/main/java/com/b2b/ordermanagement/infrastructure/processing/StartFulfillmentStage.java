@@ -0,0 +1,34 @@
+package com.b2b.ordermanagement.infrastructure.processing;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Releases approved orders to fulfilment. Nothing needs doing per order yet; the hand-off
+ * to a warehouse system belongs in {@link #process}.
+ */
+@Component
+public class StartFulfillmentStage implements OrderStage {
+
+    @Override
+    public String name() {
+        return "start-fulfillment";
+    }
+
+    @Override
+    public OrderStatus source() {
+        return OrderStatus.APPROVED;
+    }
+
+    @Override
+    public OrderStatus target() {
+        return OrderStatus.PROCESSING;
+    }
+
+    @Override
+    public void process(List<Order> claimed) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.b2b.ordermanagement.infrastructure.projections;
+
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import com.b2b.ordermanagement.domain.entities.OrderSummary;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps {@code order_summary} in step with the write model. Runs before commit in the
+ * same transaction as the order change, so the projection is never ahead of or behind a
+ * committed order, and a failure here rolls the change back.
+ */
+@Component
+public class OrderSummaryProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderSummaryProjector.class);
+
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    public OrderSummaryProjector(OrderSummaryRepository orderSummaryRepository) {
+        this.orderSummaryRepository = orderSummaryRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderCreatedEvent event) {
+        orderSummaryRepository.save(new OrderSummary(
+                event.orderId(),
+                event.partnerId(),
+                event.status(),
+                event.totalAmount(),
+                event.itemCount(),
+                event.createdAt(),
+                event.updatedAt(),
+                event.version()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderStatusChangedEvent event) {
+        int updated = orderSummaryRepository.applyStatusChange(
+                event.orderId(), event.newStatus(), event.changedAt(), event.version());
+        if (updated == 0) {
+            logger.debug("Order summary {} already at version {} or missing", event.orderId(), event.version());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.b2b.ordermanagement.infrastructure.reconciliation;
+
+import java.math.BigDecimal;
+
+/**
+ * @param expectedAvailable  credit limit minus the total of the partner's orders that hold credit
+ * @param repaired           whether available credit was reset to the expected value
+ */
+public record CreditMismatch(
+        String partnerId,
+        BigDecimal creditLimit,
+        BigDecimal availableCredit,
+        BigDecimal expectedAvailable,
+        boolean repaired
+) {
+    public BigDecimal drift() {
+        return availableCredit.subtract(expectedAvailable);
+    }
+}
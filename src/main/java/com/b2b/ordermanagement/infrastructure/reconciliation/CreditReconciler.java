@@ -0,0 +1,242 @@
+package com.b2b.ordermanagement.infrastructure.reconciliation;
+
+import com.b2b.ordermanagement.domain.entities.Partner;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.PartnerCredit;
+import com.b2b.ordermanagement.infrastructure.repositories.PartnerExposure;
+import com.b2b.ordermanagement.infrastructure.repositories.PartnerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Checks every partner's available credit against its credit limit minus the total of its
+ * orders that hold credit, which drifts when a debit or restore is lost between the order
+ * update and the partner update.
+ *
+ * <p>The sorted partner ids are split recursively on a {@link ForkJoinPool} down to
+ * {@code chunkSize} partners. Each chunk runs two streamed range queries, the per-partner
+ * totals of orders holding credit and the partners' credit columns, in one read-only
+ * repeatable-read transaction, so both come from the same snapshot, and compares them. Chunks are paced by a shared GCRA schedule so a run stays at
+ * {@code partnersPerSecond} however many workers it has.</p>
+ *
+ * <p>A repair re-checks each mismatched partner under the partner row lock that approvals
+ * and cancellations take, so it serializes with them: an approval that has moved its order
+ * but not yet debited either committed before the lock was granted or debits after the
+ * repair commits, and both end consistent.</p>
+ */
+@Component
+public class CreditReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CreditReconciler.class);
+    private static final List<OrderStatus> CREDIT_HOLDING = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::holdsCredit)
+            .toList();
+
+    private final PartnerRepository partnerRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ReconciliationProperties properties;
+
+    public CreditReconciler(PartnerRepository partnerRepository,
+                            OrderRepository orderRepository,
+                            PlatformTransactionManager transactionManager,
+                            ReconciliationProperties properties) {
+        this.partnerRepository = partnerRepository;
+        this.orderRepository = orderRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // Both chunk queries must see one snapshot, or a concurrent approval shows as drift
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    public ReconciliationReport reconcile(int parallelism, boolean repair) {
+        long start = System.nanoTime();
+        Run run = new Run(repair, new Pacer(properties.partnersPerSecond()));
+        List<String> partnerIds = partnerRepository.findAllIds();
+
+        logger.info("Reconciling credit of {} partners with {} workers{}", partnerIds.size(), parallelism,
+                repair ? ", repairing mismatches" : "");
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ChunkTask(run, partnerIds, 0, partnerIds.size()));
+        } finally {
+            pool.shutdown();
+        }
+
+        List<CreditMismatch> reported = run.mismatches.stream()
+                .sorted((a, b) -> b.drift().abs().compareTo(a.drift().abs()))
+                .limit(properties.maxReported())
+                .toList();
+        ReconciliationReport report = new ReconciliationReport(run.checked.sum(), run.mismatches.size(),
+                run.repaired.sum(), run.failedChunks.sum(), reported, parallelism,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.info("Credit reconciliation finished: {} checked, {} mismatched, {} repaired, {} chunks failed",
+                report.partnersChecked(), report.mismatches(), report.repaired(), report.failedChunks());
+        return report;
+    }
+
+    /**
+     * Compares one id-sorted chunk of partners, returning those whose credit is off.
+     */
+    List<CreditMismatch> check(List<String> chunk) {
+        List<CreditMismatch> mismatches = new ArrayList<>();
+        String fromId = chunk.get(0);
+        String toId = chunk.get(chunk.size() - 1);
+        readTransaction.executeWithoutResult(status -> {
+            // At most one total per partner in the chunk; collation order is left to the database
+            Map<String, BigDecimal> openTotals = new HashMap<>();
+            try (Stream<PartnerExposure> totals = orderRepository.streamTotalsByPartner(fromId, toId, CREDIT_HOLDING)) {
+                totals.forEach(total -> openTotals.put(total.partnerId(), total.total()));
+            }
+            try (Stream<PartnerCredit> partners = partnerRepository.streamCreditBetween(fromId, toId)) {
+                partners.forEach(partner -> {
+                    BigDecimal expected = partner.creditLimit()
+                            .subtract(openTotals.getOrDefault(partner.id(), BigDecimal.ZERO));
+                    if (partner.availableCredit().compareTo(expected) != 0) {
+                        mismatches.add(new CreditMismatch(partner.id(), partner.creditLimit(),
+                                partner.availableCredit(), expected, false));
+                    }
+                });
+            }
+        });
+        return mismatches;
+    }
+
+    /**
+     * Recomputes one partner's credit under its row lock and resets it when still off.
+     */
+    CreditMismatch repair(String partnerId) {
+        return writeTransaction.execute(status -> {
+            Partner partner = partnerRepository.findByIdWithLock(partnerId).orElse(null);
+            if (partner == null) {
+                return null;
+            }
+            BigDecimal expected = partner.getCreditLimit().subtract(
+                    orderRepository.sumTotalByPartner(partnerId, CREDIT_HOLDING));
+            if (partner.getAvailableCredit().compareTo(expected) == 0) {
+                return null;
+            }
+            CreditMismatch repaired = new CreditMismatch(partnerId, partner.getCreditLimit(),
+                    partner.getAvailableCredit(), expected, true);
+            partner.setAvailableCredit(expected);
+            partnerRepository.save(partner);
+            logger.warn("Reset available credit of partner {} from {} to {}", partnerId,
+                    repaired.availableCredit(), expected);
+            return repaired;
+        });
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+        private final Run run;
+        private final List<String> partnerIds;
+        private final int from;
+        private final int to;
+
+        ChunkTask(Run run, List<String> partnerIds, int from, int to) {
+            this.run = run;
+            this.partnerIds = partnerIds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > properties.chunkSize()) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(run, partnerIds, from, middle), new ChunkTask(run, partnerIds, middle, to));
+                return;
+            }
+            if (from == to) {
+                return;
+            }
+            List<String> chunk = partnerIds.subList(from, to);
+            try {
+                run.pacer.acquire(chunk.size());
+                List<CreditMismatch> mismatches = check(chunk);
+                run.checked.add(chunk.size());
+                for (CreditMismatch mismatch : mismatches) {
+                    run.mismatches.add(run.repair ? repairOrKeep(mismatch) : mismatch);
+                }
+            } catch (RuntimeException e) {
+                run.failedChunks.increment();
+                logger.error("Credit reconciliation of partners {}..{} failed", chunk.get(0), chunk.get(chunk.size() - 1), e);
+            }
+        }
+
+        private CreditMismatch repairOrKeep(CreditMismatch mismatch) {
+            run.pacer.acquire(1);
+            CreditMismatch repaired = repair(mismatch.partnerId());
+            if (repaired == null) {
+                // Consistent under the lock: the drift was an order change in flight
+                return mismatch;
+            }
+            run.repaired.increment();
+            return repaired;
+        }
+    }
+
+    private static final class Run {
+        final boolean repair;
+        final Pacer pacer;
+        final LongAdder checked = new LongAdder();
+        final LongAdder repaired = new LongAdder();
+        final LongAdder failedChunks = new LongAdder();
+        final ConcurrentLinkedQueue<CreditMismatch> mismatches = new ConcurrentLinkedQueue<>();
+
+        Run(boolean repair, Pacer pacer) {
+            this.repair = repair;
+            this.pacer = pacer;
+        }
+    }
+
+    /**
+     * Blocking GCRA: each acquisition moves the theoretical arrival time forward by one
+     * emission interval per permit and sleeps until its own slot comes up.
+     */
+    static final class Pacer {
+        private final long emissionIntervalNanos;
+        private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+        Pacer(double permitsPerSecond) {
+            this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        }
+
+        void acquire(int permits) {
+            long now = System.nanoTime();
+            long cost = emissionIntervalNanos * permits;
+            long slot = Math.max(theoreticalArrival.getAndAccumulate(now, (current, at) -> Math.max(current, at) + cost), now);
+            long wait = slot - now;
+            if (wait <= 0) {
+                return;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Credit reconciliation interrupted", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.b2b.ordermanagement.infrastructure.reconciliation;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports partners whose available credit does not match their open orders; the write
+ * operation also repairs them. Both accept an optional {@code parallelism}; defaults to
+ * {@code orders.credit-reconciliation.parallelism}. Exposed over JMX only, since a repair
+ * rewrites partner credit.
+ */
+@Component
+@Endpoint(id = "creditreconciliation")
+public class CreditReconciliationEndpoint {
+
+    private final CreditReconciler reconciler;
+    private final int defaultParallelism;
+
+    public CreditReconciliationEndpoint(CreditReconciler reconciler, ReconciliationProperties properties) {
+        this.reconciler = reconciler;
+        this.defaultParallelism = properties.parallelism();
+    }
+
+    @ReadOperation
+    public ReconciliationReport check(@Nullable Integer parallelism) {
+        return reconciler.reconcile(workers(parallelism), false);
+    }
+
+    @WriteOperation
+    public ReconciliationReport repair(@Nullable Integer parallelism) {
+        return reconciler.reconcile(workers(parallelism), true);
+    }
+
+    private int workers(Integer parallelism) {
+        return parallelism != null && parallelism > 0 ? parallelism : defaultParallelism;
+    }
+}
@@ -0,0 +1,27 @@
+package com.b2b.ordermanagement.infrastructure.reconciliation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param parallelism        default fork-join parallelism of a reconciliation run
+ * @param chunkSize          partners checked per query and transaction
+ * @param partnersPerSecond  pace of a run across all workers; repairs count one partner each
+ * @param maxReported        mismatches listed in a report; all of them are counted
+ */
+@ConfigurationProperties(prefix = "orders.credit-reconciliation")
+public record ReconciliationProperties(
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("2000") double partnersPerSecond,
+        @DefaultValue("100") int maxReported
+) {
+    public ReconciliationProperties {
+        if (parallelism < 1 || chunkSize < 1 || maxReported < 0) {
+            throw new IllegalArgumentException("orders.credit-reconciliation parallelism and chunk size must be positive");
+        }
+        if (partnersPerSecond <= 0) {
+            throw new IllegalArgumentException("orders.credit-reconciliation.partners-per-second must be positive");
+        }
+    }
+}
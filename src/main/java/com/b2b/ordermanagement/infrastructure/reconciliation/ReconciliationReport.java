@@ -0,0 +1,13 @@
+package com.b2b.ordermanagement.infrastructure.reconciliation;
+
+import java.util.List;
+
+public record ReconciliationReport(
+        long partnersChecked,
+        long mismatches,
+        long repaired,
+        long failedChunks,
+        List<CreditMismatch> reported,
+        int parallelism,
+        long elapsedMillis
+) {}
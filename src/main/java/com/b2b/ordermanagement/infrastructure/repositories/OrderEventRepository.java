@@ -0,0 +1,38 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.domain.entities.OrderEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderEventRepository extends JpaRepository<OrderEvent, Long> {
+
+    List<OrderEvent> findByOrderIdOrderBySequenceAsc(String orderId);
+
+    List<OrderEvent> findByOrderIdAndSequenceGreaterThanOrderBySequenceAsc(String orderId, long sequence);
+
+    /**
+     * Events of {@code orderIds} not yet folded into their snapshot (all of them for orders
+     * without one), by order and sequence.
+     */
+    @Query("""
+            SELECT e FROM OrderEvent e
+              LEFT JOIN OrderSnapshot s ON s.orderId = e.orderId
+             WHERE e.orderId IN :orderIds
+               AND (s.orderId IS NULL OR e.sequence > s.sequence)
+             ORDER BY e.orderId, e.sequence
+            """)
+    List<OrderEvent> findAfterSnapshotByOrderIdIn(@Param("orderIds") Collection<String> orderIds);
+
+    /**
+     * Keyset page over the distinct order ids in the log, strictly after {@code after}.
+     */
+    @Query("SELECT DISTINCT e.orderId FROM OrderEvent e WHERE e.orderId > :after ORDER BY e.orderId")
+    List<String> findOrderIdsAfter(@Param("after") String after, Pageable pageable);
+}
@@ -2,27 +2,129 @@ package com.b2b.ordermanagement.infrastructure.repositories;
 
 import com.b2b.ordermanagement.domain.entities.Order;
 import com.b2b.ordermanagement.domain.enums.OrderStatus;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, String> {
+public interface OrderRepository extends JpaRepository<Order, String>, OrderTransitions {
 
     List<Order> findAll();
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT o FROM Order o WHERE o.id = :id")
-    Optional<Order> findByIdWithLock(@Param("id") String id);
+    /**
+     * Claims up to {@code limit} orders in {@code status}, longest waiting first, locking
+     * them until the caller's transaction ends. Rows locked by other workers are skipped
+     * rather than waited on, so concurrent claimers on any node get disjoint batches.
+     */
+    @Query(value = """
+            SELECT *
+              FROM orders
+             WHERE status = :status
+             ORDER BY updated_at
+             LIMIT :limit
+               FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Order> claimByStatus(@Param("status") String status, @Param("limit") int limit);
+
+    /**
+     * Claims up to {@code limit} ids of orders in {@code statuses} last changed before
+     * {@code updatedBefore}, oldest first, locked until the caller's transaction ends and
+     * skipping rows other transactions hold.
+     */
+    @Query(value = """
+            SELECT id
+              FROM orders
+             WHERE status IN (:statuses)
+               AND updated_at < :updatedBefore
+             ORDER BY updated_at
+             LIMIT :limit
+               FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<String> claimArchivable(@Param("statuses") Collection<String> statuses,
+                                 @Param("updatedBefore") LocalDateTime updatedBefore,
+                                 @Param("limit") int limit);
+
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<Order> findWithItemsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Records the products of orders about to be archived, so product listings still find
+     * them once their items are deleted. Orders indexed by an earlier, rolled-back run are
+     * left as they are.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO archived_order_products (product_id, order_id)
+            SELECT DISTINCT i.product_id, i.order_id FROM order_items i WHERE i.order_id IN (:ids)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int indexArchivedProducts(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM order_items WHERE order_id IN (:ids)", nativeQuery = true)
+    int deleteItemsByOrderIdIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM orders WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Total of the orders in {@code statuses} per partner with id in [{@code fromId},
+     * {@code toId}], by partner id; partners without such orders are left out. Streamed,
+     * so it needs an open transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.b2b.ordermanagement.infrastructure.repositories.PartnerExposure(o.partnerId, SUM(o.totalAmount))
+              FROM Order o
+             WHERE o.partnerId BETWEEN :fromId AND :toId
+               AND o.status IN :statuses
+             GROUP BY o.partnerId
+             ORDER BY o.partnerId
+            """)
+    Stream<PartnerExposure> streamTotalsByPartner(@Param("fromId") String fromId,
+                                                  @Param("toId") String toId,
+                                                  @Param("statuses") Collection<OrderStatus> statuses);
+
+    @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM Order o WHERE o.partnerId = :partnerId AND o.status IN :statuses")
+    BigDecimal sumTotalByPartner(@Param("partnerId") String partnerId,
+                                 @Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * Keyset page of PENDING orders created after ({@code afterCreatedAt}, {@code afterId}),
+     * oldest first; served by the (status, created_at) index.
+     */
+    @Query("""
+            SELECT new com.b2b.ordermanagement.infrastructure.repositories.PendingOrder(o.id, o.createdAt)
+              FROM Order o
+             WHERE o.status = com.b2b.ordermanagement.domain.enums.OrderStatus.PENDING
+               AND (o.createdAt > :afterCreatedAt OR (o.createdAt = :afterCreatedAt AND o.id > :afterId))
+             ORDER BY o.createdAt, o.id
+            """)
+    List<PendingOrder> findPendingAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                        @Param("afterId") String afterId,
+                                        Pageable pageable);
+
+    @Query("SELECT o.status FROM Order o WHERE o.id = :id")
+    Optional<OrderStatus> findStatusById(@Param("id") String id);
+
+    @Query("SELECT o.partnerId FROM Order o WHERE o.id = :id")
+    Optional<String> findPartnerIdById(@Param("id") String id);
 
     @Query("SELECT COUNT(o) FROM Order o WHERE o.status = :status")
     long countByStatus(@Param("status") OrderStatus status);
@@ -0,0 +1,9 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.domain.entities.OrderSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderSnapshotRepository extends JpaRepository<OrderSnapshot, String> {
+}
@@ -0,0 +1,20 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.application.interfaces.OrderFilterParams;
+import com.b2b.ordermanagement.domain.entities.OrderSummary;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Filtered {@code order_summary} reads where the page content and its total are
+ * separate queries, so the caller chooses how (and whether) to count.
+ */
+public interface OrderSummaryQueries {
+
+    List<OrderSummary> findMatching(OrderFilterParams filters, Pageable pageable);
+
+    long countMatching(OrderFilterParams filters);
+
+    long estimateMatching(OrderFilterParams filters);
+}
@@ -0,0 +1,96 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.application.interfaces.OrderFilterParams;
+import com.b2b.ordermanagement.domain.entities.OrderSummary;
+import com.b2b.ordermanagement.infrastructure.counting.PlannerEstimator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+public class OrderSummaryQueriesImpl implements OrderSummaryQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final PlannerEstimator plannerEstimator;
+
+    public OrderSummaryQueriesImpl(PlannerEstimator plannerEstimator) {
+        this.plannerEstimator = plannerEstimator;
+    }
+
+    @Override
+    public List<OrderSummary> findMatching(OrderFilterParams filters, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderSummary> query = cb.createQuery(OrderSummary.class);
+        Root<OrderSummary> summary = query.from(OrderSummary.class);
+        query.select(summary).where(predicates(cb, summary, filters));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), summary, cb));
+        }
+
+        TypedQuery<OrderSummary> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        return typed.getResultList();
+    }
+
+    @Override
+    public long countMatching(OrderFilterParams filters) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<OrderSummary> summary = query.from(OrderSummary.class);
+        query.select(cb.count(summary)).where(predicates(cb, summary, filters));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Same predicates as {@link #countMatching}, written as SQL for {@code EXPLAIN}.
+     */
+    @Override
+    public long estimateMatching(OrderFilterParams filters) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (filters.hasPartnerId()) {
+            where.add("partner_id = :partnerId");
+            parameters.put("partnerId", filters.getPartnerId());
+        }
+        if (filters.hasStatus()) {
+            where.add("status = :status");
+            parameters.put("status", filters.getStatus().name());
+        }
+        if (filters.hasDateRange()) {
+            where.add("created_at BETWEEN :startDate AND :endDate");
+            parameters.put("startDate", filters.getStartDate());
+            parameters.put("endDate", filters.getEndDate());
+        }
+        return plannerEstimator.estimate("SELECT 1 FROM order_summary" + where, parameters);
+    }
+
+    private static Predicate[] predicates(CriteriaBuilder cb, Root<OrderSummary> summary, OrderFilterParams filters) {
+        List<Predicate> predicates = new ArrayList<>(3);
+        if (filters.hasPartnerId()) {
+            predicates.add(cb.equal(summary.get("partnerId"), filters.getPartnerId()));
+        }
+        if (filters.hasStatus()) {
+            predicates.add(cb.equal(summary.get("status"), filters.getStatus()));
+        }
+        if (filters.hasDateRange()) {
+            predicates.add(cb.between(summary.get("createdAt"), filters.getStartDate(), filters.getEndDate()));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+}
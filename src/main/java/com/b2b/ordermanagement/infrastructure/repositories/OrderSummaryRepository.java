@@ -0,0 +1,137 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.application.dto.StatusTotalsDTO;
+import com.b2b.ordermanagement.domain.entities.OrderSummary;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, String>, OrderSummaryQueries {
+
+    /**
+     * Applies a status change unless the row already reflects {@code version} or later,
+     * so duplicated or replayed events are no-ops.
+     */
+    @Modifying
+    @Query("""
+            UPDATE OrderSummary s
+               SET s.status = :status, s.updatedAt = :updatedAt, s.orderVersion = :version
+             WHERE s.id = :id AND s.orderVersion < :version
+            """)
+    int applyStatusChange(@Param("id") String id,
+                          @Param("status") OrderStatus status,
+                          @Param("updatedAt") LocalDateTime updatedAt,
+                          @Param("version") long version);
+
+    /**
+     * Inserts or overwrites a summary row rebuilt from the event log, unless the stored row
+     * already reflects a later order version.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO order_summary (id, partner_id, status, total_amount, item_count,
+                                       created_at, updated_at, order_version)
+            VALUES (:#{#s.id}, :#{#s.partnerId}, :#{#s.status.name()}, :#{#s.totalAmount}, :#{#s.itemCount},
+                    :#{#s.createdAt}, :#{#s.updatedAt}, :#{#s.orderVersion})
+            ON CONFLICT (id) DO UPDATE
+               SET partner_id = EXCLUDED.partner_id,
+                   status = EXCLUDED.status,
+                   total_amount = EXCLUDED.total_amount,
+                   item_count = EXCLUDED.item_count,
+                   created_at = EXCLUDED.created_at,
+                   updated_at = EXCLUDED.updated_at,
+                   order_version = EXCLUDED.order_version
+             WHERE order_summary.order_version <= EXCLUDED.order_version
+            """, nativeQuery = true)
+    int upsert(@Param("s") OrderSummary summary);
+
+    List<OrderSummary> findTop10ByPartnerIdOrderByCreatedAtDesc(String partnerId);
+
+    /**
+     * A partner's orders created in [{@code from}, {@code to}), oldest first, read through
+     * the (partner_id, created_at) index and streamed as unmanaged rows, so a partner with
+     * many orders costs one cursor rather than a persistence context full of entities.
+     * Needs an open transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.b2b.ordermanagement.infrastructure.repositories.StatementLine(
+                       s.id, s.status, s.totalAmount, s.itemCount, s.createdAt, s.updatedAt)
+              FROM OrderSummary s
+             WHERE s.partnerId = :partnerId
+               AND s.createdAt >= :from
+               AND s.createdAt < :to
+             ORDER BY s.createdAt, s.id
+            """)
+    Stream<StatementLine> streamStatement(@Param("partnerId") String partnerId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    /**
+     * First keyset page of the orders containing {@code productId}. The product's order ids
+     * come from the (product_id, order_id) index on live items and from the archived
+     * products, and the date range is applied in the same statement. An empty {@code partnerId} or {@code status} means "any".
+     */
+    @Query(value = """
+            SELECT s.* FROM order_summary s
+             WHERE s.id IN (SELECT i.order_id FROM order_items i WHERE i.product_id = :productId
+                            UNION ALL
+                            SELECT a.order_id FROM archived_order_products a WHERE a.product_id = :productId)
+               AND s.created_at BETWEEN :startDate AND :endDate
+               AND (:partnerId = '' OR s.partner_id = :partnerId)
+               AND (:status = '' OR s.status = :status)
+             ORDER BY s.created_at DESC, s.id DESC
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<OrderSummary> findFirstByProduct(@Param("productId") String productId,
+                                          @Param("partnerId") String partnerId,
+                                          @Param("status") String status,
+                                          @Param("startDate") LocalDateTime startDate,
+                                          @Param("endDate") LocalDateTime endDate,
+                                          @Param("limit") int limit);
+
+    /**
+     * Keyset page after ({@code afterCreatedAt}, {@code afterId}), same filters as
+     * {@link #findFirstByProduct}.
+     */
+    @Query(value = """
+            SELECT s.* FROM order_summary s
+             WHERE s.id IN (SELECT i.order_id FROM order_items i WHERE i.product_id = :productId
+                            UNION ALL
+                            SELECT a.order_id FROM archived_order_products a WHERE a.product_id = :productId)
+               AND s.created_at BETWEEN :startDate AND :endDate
+               AND (s.created_at, s.id) < (:afterCreatedAt, :afterId)
+               AND (:partnerId = '' OR s.partner_id = :partnerId)
+               AND (:status = '' OR s.status = :status)
+             ORDER BY s.created_at DESC, s.id DESC
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<OrderSummary> findByProductAfter(@Param("productId") String productId,
+                                          @Param("partnerId") String partnerId,
+                                          @Param("status") String status,
+                                          @Param("startDate") LocalDateTime startDate,
+                                          @Param("endDate") LocalDateTime endDate,
+                                          @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                          @Param("afterId") String afterId,
+                                          @Param("limit") int limit);
+
+    @Query("""
+            SELECT new com.b2b.ordermanagement.application.dto.StatusTotalsDTO(s.status, COUNT(s), SUM(s.totalAmount))
+              FROM OrderSummary s
+             WHERE s.partnerId = :partnerId
+             GROUP BY s.status
+            """)
+    List<StatusTotalsDTO> totalsByStatus(@Param("partnerId") String partnerId);
+}
@@ -0,0 +1,39 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Status changes applied with one conditional {@code UPDATE ... RETURNING *}. Each call
+ * flushes and clears the persistence context first, so the orders it returns are freshly
+ * mapped from the updated rows and stay managed; entities the caller loaded earlier in the
+ * transaction are detached by it.
+ */
+public interface OrderTransitions {
+
+    /**
+     * Validates and applies a status transition in a single round trip: the row is only
+     * updated when its current status is one of {@code sources}, and the updated row
+     * (with {@code previous_status} holding the status it came from) is returned.
+     * An empty result means the order does not exist or is in a status that does not
+     * allow the transition.
+     */
+    Optional<Order> transitionStatus(String id, String target, Collection<String> sources, LocalDateTime updatedAt);
+
+    /**
+     * Cancels in one statement those of {@code ids} that are still PENDING and were created
+     * at or before {@code createdBefore}. Only the rows this call changed are returned, so
+     * when several instances expire the same orders each one is reported exactly once.
+     */
+    List<Order> expirePending(Collection<String> ids, LocalDateTime createdBefore, LocalDateTime updatedAt);
+
+    /**
+     * Moves those of {@code ids} still in {@code source} to {@code target} in one statement,
+     * returning the rows changed with {@code previous_status} set.
+     */
+    List<Order> transitionAll(Collection<String> ids, String source, String target, LocalDateTime updatedAt);
+}
@@ -0,0 +1,81 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class OrderTransitionsImpl implements OrderTransitions {
+
+    private static final String TRANSITION_STATUS = """
+            UPDATE orders
+               SET previous_status = status,
+                   status = :target,
+                   updated_at = :updatedAt,
+                   version = version + 1
+             WHERE id = :id
+               AND status IN (:sources)
+            RETURNING *
+            """;
+
+    private static final String EXPIRE_PENDING = """
+            UPDATE orders
+               SET previous_status = status,
+                   status = 'CANCELLED',
+                   updated_at = :updatedAt,
+                   version = version + 1
+             WHERE id IN (:ids)
+               AND status = 'PENDING'
+               AND created_at <= :createdBefore
+            RETURNING *
+            """;
+
+    private static final String TRANSITION_ALL = """
+            UPDATE orders
+               SET previous_status = status,
+                   status = :target,
+                   updated_at = :updatedAt,
+                   version = version + 1
+             WHERE id IN (:ids)
+               AND status = :source
+            RETURNING *
+            """;
+
+    private final EntityManager entityManager;
+
+    public OrderTransitionsImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<Order> transitionStatus(String id, String target, Collection<String> sources, LocalDateTime updatedAt) {
+        return returning(TRANSITION_STATUS, Map.of("id", id, "target", target, "sources", sources, "updatedAt", updatedAt))
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<Order> expirePending(Collection<String> ids, LocalDateTime createdBefore, LocalDateTime updatedAt) {
+        return returning(EXPIRE_PENDING, Map.of("ids", ids, "createdBefore", createdBefore, "updatedAt", updatedAt));
+    }
+
+    @Override
+    public List<Order> transitionAll(Collection<String> ids, String source, String target, LocalDateTime updatedAt) {
+        return returning(TRANSITION_ALL, Map.of("ids", ids, "source", source, "target", target, "updatedAt", updatedAt));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Order> returning(String sql, Map<String, Object> parameters) {
+        // Pending changes must reach the rows before the UPDATE reads them, and a managed
+        // copy of a returned row would be handed back as is, with its old status and version
+        entityManager.flush();
+        entityManager.clear();
+        Query query = entityManager.createNativeQuery(sql, Order.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,5 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import java.math.BigDecimal;
+
+public record PartnerCredit(String id, BigDecimal creditLimit, BigDecimal availableCredit) {}
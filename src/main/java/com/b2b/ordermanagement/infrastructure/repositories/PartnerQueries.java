@@ -0,0 +1,8 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.application.interfaces.PartnerFilterParams;
+
+public interface PartnerQueries {
+
+    long estimateMatching(PartnerFilterParams filters);
+}
@@ -0,0 +1,24 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.application.interfaces.PartnerFilterParams;
+import com.b2b.ordermanagement.infrastructure.counting.PlannerEstimator;
+
+import java.util.Map;
+
+public class PartnerQueriesImpl implements PartnerQueries {
+
+    private final PlannerEstimator plannerEstimator;
+
+    public PartnerQueriesImpl(PlannerEstimator plannerEstimator) {
+        this.plannerEstimator = plannerEstimator;
+    }
+
+    @Override
+    public long estimateMatching(PartnerFilterParams filters) {
+        if (filters.hasDateRange()) {
+            return plannerEstimator.estimate("SELECT 1 FROM partners WHERE created_at BETWEEN :startDate AND :endDate",
+                    Map.of("startDate", filters.getStartDate(), "endDate", filters.getEndDate()));
+        }
+        return plannerEstimator.estimate("SELECT 1 FROM partners", Map.of());
+    }
+}
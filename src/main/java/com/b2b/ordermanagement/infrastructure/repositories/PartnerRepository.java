@@ -7,16 +7,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface PartnerRepository extends JpaRepository<Partner, String> {
+public interface PartnerRepository extends JpaRepository<Partner, String>, PartnerQueries {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Partner p WHERE p.id = :id")
@@ -26,4 +31,29 @@ public interface PartnerRepository extends JpaRepository<Partner, String> {
 
     @Query("SELECT o FROM Partner o WHERE o.createdAt BETWEEN :startDate AND :endDate ORDER BY o.createdAt DESC")
     Page<Partner> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,@Param("endDate") LocalDateTime endDate, Pageable pageable);
+
+    // Page content only; the caller decides how to count
+    @Query("SELECT p FROM Partner p")
+    List<Partner> findPage(Pageable pageable);
+
+    @Query("SELECT o FROM Partner o WHERE o.createdAt BETWEEN :startDate AND :endDate")
+    List<Partner> findPageByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,@Param("endDate") LocalDateTime endDate, Pageable pageable);
+
+    long countByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT p.id FROM Partner p ORDER BY p.id")
+    List<String> findAllIds();
+
+    /**
+     * Credit columns of the partners with ids in [{@code fromId}, {@code toId}], by id,
+     * streamed so a large range is never held in memory. Needs an open transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.b2b.ordermanagement.infrastructure.repositories.PartnerCredit(p.id, p.creditLimit, p.availableCredit)
+              FROM Partner p
+             WHERE p.id BETWEEN :fromId AND :toId
+             ORDER BY p.id
+            """)
+    Stream<PartnerCredit> streamCreditBetween(@Param("fromId") String fromId, @Param("toId") String toId);
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import java.time.LocalDateTime;
+
+public record PendingOrder(String id, LocalDateTime createdAt) {}
@@ -0,0 +1,15 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record StatementLine(
+        String orderId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        int itemCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
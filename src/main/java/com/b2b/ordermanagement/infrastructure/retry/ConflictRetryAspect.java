@@ -0,0 +1,93 @@
+package com.b2b.ordermanagement.infrastructure.retry;
+
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import com.b2b.ordermanagement.shared.exceptions.ConflictException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Re-runs {@link RetryOnConflict} methods on transient conflicts with capped exponential
+ * backoff and full jitter. Ordered just outside the transaction interceptor so each attempt
+ * gets its own transaction; when the call already joins an outer transaction the conflict
+ * is propagated untouched, because that transaction is rolled back anyway. All attempts of
+ * one call share a {@link RetryScope}, so once-per-call side effects are not repeated.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConflictRetryAspect.class);
+
+    private final RetryProperties properties;
+    private final OrderMetrics orderMetrics;
+
+    public ConflictRetryAspect(RetryProperties properties, OrderMetrics orderMetrics) {
+        this.properties = properties;
+        this.orderMetrics = orderMetrics;
+    }
+
+    @Around("@annotation(com.b2b.ordermanagement.infrastructure.retry.RetryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String operation = joinPoint.getSignature().getName();
+        int maxAttempts = Math.max(1, properties.maxAttempts());
+
+        Set<String> outer = RetryScope.open();
+        try {
+            return proceedWithRetries(joinPoint, operation, maxAttempts);
+        } finally {
+            RetryScope.close(outer);
+        }
+    }
+
+    private Object proceedWithRetries(ProceedingJoinPoint joinPoint, String operation, int maxAttempts) throws Throwable {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+                if (attempt > 1) {
+                    orderMetrics.recordRetry(operation, "recovered");
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (!TransientConflicts.isRetryable(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    orderMetrics.recordRetry(operation, "exhausted");
+                    logger.warn("Giving up on {} after {} attempts due to concurrent modification", operation, attempt);
+                    throw new ConflictException("Concurrent modification detected, please retry", e);
+                }
+                orderMetrics.recordRetry(operation, "retried");
+                logger.debug("Transient conflict in {} (attempt {}/{}): {}", operation, attempt, maxAttempts, e.getMessage());
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, RuntimeException cause) {
+        long initial = properties.initialBackoff().toMillis();
+        long cap = properties.maxBackoff().toMillis();
+        long ceiling = Math.min(cap, initial << Math.min(attempt - 1, 20));
+        long sleep = ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+        try {
+            Thread.sleep(sleep);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Interrupted while retrying concurrent modification", cause);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.b2b.ordermanagement.infrastructure.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Retries the annotated transactional method when it fails with a transient
+ * concurrency conflict (optimistic lock, deadlock, serialization failure).
+ * The retry wraps the transaction, so every attempt runs in a fresh one.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+}
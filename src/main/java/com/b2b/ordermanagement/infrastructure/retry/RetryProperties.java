@@ -0,0 +1,13 @@
+package com.b2b.ordermanagement.infrastructure.retry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "orders.retry")
+public record RetryProperties(
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("20ms") Duration initialBackoff,
+        @DefaultValue("250ms") Duration maxBackoff
+) {}
@@ -0,0 +1,48 @@
+package com.b2b.ordermanagement.infrastructure.retry;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Per-thread record of the side effects already applied in the current
+ * {@link RetryOnConflict} call, opened by {@link ConflictRetryAspect} around all of its
+ * attempts. Work that must happen once per call rather than once per attempt, such as
+ * taking a rate-limit token, goes through {@link #once} so a retried attempt skips it.
+ */
+public final class RetryScope {
+
+    private static final ThreadLocal<Set<String>> APPLIED = new ThreadLocal<>();
+
+    private RetryScope() {}
+
+    /**
+     * Runs {@code action} unless an earlier attempt of the enclosing retried call already
+     * completed it under {@code key}. Outside a retried call it always runs. An action that
+     * throws is not recorded, so the next attempt runs it again.
+     */
+    public static void once(String key, Runnable action) {
+        Set<String> applied = APPLIED.get();
+        if (applied == null) {
+            action.run();
+            return;
+        }
+        if (!applied.contains(key)) {
+            action.run();
+            applied.add(key);
+        }
+    }
+
+    static Set<String> open() {
+        Set<String> outer = APPLIED.get();
+        APPLIED.set(new HashSet<>());
+        return outer;
+    }
+
+    static void close(Set<String> outer) {
+        if (outer == null) {
+            APPLIED.remove();
+        } else {
+            APPLIED.set(outer);
+        }
+    }
+}
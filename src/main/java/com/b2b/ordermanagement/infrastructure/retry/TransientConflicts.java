@@ -0,0 +1,45 @@
+package com.b2b.ordermanagement.infrastructure.retry;
+
+import com.b2b.ordermanagement.shared.exceptions.BusinessException;
+import com.b2b.ordermanagement.shared.exceptions.ResourceNotFoundException;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import org.hibernate.StaleStateException;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Decides whether a failure is a transient concurrency conflict worth retrying.
+ * Business rejections anywhere in the cause chain always win and are never retried.
+ */
+public final class TransientConflicts {
+
+    /** serialization_failure, deadlock_detected, lock_not_available */
+    private static final Set<String> RETRYABLE_SQL_STATES = Set.of("40001", "40P01", "55P03");
+
+    private TransientConflicts() {}
+
+    public static boolean isRetryable(Throwable error) {
+        boolean conflict = false;
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof BusinessException || current instanceof ResourceNotFoundException) {
+                return false;
+            }
+            if (current instanceof ConcurrencyFailureException
+                    || current instanceof OptimisticLockException
+                    || current instanceof PessimisticLockException
+                    || current instanceof LockTimeoutException
+                    || current instanceof StaleStateException
+                    || (current instanceof SQLException sql && RETRYABLE_SQL_STATES.contains(sql.getSQLState()))) {
+                conflict = true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return conflict;
+    }
+}
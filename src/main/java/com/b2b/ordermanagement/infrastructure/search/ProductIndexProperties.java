@@ -0,0 +1,23 @@
+package com.b2b.ordermanagement.infrastructure.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * The index only sees orders committed by this instance, so it answers lookups only when
+ * {@code singleInstance} also declares that this instance takes all writes. Otherwise it
+ * stays off and every lookup reads the database.
+ *
+ * @param singleInstance      this instance is the only one creating orders
+ * @param window              how far back the index keeps orders
+ * @param maxOrdersPerProduct postings kept per product; older ones are dropped and served from the database
+ */
+@ConfigurationProperties(prefix = "orders.product-index")
+public record ProductIndexProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("false") boolean singleInstance,
+        @DefaultValue("1h") Duration window,
+        @DefaultValue("10000") int maxOrdersPerProduct
+) {}
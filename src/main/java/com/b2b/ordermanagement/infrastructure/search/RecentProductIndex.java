@@ -0,0 +1,166 @@
+package com.b2b.ordermanagement.infrastructure.search;
+
+import com.b2b.ordermanagement.application.dto.OrderCursor;
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory inverted index from product id to the orders created in the last
+ * {@code window}, newest first. Answers a product lookup only when the requested range
+ * starts inside what the index has fully seen since startup; anything older goes to the
+ * database. Orders are indexed after commit, so a lookup never returns an order that a
+ * database read could not see.
+ *
+ * <p>Single-instance only: the index is fed by this instance's own commits, so with more
+ * than one node it would silently leave out orders created elsewhere. It stays off unless
+ * {@code orders.product-index.single-instance} is set as well as {@code enabled}.</p>
+ */
+@Component
+public class RecentProductIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecentProductIndex.class);
+    private static final Comparator<Posting> NEWEST_FIRST = Comparator.comparing(Posting::createdAt)
+            .thenComparing(Posting::orderId)
+            .reversed();
+
+    record Posting(LocalDateTime createdAt, String orderId, String partnerId) {}
+
+    /**
+     * Postings of one product. Writers mutate it only inside {@code compute} on the index
+     * map, which serializes them per product; readers iterate the skip list lock-free.
+     */
+    private static final class Postings {
+        final NavigableSet<Posting> entries = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+        int size;
+        // Postings at or before this instant were dropped to honour maxOrdersPerProduct
+        volatile LocalDateTime truncatedAt = LocalDateTime.MIN;
+    }
+
+    private final ConcurrentHashMap<String, Postings> index = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxOrdersPerProduct;
+    private final Clock clock;
+    private final LocalDateTime startedAt;
+
+    public RecentProductIndex(ProductIndexProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    RecentProductIndex(ProductIndexProperties properties, Clock clock) {
+        this.enabled = properties.enabled() && properties.singleInstance();
+        if (properties.enabled() && !properties.singleInstance()) {
+            logger.warn("Product index disabled: it sees only this instance's orders; "
+                    + "set orders.product-index.single-instance=true if no other instance creates orders");
+        }
+        this.window = properties.window();
+        this.maxOrdersPerProduct = properties.maxOrdersPerProduct();
+        this.clock = clock;
+        this.startedAt = LocalDateTime.now(clock);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(OrderCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Posting posting = new Posting(event.createdAt(), event.orderId(), event.partnerId());
+        for (String productId : event.productIds()) {
+            index.compute(productId, (key, postings) -> {
+                if (postings == null) {
+                    postings = new Postings();
+                }
+                if (postings.entries.add(posting)) {
+                    postings.size++;
+                }
+                while (postings.size > maxOrdersPerProduct) {
+                    Posting dropped = postings.entries.pollLast();
+                    postings.size--;
+                    if (dropped.createdAt().isAfter(postings.truncatedAt)) {
+                        postings.truncatedAt = dropped.createdAt();
+                    }
+                }
+                return postings;
+            });
+        }
+    }
+
+    /**
+     * Ids of up to {@code limit} orders containing {@code productId}, newest first, or empty
+     * when the index cannot answer for this range and the caller must query the database.
+     */
+    public Optional<List<String>> lookup(String productId, String partnerId, LocalDateTime startDate,
+                                         LocalDateTime endDate, OrderCursor after, int limit) {
+        if (!enabled || !covers(productId, startDate)) {
+            return Optional.empty();
+        }
+        Postings postings = index.get(productId);
+        if (postings == null) {
+            return Optional.of(List.of());
+        }
+
+        NavigableSet<Posting> candidates = after == null
+                ? postings.entries
+                : postings.entries.tailSet(new Posting(after.createdAt(), after.id(), null), false);
+        List<String> orderIds = new ArrayList<>(Math.min(limit, 64));
+        for (Posting posting : candidates) {
+            if (posting.createdAt().isBefore(startDate) || orderIds.size() == limit) {
+                break;
+            }
+            if (posting.createdAt().isAfter(endDate)
+                    || (partnerId != null && !partnerId.equals(posting.partnerId()))) {
+                continue;
+            }
+            orderIds.add(posting.orderId());
+        }
+        return Optional.of(orderIds);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.product-index.eviction-interval:PT1M}")
+    public void evictExpired() {
+        if (!enabled) {
+            return;
+        }
+        Posting horizon = new Posting(LocalDateTime.now(clock).minus(window), "", null);
+        for (String productId : index.keySet()) {
+            index.computeIfPresent(productId, (key, postings) -> {
+                postings.entries.tailSet(horizon, false).clear();
+                postings.size = postings.entries.size();
+                return postings.size == 0 ? null : postings;
+            });
+        }
+    }
+
+    int productCount() {
+        return index.size();
+    }
+
+    private boolean covers(String productId, LocalDateTime startDate) {
+        if (startDate == null) {
+            return false;
+        }
+        LocalDateTime horizon = LocalDateTime.now(clock).minus(window);
+        LocalDateTime coveredFrom = horizon.isAfter(startedAt) ? horizon : startedAt;
+        if (startDate.isBefore(coveredFrom)) {
+            return false;
+        }
+        Postings postings = index.get(productId);
+        return postings == null || startDate.isAfter(postings.truncatedAt);
+    }
+}
@@ -0,0 +1,33 @@
+package com.b2b.ordermanagement.infrastructure.statements;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Writes every partner's statement for {@code period} ({@code yyyy-MM}). Accepts an
+ * optional {@code format} (CSV or TEXT, default CSV) and {@code parallelism}; defaults to
+ * {@code orders.statements.parallelism}. Re-running a period only writes the statements
+ * still missing. Exposed over JMX only.
+ */
+@Component
+@Endpoint(id = "statements")
+public class StatementEndpoint {
+
+    private final StatementGenerator generator;
+    private final int defaultParallelism;
+
+    public StatementEndpoint(StatementGenerator generator, StatementProperties properties) {
+        this.generator = generator;
+        this.defaultParallelism = properties.parallelism();
+    }
+
+    @WriteOperation
+    public StatementRunReport generate(String period, @Nullable StatementFormat format, @Nullable Integer parallelism) {
+        int workers = parallelism != null && parallelism > 0 ? parallelism : defaultParallelism;
+        return generator.generate(YearMonth.parse(period), format != null ? format : StatementFormat.CSV, workers);
+    }
+}
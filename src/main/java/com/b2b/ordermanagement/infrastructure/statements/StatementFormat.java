@@ -0,0 +1,79 @@
+package com.b2b.ordermanagement.infrastructure.statements;
+
+import com.b2b.ordermanagement.infrastructure.repositories.StatementLine;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Layouts of a partner statement. Both are written line by line as orders stream in;
+ * only the totals are kept until the end.
+ */
+public enum StatementFormat {
+
+    CSV("csv") {
+        @Override
+        void writeHeader(Writer out, String partnerId, YearMonth period) throws IOException {
+            out.write("order_id,status,total_amount,item_count,created_at,updated_at\n");
+        }
+
+        @Override
+        void writeLine(Writer out, StatementLine line) throws IOException {
+            out.write(line.orderId());
+            out.write(',');
+            out.write(line.status().name());
+            out.write(',');
+            out.write(line.totalAmount().toPlainString());
+            out.write(',');
+            out.write(Integer.toString(line.itemCount()));
+            out.write(',');
+            out.write(line.createdAt().toString());
+            out.write(',');
+            out.write(line.updatedAt().toString());
+            out.write('\n');
+        }
+
+        @Override
+        void writeFooter(Writer out, long orders, BigDecimal billable) {
+        }
+    },
+
+    TEXT("txt") {
+        @Override
+        void writeHeader(Writer out, String partnerId, YearMonth period) throws IOException {
+            out.write("Order statement for partner " + partnerId + ", " + period + "\n\n");
+            out.write(String.format(TEXT_ROW, "Order", "Status", "Amount", "Items", "Created"));
+        }
+
+        @Override
+        void writeLine(Writer out, StatementLine line) throws IOException {
+            out.write(String.format(TEXT_ROW, line.orderId(), line.status(), line.totalAmount().toPlainString(),
+                    line.itemCount(), line.createdAt().withNano(0)));
+        }
+
+        @Override
+        void writeFooter(Writer out, long orders, BigDecimal billable) throws IOException {
+            out.write(String.format("\n%d orders, %s excluding cancelled orders\n", orders, billable.toPlainString()));
+        }
+    };
+
+    private static final String TEXT_ROW = "%-36s  %-10s  %14s  %5s  %-19s\n";
+
+    private final String extension;
+
+    StatementFormat(String extension) {
+        this.extension = extension;
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    abstract void writeHeader(Writer out, String partnerId, YearMonth period) throws IOException;
+
+    abstract void writeLine(Writer out, StatementLine line) throws IOException;
+
+    abstract void writeFooter(Writer out, long orders, BigDecimal billable) throws IOException;
+}
@@ -0,0 +1,200 @@
+package com.b2b.ordermanagement.infrastructure.statements;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSummaryRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.PartnerRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.StatementLine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes one gzip-compressed statement per partner and month under
+ * {@code <directory>/<yyyy-MM>/<partnerId>.<csv|txt>.gz}.
+ *
+ * <p>Partners are dealt round-robin into {@code parallelism} shards, each rendered by its
+ * own thread. A statement streams the partner's orders for the month from
+ * {@code order_summary} through a database cursor and writes them as they arrive, so
+ * memory does not grow with a partner's order count.</p>
+ *
+ * <p>Each statement is written to a {@code .tmp} file, synced, and atomically renamed into
+ * place, so a statement file is either complete or absent. A run interrupted by a crash
+ * is resumed by running the same period again: existing statements are skipped and
+ * leftover {@code .tmp} files are overwritten.</p>
+ */
+@Component
+public class StatementGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementGenerator.class);
+    private static final Pattern UNSAFE_FILE_CHARS = Pattern.compile("[^A-Za-z0-9._-]");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PartnerRepository partnerRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final TransactionTemplate readTransaction;
+    private final Path directory;
+
+    public StatementGenerator(PartnerRepository partnerRepository,
+                              OrderSummaryRepository orderSummaryRepository,
+                              PlatformTransactionManager transactionManager,
+                              StatementProperties properties) {
+        this.partnerRepository = partnerRepository;
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.directory = properties.directory();
+    }
+
+    public StatementRunReport generate(YearMonth period, StatementFormat format, int parallelism) {
+        long start = System.nanoTime();
+        Path periodDirectory = directory.resolve(period.toString());
+        try {
+            Files.createDirectories(periodDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create statement directory " + periodDirectory, e);
+        }
+
+        List<String> partnerIds = partnerRepository.findAllIds();
+        Tally tally = new Tally();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, workerThreads());
+        logger.info("Writing {} statements for {} of {} partners with {} workers", format, period, partnerIds.size(), parallelism);
+        try {
+            List<Future<?>> shards = new ArrayList<>(parallelism);
+            for (int shard = 0; shard < parallelism; shard++) {
+                int first = shard;
+                shards.add(workers.submit(() -> {
+                    for (int i = first; i < partnerIds.size(); i += parallelism) {
+                        writeStatement(partnerIds.get(i), period, format, periodDirectory, tally);
+                    }
+                }));
+            }
+            for (Future<?> shard : shards) {
+                shard.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Statement generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Statement generation failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        StatementRunReport report = new StatementRunReport(period.toString(), format, periodDirectory.toString(),
+                partnerIds.size(), tally.generated.sum(), tally.skipped.sum(), tally.failed.sum(), tally.orders.sum(),
+                tally.bytes.sum(), parallelism, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.info("Statements for {} finished: {}", period, report);
+        return report;
+    }
+
+    static String fileName(String partnerId, StatementFormat format) {
+        return UNSAFE_FILE_CHARS.matcher(partnerId).replaceAll("_") + '.' + format.extension() + ".gz";
+    }
+
+    private void writeStatement(String partnerId, YearMonth period, StatementFormat format, Path periodDirectory,
+                                Tally tally) {
+        Path target = periodDirectory.resolve(fileName(partnerId, format));
+        if (Files.exists(target)) {
+            tally.skipped.increment();
+            return;
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            long orders = render(partnerId, period, format, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            tally.generated.increment();
+            tally.orders.add(orders);
+            tally.bytes.add(Files.size(target));
+        } catch (IOException | RuntimeException e) {
+            tally.failed.increment();
+            logger.error("Statement {} for partner {} failed", period, partnerId, e);
+            deleteQuietly(temp);
+        }
+    }
+
+    private long render(String partnerId, YearMonth period, StatementFormat format, Path temp) throws IOException {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+             Writer out = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            format.writeHeader(out, partnerId, period);
+            long[] orders = {0};
+            BigDecimal[] billable = {BigDecimal.ZERO};
+            readTransaction.executeWithoutResult(status -> {
+                try (Stream<StatementLine> lines = orderSummaryRepository.streamStatement(partnerId,
+                        period.atDay(1).atStartOfDay(), period.plusMonths(1).atDay(1).atStartOfDay())) {
+                    for (StatementLine line : (Iterable<StatementLine>) lines::iterator) {
+                        format.writeLine(out, line);
+                        orders[0]++;
+                        if (line.status() != OrderStatus.CANCELLED) {
+                            billable[0] = billable[0].add(line.totalAmount());
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            format.writeFooter(out, orders[0], billable[0]);
+            out.flush();
+            gzip.finish();
+            // Durable before the rename makes it visible as complete
+            channel.force(true);
+            return orders[0];
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete partial statement {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static ThreadFactory workerThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "statement-writer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Tally {
+        final LongAdder generated = new LongAdder();
+        final LongAdder skipped = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder orders = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+    }
+}
@@ -0,0 +1,22 @@
+package com.b2b.ordermanagement.infrastructure.statements;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * @param directory    where statements are written, one sub-directory per period
+ * @param parallelism  default number of partner shards rendered at once
+ */
+@ConfigurationProperties(prefix = "orders.statements")
+public record StatementProperties(
+        @DefaultValue("/tmp/order-management-statements") Path directory,
+        @DefaultValue("4") int parallelism
+) {
+    public StatementProperties {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("orders.statements.parallelism must be positive");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.b2b.ordermanagement.infrastructure.statements;
+
+/**
+ * @param skipped  partners whose statement already existed from an earlier run
+ */
+public record StatementRunReport(
+        String period,
+        StatementFormat format,
+        String directory,
+        long partners,
+        long generated,
+        long skipped,
+        long failed,
+        long orders,
+        long bytes,
+        int parallelism,
+        long elapsedMillis
+) {}
@@ -0,0 +1,25 @@
+package com.b2b.ordermanagement.infrastructure.warmup;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports what the startup warm-up exercised, or nothing when it did not run. Exposed over
+ * JMX only.
+ */
+@Component
+@Endpoint(id = "warmup")
+public class WarmupEndpoint {
+
+    private final WarmupRunner runner;
+
+    public WarmupEndpoint(WarmupRunner runner) {
+        this.runner = runner;
+    }
+
+    @ReadOperation
+    public WarmupReport report() {
+        return runner.lastReport();
+    }
+}
@@ -0,0 +1,28 @@
+package com.b2b.ordermanagement.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled        replay the corpus before the readiness probe turns green
+ * @param corpus         JSON lines of {@code {"method", "path", "body"}} requests
+ * @param duration       how long the corpus is replayed, looping over it
+ * @param concurrency    parallel warm-up clients
+ * @param requestTimeout per-request timeout; a slow request does not hold the deadline back further
+ */
+@ConfigurationProperties(prefix = "orders.warmup")
+public record WarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("classpath:warmup/requests.jsonl") String corpus,
+        @DefaultValue("20s") Duration duration,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("5s") Duration requestTimeout
+) {
+    public WarmupProperties {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("orders.warmup.concurrency must be at least 1");
+        }
+    }
+}
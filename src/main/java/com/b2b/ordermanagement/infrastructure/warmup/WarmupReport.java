@@ -0,0 +1,14 @@
+package com.b2b.ordermanagement.infrastructure.warmup;
+
+import java.util.List;
+import java.util.Map;
+
+public record WarmupReport(
+        long requests,
+        long transportErrors,
+        Map<Integer, Long> responsesByStatus,
+        int endpointsCovered,
+        int endpointsTotal,
+        List<String> uncoveredEndpoints,
+        long elapsedMillis
+) {}
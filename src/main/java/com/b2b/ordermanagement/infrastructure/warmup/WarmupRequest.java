@@ -0,0 +1,8 @@
+package com.b2b.ordermanagement.infrastructure.warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One recorded request of the warm-up corpus; {@code path} includes the query string.
+ */
+public record WarmupRequest(String method, String path, JsonNode body) {}
@@ -0,0 +1,201 @@
+package com.b2b.ordermanagement.infrastructure.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Replays a recorded request corpus against this instance's own controllers before it
+ * reports ready, so the JIT, connection pool and caches are warm when real traffic arrives.
+ *
+ * <p>Runs as an {@link ApplicationRunner}: the embedded server is already listening, but
+ * the readiness state only turns to accepting traffic once all runners have returned.
+ * Requests go over loopback with the {@link WarmupSession} token, which makes the rollback
+ * filter wrap each one in a transaction that is always rolled back. Failures never fail
+ * startup; the report lists which controller endpoints the corpus did not reach.</p>
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+    private static final String APPLICATION_PACKAGE = "com.b2b.ordermanagement";
+
+    private final WarmupProperties properties;
+    private final WarmupSession session;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private volatile WarmupReport lastReport;
+
+    public WarmupRunner(WarmupProperties properties,
+                        WarmupSession session,
+                        ResourceLoader resourceLoader,
+                        ObjectMapper objectMapper,
+                        Environment environment,
+                        @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        this.properties = properties;
+        this.session = session;
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            return;
+        }
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null) {
+            logger.info("Warm-up skipped: no embedded server is listening");
+            return;
+        }
+
+        try {
+            List<WarmupRequest> corpus = loadCorpus();
+            if (corpus.isEmpty()) {
+                logger.warn("Warm-up skipped: corpus {} is empty", properties.corpus());
+                return;
+            }
+            lastReport = replay(corpus, port);
+            logger.info("Warm-up finished: {} requests in {} ms, {}/{} endpoints covered, uncovered {}",
+                    lastReport.requests(), lastReport.elapsedMillis(), lastReport.endpointsCovered(),
+                    lastReport.endpointsTotal(), lastReport.uncoveredEndpoints());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Warm-up failed, starting cold: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public WarmupReport lastReport() {
+        return lastReport;
+    }
+
+    List<WarmupRequest> loadCorpus() throws IOException {
+        Resource resource = resourceLoader.getResource(properties.corpus());
+        List<WarmupRequest> corpus = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    corpus.add(objectMapper.readValue(line, WarmupRequest.class));
+                }
+            }
+        }
+        return corpus;
+    }
+
+    private WarmupReport replay(List<WarmupRequest> corpus, int port) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(properties.requestTimeout()).build();
+        List<HttpRequest> requests = corpus.stream().map(request -> toHttpRequest(request, port)).toList();
+        AtomicLong cursor = new AtomicLong();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        LongAdder transportErrors = new LongAdder();
+
+        long start = System.nanoTime();
+        long deadline = start + properties.duration().toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(properties.concurrency(), clientThreads());
+        session.start();
+        try {
+            for (int i = 0; i < properties.concurrency(); i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() - deadline < 0) {
+                        HttpRequest request = requests.get((int) (cursor.getAndIncrement() % requests.size()));
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                        } catch (IOException e) {
+                            transportErrors.increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+            clients.shutdown();
+            if (!clients.awaitTermination(properties.duration().plus(properties.requestTimeout()).toMillis(), TimeUnit.MILLISECONDS)) {
+                clients.shutdownNow();
+            }
+        } finally {
+            session.finish();
+        }
+
+        Map<Integer, Long> byStatus = new TreeMap<>();
+        statuses.forEach((status, count) -> byStatus.put(status, count.sum()));
+        Set<String> endpoints = handlerMapping.getHandlerMethods().values().stream()
+                .filter(handler -> handler.getBeanType().getName().startsWith(APPLICATION_PACKAGE))
+                .map(WarmupSession::handlerKey)
+                .collect(Collectors.toSet());
+        Set<String> covered = session.coveredHandlers();
+        List<String> uncovered = endpoints.stream().filter(endpoint -> !covered.contains(endpoint)).sorted().toList();
+
+        return new WarmupReport(
+                byStatus.values().stream().mapToLong(Long::longValue).sum() + transportErrors.sum(),
+                transportErrors.sum(),
+                byStatus,
+                endpoints.size() - uncovered.size(),
+                endpoints.size(),
+                uncovered,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private HttpRequest toHttpRequest(WarmupRequest request, int port) {
+        HttpRequest.BodyPublisher body = request.body() == null || request.body().isNull()
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(request.body().toString());
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + request.path()))
+                .method(request.method(), body)
+                .timeout(properties.requestTimeout())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(WarmupSession.HEADER, session.token())
+                .build();
+    }
+
+    private static ThreadFactory clientThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "warmup-client-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.b2b.ordermanagement.infrastructure.warmup;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * State shared by the warm-up runner and the rollback filter. Warm-up requests carry a
+ * token generated at boot in {@value #HEADER}, and the filter honours it only while a
+ * warm-up is running, so clients cannot opt into rolled-back requests.
+ *
+ * <p>While the filter serves a warm-up request it marks the thread, and side effects a
+ * rollback cannot undo (rate-limit tokens, cached responses, metrics and concurrency-limit
+ * samples) check {@link #isWarmupRequest()} and skip it.</p>
+ */
+@Component
+public class WarmupSession {
+
+    public static final String HEADER = "X-Warmup";
+
+    private static final ThreadLocal<Boolean> WARMUP_REQUEST = new ThreadLocal<>();
+
+    private final String token;
+    private final Set<String> coveredHandlers = ConcurrentHashMap.newKeySet();
+    private volatile boolean active;
+
+    public WarmupSession() {
+        byte[] random = new byte[16];
+        new SecureRandom().nextBytes(random);
+        this.token = HexFormat.of().formatHex(random);
+    }
+
+    public boolean matches(String header) {
+        return active && header != null
+                && MessageDigest.isEqual(token.getBytes(StandardCharsets.US_ASCII), header.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Whether the current thread is serving a warm-up request.
+     */
+    public static boolean isWarmupRequest() {
+        return WARMUP_REQUEST.get() != null;
+    }
+
+    /**
+     * Marks the current thread as serving a warm-up request until {@link #endRequest()}.
+     */
+    public static void beginRequest() {
+        WARMUP_REQUEST.set(Boolean.TRUE);
+    }
+
+    public static void endRequest() {
+        WARMUP_REQUEST.remove();
+    }
+
+    public void recordHandler(HandlerMethod handler) {
+        coveredHandlers.add(handlerKey(handler));
+    }
+
+    static String handlerKey(HandlerMethod handler) {
+        return ClassUtils.getUserClass(handler.getBeanType()).getSimpleName() + '#' + handler.getMethod().getName();
+    }
+
+    String token() {
+        return token;
+    }
+
+    void start() {
+        coveredHandlers.clear();
+        active = true;
+    }
+
+    void finish() {
+        active = false;
+    }
+
+    Set<String> coveredHandlers() {
+        return Set.copyOf(coveredHandlers);
+    }
+}
@@ -0,0 +1,50 @@
+package com.b2b.ordermanagement.presentation.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Lets API clients negotiate Smile ({@code application/x-jackson-smile}) or CBOR
+ * ({@code application/cbor}) instead of JSON through {@code Accept}/{@code Content-Type}.
+ *
+ * <p>Spring MVC already registers both converters when the dataformats are on the
+ * classpath, but with a plain {@link Jackson2ObjectMapperBuilder} that writes
+ * {@code LocalDateTime} as arrays. They are replaced here with mappers built from Spring
+ * Boot's customized builder, so the binary payloads carry the same fields, date format
+ * and {@code BigDecimal} precision as the JSON ones. JSON stays first in the list and
+ * remains the default for {@code *}{@code /*}.</p>
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public BinaryFormatConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                builder().factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                builder().factory(new CBORFactory()).build()));
+    }
+
+    private Jackson2ObjectMapperBuilder builder() {
+        // Boot's builder bean is prototype scoped, so each converter gets its own copy
+        return objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json);
+    }
+}
@@ -0,0 +1,38 @@
+package com.b2b.ordermanagement.presentation.config;
+
+import com.b2b.ordermanagement.infrastructure.capture.CaptureProperties;
+import com.b2b.ordermanagement.infrastructure.capture.CaptureWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+
+@Configuration
+@ConditionalOnProperty(prefix = "orders.capture", name = "enabled", havingValue = "true")
+public class TrafficCaptureConfig {
+
+    @Bean
+    public CaptureWriter captureWriter(CaptureProperties properties, ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry) throws IOException {
+        return new CaptureWriter(properties, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TrafficCaptureFilter> trafficCaptureFilter(CaptureWriter captureWriter,
+                                                                            CaptureProperties properties,
+                                                                            ObjectMapper objectMapper) {
+        TrafficCaptureFilter filter = new TrafficCaptureFilter(captureWriter, objectMapper, properties.sampleRate(),
+                (int) properties.maxBodySize().toBytes(), properties.redactFields());
+
+        FilterRegistrationBean<TrafficCaptureFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/orders/*", "/api/v1/partners/*");
+        // Outside the concurrency limiter, so shed requests are part of the recorded shape
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,122 @@
+package com.b2b.ordermanagement.presentation.config;
+
+import com.b2b.ordermanagement.infrastructure.capture.CaptureWriter;
+import com.b2b.ordermanagement.infrastructure.capture.CapturedExchange;
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records sampled API exchanges for later replay. Only the method, path, {@code Accept},
+ * JSON bodies and the outcome are kept; headers are not, and the configured fields are
+ * redacted before the exchange leaves the request thread. Warm-up requests are skipped;
+ * only the mark set by the warm-up filter counts, not the {@value WarmupSession#HEADER} header.
+ */
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    private static final TextNode REDACTED = TextNode.valueOf("***");
+
+    private final CaptureWriter writer;
+    private final ObjectMapper objectMapper;
+    private final double sampleRate;
+    private final int maxBodyBytes;
+    private final Set<String> redactFields;
+
+    public TrafficCaptureFilter(CaptureWriter writer, ObjectMapper objectMapper, double sampleRate,
+                                int maxBodyBytes, Set<String> redactFields) {
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+        this.sampleRate = sampleRate;
+        this.maxBodyBytes = maxBodyBytes;
+        this.redactFields = Set.copyOf(redactFields);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (WarmupSession.isWarmupRequest() || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingRequestWrapper cachingRequest = new ContentCachingRequestWrapper(request, maxBodyBytes);
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        long at = System.currentTimeMillis();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(cachingRequest, cachingResponse);
+        } finally {
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            String query = request.getQueryString();
+            writer.offer(new CapturedExchange(
+                    at,
+                    request.getMethod(),
+                    query != null ? request.getRequestURI() + '?' + query : request.getRequestURI(),
+                    request.getHeader(HttpHeaders.ACCEPT),
+                    jsonBody(request.getContentType(), cachingRequest.getContentAsByteArray()),
+                    cachingResponse.getStatus(),
+                    latencyMicros,
+                    cachingResponse.getContentSize(),
+                    jsonBody(cachingResponse.getContentType(), cachingResponse.getContentAsByteArray())));
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private JsonNode jsonBody(String contentType, byte[] content) {
+        if (content.length == 0 || content.length >= maxBodyBytes || !isJson(contentType)) {
+            return null;
+        }
+        try {
+            return redact(objectMapper.readTree(content));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private JsonNode redact(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (redactFields.contains(field.getKey())) {
+                    field.setValue(REDACTED);
+                } else {
+                    redact(field.getValue());
+                }
+            }
+        } else if (node.isArray()) {
+            node.forEach(this::redact);
+        }
+        return node;
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.b2b.ordermanagement.presentation.config;
+
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class WarmupConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "orders.warmup", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<WarmupRollbackFilter> warmupRollbackFilter(WarmupSession session,
+                                                                            PlatformTransactionManager transactionManager) {
+        FilterRegistrationBean<WarmupRollbackFilter> registration =
+                new FilterRegistrationBean<>(new WarmupRollbackFilter(session, transactionManager));
+        registration.addUrlPatterns("/api/*");
+        // Outermost, so the concurrency limiter and traffic capture already see the request marked
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,57 @@
+package com.b2b.ordermanagement.presentation.config;
+
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Runs warm-up requests inside a transaction that is always rolled back. Service methods
+ * join it instead of committing their own, so replayed writes leave no rows, events or
+ * after-commit side effects behind. The thread is marked as serving a warm-up request for
+ * the whole request, rollback included (see {@link WarmupSession#isWarmupRequest()}). Also
+ * records which controller method served each one.
+ */
+public class WarmupRollbackFilter extends OncePerRequestFilter {
+
+    private final WarmupSession session;
+    private final PlatformTransactionManager transactionManager;
+
+    public WarmupRollbackFilter(WarmupSession session, PlatformTransactionManager transactionManager) {
+        this.session = session;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!session.matches(request.getHeader(WarmupSession.HEADER))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        WarmupSession.beginRequest();
+        try {
+            TransactionStatus transaction = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                transactionManager.rollback(transaction);
+                if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+                    session.recordHandler(handler);
+                }
+            }
+        } finally {
+            WarmupSession.endRequest();
+        }
+    }
+}
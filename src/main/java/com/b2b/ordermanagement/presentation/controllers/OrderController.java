@@ -1,13 +1,18 @@
 package com.b2b.ordermanagement.presentation.controllers;
 
 import com.b2b.ordermanagement.application.dto.OrderFilterDTO;
+import com.b2b.ordermanagement.application.dto.CountStrategy;
+import com.b2b.ordermanagement.application.dto.CountedPage;
+import com.b2b.ordermanagement.application.dto.CursorPagedResponse;
 import com.b2b.ordermanagement.application.dto.PagedResponse;
 import com.b2b.ordermanagement.application.interfaces.OrderFilterParams;
-import org.springframework.data.domain.Page;
 import com.b2b.ordermanagement.application.dto.CreateOrderDTO;
+import com.b2b.ordermanagement.application.dto.OrderHistoryDTO;
 import com.b2b.ordermanagement.application.dto.OrderResponseDTO;
+import com.b2b.ordermanagement.application.dto.OrderSummaryDTO;
 import com.b2b.ordermanagement.application.services.OrderService;
 import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.cache.OrderResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,11 +21,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/orders")
@@ -28,9 +37,11 @@ import java.time.LocalDateTime;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderResponseCache orderResponseCache;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderResponseCache orderResponseCache) {
         this.orderService = orderService;
+        this.orderResponseCache = orderResponseCache;
     }
 
     @PostMapping
@@ -42,16 +53,30 @@ public class OrderController {
 
     @GetMapping("/{orderId}")
     @Operation(summary = "Get order by ID", description = "Retrieves an order by its unique identifier")
-    public ResponseEntity<OrderResponseDTO> getOrderById(
-            @Parameter(description = "Order ID") @PathVariable String orderId) {
+    public ResponseEntity<?> getOrderById(
+            @Parameter(description = "Order ID") @PathVariable String orderId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (acceptsJson(accept)) {
+            // Delivered/cancelled orders are served as their already-encoded bytes
+            Optional<byte[]> cached = orderResponseCache.find(orderId);
+            if (cached.isPresent()) {
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cached.get());
+            }
+        }
         OrderResponseDTO order = orderService.getOrderById(orderId);
         return ResponseEntity.ok(order);
     }
 
+    @GetMapping("/{orderId}/history")
+    @Operation(summary = "Get order history", description = "Retrieves every status change of an order, oldest first")
+    public ResponseEntity<OrderHistoryDTO> getOrderHistory(
+            @Parameter(description = "Order ID") @PathVariable String orderId) {
+        return ResponseEntity.ok(orderService.getOrderHistory(orderId));
+    }
 
     @GetMapping
     @Operation(summary = "Get orders with filters", description = "Retrieves orders filtered by various criteria")
-    public ResponseEntity<PagedResponse<OrderResponseDTO>> getOrders(
+    public ResponseEntity<PagedResponse<OrderSummaryDTO>> getOrders(
             @Parameter(description = "Partner ID") @RequestParam(required = false) String partnerId,
             @Parameter(description = "Order status") @RequestParam(required = false) OrderStatus status,
             @Parameter(description = "Start date (ISO format)")
@@ -61,18 +86,39 @@ public class OrderController {
             @Parameter(description = "Page number (0-based)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "20") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Sort by field", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sort,
-            @Parameter(description = "Sort direction", example = "desc") @RequestParam(defaultValue = "desc") String direction) {
+            @Parameter(description = "Sort direction", example = "desc") @RequestParam(defaultValue = "desc") String direction,
+            @Parameter(description = "How to compute the total: EXACT, CACHED or ESTIMATED (server default when omitted)")
+            @RequestParam(required = false) CountStrategy countStrategy) {
 
+        OrderFilterParams filters = new OrderFilterDTO(partnerId, status, startDate, endDate);
         Sort.Direction sortDirection = direction.equalsIgnoreCase("desc") ?
                 Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        OrderFilterParams filters = new OrderFilterDTO(partnerId, status, startDate, endDate);
-        Page<OrderResponseDTO> orders = orderService.getFilteredOrders(filters, pageable);
+        CountedPage<OrderSummaryDTO> orders = orderService.getFilteredOrders(filters, pageable, countStrategy);
 
         return ResponseEntity.ok(PagedResponse.of(orders));
     }
 
+    @GetMapping("/by-product")
+    @Operation(summary = "Get orders by product", description = "Retrieves keyset pages (newest first) of the orders "
+            + "containing a product, with the same filters as the order listing")
+    public ResponseEntity<CursorPagedResponse<OrderSummaryDTO>> getOrdersByProduct(
+            @Parameter(description = "Product ID") @RequestParam String productId,
+            @Parameter(description = "Keyset cursor from a previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Partner ID") @RequestParam(required = false) String partnerId,
+            @Parameter(description = "Order status") @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Start date (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "End date (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "Page size, at most 100", example = "20") @RequestParam(defaultValue = "20") int size) {
+
+        OrderFilterParams filters = new OrderFilterDTO(partnerId, status, startDate, endDate);
+        return ResponseEntity.ok(orderService.getOrdersByProduct(productId.trim(), filters, cursor, size));
+    }
+
     @PutMapping("/{orderId}/approve")
     @Operation(summary = "Approve order", description = "Approves a pending order and debits partner credit")
     public ResponseEntity<OrderResponseDTO> approveOrder(
@@ -88,4 +134,40 @@ public class OrderController {
         OrderResponseDTO order = orderService.cancelOrder(orderId);
         return ResponseEntity.ok(order);
     }
-}
\ No newline at end of file
+
+    @PutMapping("/{orderId}/process")
+    @Operation(summary = "Start processing order", description = "Moves an approved order to processing")
+    public ResponseEntity<OrderResponseDTO> processOrder(
+            @Parameter(description = "Order ID") @PathVariable String orderId) {
+        OrderResponseDTO order = orderService.processOrder(orderId);
+        return ResponseEntity.ok(order);
+    }
+
+    @PutMapping("/{orderId}/ship")
+    @Operation(summary = "Ship order", description = "Marks a processing order as shipped")
+    public ResponseEntity<OrderResponseDTO> shipOrder(
+            @Parameter(description = "Order ID") @PathVariable String orderId) {
+        OrderResponseDTO order = orderService.shipOrder(orderId);
+        return ResponseEntity.ok(order);
+    }
+
+    @PutMapping("/{orderId}/deliver")
+    @Operation(summary = "Deliver order", description = "Marks a shipped order as delivered")
+    public ResponseEntity<OrderResponseDTO> deliverOrder(
+            @Parameter(description = "Order ID") @PathVariable String orderId) {
+        OrderResponseDTO order = orderService.deliverOrder(orderId);
+        return ResponseEntity.ok(order);
+    }
+
+    private static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .allMatch(mediaType -> mediaType.isCompatibleWith(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.b2b.ordermanagement.presentation.controllers;
 
+import com.b2b.ordermanagement.application.dto.CountStrategy;
+import com.b2b.ordermanagement.application.dto.CountedPage;
 import com.b2b.ordermanagement.application.dto.PagedResponse;
+import com.b2b.ordermanagement.application.dto.PartnerDashboardDTO;
 import com.b2b.ordermanagement.application.dto.PartnerFilterDTO;
 import com.b2b.ordermanagement.application.dto.PartnerResponseDTO;
 import com.b2b.ordermanagement.application.interfaces.PartnerFilterParams;
 import com.b2b.ordermanagement.application.services.PartnerService;
-import org.springframework.data.domain.Page;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -40,15 +42,24 @@ public class PartnerController {
             @Parameter(description = "Page number (0-based)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "20") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Sort by field", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sort,
-            @Parameter(description = "Sort direction", example = "desc") @RequestParam(defaultValue = "desc") String direction) {
+            @Parameter(description = "Sort direction", example = "desc") @RequestParam(defaultValue = "desc") String direction,
+            @Parameter(description = "How to compute the total: EXACT, CACHED or ESTIMATED (server default when omitted)")
+            @RequestParam(required = false) CountStrategy countStrategy) {
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("desc") ?
                 Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
         PartnerFilterParams filters = new PartnerFilterDTO(partnerId, startDate, endDate);
-        Page<PartnerResponseDTO> orders = partnerService.getFiltered(filters, pageable);
+        CountedPage<PartnerResponseDTO> orders = partnerService.getFiltered(filters, pageable, countStrategy);
 
         return ResponseEntity.ok(PagedResponse.of(orders));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{partnerId}/dashboard")
+    @Operation(summary = "Get partner dashboard", description = "Order totals by status and recent orders for a partner")
+    public ResponseEntity<PartnerDashboardDTO> getDashboard(
+            @Parameter(description = "Partner ID") @PathVariable String partnerId) {
+        return ResponseEntity.ok(partnerService.getPartnerDashboard(partnerId));
+    }
+}
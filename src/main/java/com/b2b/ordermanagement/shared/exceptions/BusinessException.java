@@ -1,12 +1,17 @@
 package com.b2b.ordermanagement.shared.exceptions;
 
+/**
+ * An expected rejection of a request (insufficient credit, invalid status, ...).
+ * Rejections are part of normal traffic, so the message-only constructor skips the
+ * stack trace; the cause-carrying constructor keeps it for unexpected failures.
+ */
 public class BusinessException extends RuntimeException {
 
     public BusinessException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public BusinessException(String message, Throwable cause) {
         super(message, cause);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package com.b2b.ordermanagement.shared.exceptions;
+
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,7 +1,12 @@
 package com.b2b.ordermanagement.shared.exceptions;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -19,10 +24,17 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final SampledRejectionLog rejections;
+
+    public GlobalExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${orders.rejections.log-sample-every:100}") long logSampleEvery) {
+        this.rejections = new SampledRejectionLog(logger, logSampleEvery, meterRegistry.getIfAvailable());
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
-        logger.error("Resource not found: {}", ex.getMessage());
+        rejections.record("RESOURCE_NOT_FOUND", ex.getMessage());
 
         ErrorResponse error = new ErrorResponse(
                 "RESOURCE_NOT_FOUND",
@@ -37,7 +49,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(
             BusinessException ex, WebRequest request) {
-        logger.error("Business rule violation: {}", ex.getMessage());
+        rejections.record("BUSINESS_RULE_VIOLATION", ex.getMessage());
 
         ErrorResponse error = new ErrorResponse(
                 "BUSINESS_RULE_VIOLATION",
@@ -49,10 +61,43 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler({ConflictException.class, ConcurrencyFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConflictException(
+            RuntimeException ex, WebRequest request) {
+        rejections.record("CONCURRENT_MODIFICATION", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "CONCURRENT_MODIFICATION",
+                "The resource was modified concurrently, please retry",
+                LocalDateTime.now(),
+                request.getDescription(false)
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(
+            RateLimitExceededException ex, WebRequest request) {
+        rejections.record("RATE_LIMITED", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "RATE_LIMITED",
+                ex.getMessage(),
+                LocalDateTime.now(),
+                request.getDescription(false)
+        );
+
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(
             MethodArgumentNotValidException ex, WebRequest request) {
-        logger.error("Validation error: {}", ex.getMessage());
+        rejections.record("VALIDATION_ERROR", ex.getMessage());
 
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
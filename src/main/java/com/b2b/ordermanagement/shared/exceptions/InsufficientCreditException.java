@@ -0,0 +1,8 @@
+package com.b2b.ordermanagement.shared.exceptions;
+
+public class InsufficientCreditException extends BusinessException {
+
+    public InsufficientCreditException(String partnerId) {
+        super("Insufficient credit available for partner: " + partnerId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.b2b.ordermanagement.shared.exceptions;
+
+import java.time.Duration;
+
+/**
+ * A partner exceeded its request rate. Stackless, like {@link BusinessException}: it is
+ * thrown on the hot path of a misbehaving client, possibly thousands of times a second.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
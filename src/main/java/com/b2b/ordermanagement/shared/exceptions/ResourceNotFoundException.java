@@ -1,8 +1,11 @@
 package com.b2b.ordermanagement.shared.exceptions;
 
+/**
+ * Lookup miss for an order or partner. Stackless, like {@link BusinessException}.
+ */
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.b2b.ordermanagement.shared.exceptions;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts expected rejections per error code and only logs the first one and every
+ * {@code sampleEvery}-th one after that, so a flood of denied requests costs a counter
+ * increment instead of a log line each.
+ */
+class SampledRejectionLog {
+
+    private final Logger logger;
+    private final long sampleEvery;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    SampledRejectionLog(Logger logger, long sampleEvery, MeterRegistry meterRegistry) {
+        this.logger = logger;
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.meterRegistry = meterRegistry;
+    }
+
+    void record(String code, String message) {
+        long count = counts.computeIfAbsent(code, key -> new AtomicLong()).incrementAndGet();
+        if (meterRegistry != null) {
+            counters.computeIfAbsent(code, key -> Counter.builder("http.rejections")
+                            .description("Expected request rejections by error code")
+                            .tag("code", key)
+                            .register(meterRegistry))
+                    .increment();
+        }
+        if (count == 1 || count % sampleEvery == 0) {
+            logger.warn("{} (#{}, logging 1 in {}): {}", code, count, sampleEvery, message);
+        }
+    }
+
+    long count(String code) {
+        AtomicLong count = counts.get(code);
+        return count != null ? count.get() : 0;
+    }
+}
@@ -1,9 +1,16 @@
 package com.b2b.ordermanagement.shared.mappers;
 
 import com.b2b.ordermanagement.application.dto.OrderItemResponseDTO;
+import com.b2b.ordermanagement.application.dto.OrderEventDTO;
+import com.b2b.ordermanagement.application.dto.OrderHistoryDTO;
 import com.b2b.ordermanagement.application.dto.OrderResponseDTO;
+import com.b2b.ordermanagement.application.dto.OrderSummaryDTO;
 import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.entities.OrderEvent;
 import com.b2b.ordermanagement.domain.entities.OrderItem;
+import com.b2b.ordermanagement.domain.entities.OrderSummary;
+import com.b2b.ordermanagement.infrastructure.archive.ArchivedItem;
+import com.b2b.ordermanagement.infrastructure.archive.ArchivedOrder;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -44,4 +51,75 @@ public class OrderMapper {
                 item.getTotalPrice()
         );
     }
-}
\ No newline at end of file
+
+    public OrderResponseDTO toResponseDTO(ArchivedOrder order) {
+        if (order == null) {
+            return null;
+        }
+
+        List<OrderItemResponseDTO> itemDTOs = order.items().stream()
+                .map(this::toItemResponseDTO)
+                .toList();
+
+        return new OrderResponseDTO(
+                order.id(),
+                order.partnerId(),
+                order.status(),
+                order.totalAmount(),
+                order.createdAt(),
+                order.updatedAt(),
+                itemDTOs
+        );
+    }
+
+    public OrderItemResponseDTO toItemResponseDTO(ArchivedItem item) {
+        if (item == null) {
+            return null;
+        }
+
+        return new OrderItemResponseDTO(
+                item.id(),
+                item.productId(),
+                item.quantity(),
+                item.unitPrice(),
+                item.totalPrice()
+        );
+    }
+
+    public OrderSummaryDTO toSummaryDTO(OrderSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return new OrderSummaryDTO(
+                summary.getId(),
+                summary.getPartnerId(),
+                summary.getStatus(),
+                summary.getTotalAmount(),
+                summary.getItemCount(),
+                summary.getCreatedAt(),
+                summary.getUpdatedAt()
+        );
+    }
+
+    public OrderHistoryDTO toHistoryDTO(String orderId, List<OrderEvent> events) {
+        String partnerId = events.isEmpty() ? null : events.get(0).getPartnerId();
+        return new OrderHistoryDTO(orderId, partnerId, events.stream().map(this::toEventDTO).toList());
+    }
+
+    public OrderEventDTO toEventDTO(OrderEvent event) {
+        if (event == null) {
+            return null;
+        }
+
+        return new OrderEventDTO(
+                event.getSequence(),
+                event.getType(),
+                event.getPreviousStatus(),
+                event.getStatus(),
+                event.getTotalAmount(),
+                event.getItemCount(),
+                event.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,128 @@
+package com.b2b.ordermanagement;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time-to-ready of the service under each startup variant: from process launch until
+ * {@code /actuator/health/readiness} answers 200. Every run starts a fresh JVM on a free
+ * port, so the numbers include JVM boot and class loading, not just context refresh.
+ *
+ * <p>Variants come from the Gradle task as {@code name|jvmArg|jvmArg...}; the children
+ * inherit the environment, so point {@code SPRING_DATASOURCE_URL} at a reachable database.</p>
+ *
+ * <pre>
+ * ./gradlew startupBenchmark [-Paot] [-PstartupRuns=5]
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private static final String MAIN_CLASS = OrderApplication.class.getName();
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_MILLIS = 20;
+
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: StartupBenchmark <runs> <name|jvmArg...>...");
+            System.exit(2);
+        }
+        String classpath = System.getProperty("startup.classpath");
+        Path logDir = Path.of(System.getProperty("startup.logDir", System.getProperty("java.io.tmpdir")));
+        int runs = Integer.parseInt(args[0]);
+
+        List<VariantResult> results = new ArrayList<>();
+        for (String spec : Arrays.asList(args).subList(1, args.length)) {
+            String[] parts = spec.split("\\|");
+            String name = parts[0];
+            List<String> jvmArgs = Arrays.stream(parts).skip(1).filter(arg -> !arg.isBlank()).toList();
+            File log = logDir.resolve("startup-" + name + ".log").toFile();
+
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = timeToReady(classpath, jvmArgs, log).toMillis();
+            }
+            results.add(VariantResult.of(name, millis));
+        }
+        print(results, System.out);
+    }
+
+    static Duration timeToReady(String classpath, List<String> jvmArgs, File log) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-cp", classpath, MAIN_CLASS,
+                "--server.port=" + port, "--management.endpoint.health.probes.enabled=true"));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest readiness = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            while (true) {
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Service exited with " + process.exitValue() + ", see " + log);
+                }
+                if (elapsed.compareTo(READY_TIMEOUT) > 0) {
+                    throw new IllegalStateException("Service not ready after " + READY_TIMEOUT + ", see " + log);
+                }
+                try {
+                    if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start);
+                    }
+                } catch (IOException notListeningYet) {
+                    // Connection refused until the embedded server binds
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    static void print(List<VariantResult> results, PrintStream out) {
+        out.printf("%-16s %6s %10s %10s %10s%n", "variant", "runs", "min(ms)", "median(ms)", "max(ms)");
+        for (VariantResult row : results) {
+            out.printf("%-16s %6d %10d %10d %10d%n", row.name(), row.runs(), row.min(), row.median(), row.max());
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    record VariantResult(String name, int runs, long min, long median, long max) {
+
+        static VariantResult of(String name, long[] millis) {
+            long[] sorted = millis.clone();
+            Arrays.sort(sorted);
+            return new VariantResult(name, sorted.length, sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]);
+        }
+    }
+}
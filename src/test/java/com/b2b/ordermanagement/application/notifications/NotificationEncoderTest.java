@@ -0,0 +1,67 @@
+package com.b2b.ordermanagement.application.notifications;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NotificationEncoder Tests")
+class NotificationEncoderTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 5, 1, 10, 30, 15);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should encode order created notification as compact JSON")
+    void shouldEncodeOrderCreated() throws Exception {
+        ByteBuffer payload = NotificationEncoder.encode(new OrderCreatedNotification(
+                "order-123", "PARTNER001", new BigDecimal("150.50"), 3, OrderStatus.PENDING, TIMESTAMP));
+
+        String json = StandardCharsets.UTF_8.decode(payload).toString();
+
+        assertThat(json).isEqualTo("{\"event\":\"order_created\",\"orderId\":\"order-123\","
+                + "\"partnerId\":\"PARTNER001\",\"totalAmount\":150.50,\"itemCount\":3,"
+                + "\"status\":\"PENDING\",\"timestamp\":\"2024-05-01T10:30:15\"}");
+    }
+
+    @Test
+    @DisplayName("Should encode status change and escape field values")
+    void shouldEncodeStatusChange() throws Exception {
+        ByteBuffer payload = NotificationEncoder.encode(new OrderStatusChangedNotification(
+                "order-\"1\"", "PARTNER001", OrderStatus.PENDING, OrderStatus.APPROVED, TIMESTAMP));
+
+        JsonNode json = objectMapper.readTree(StandardCharsets.UTF_8.decode(payload).toString());
+
+        assertThat(json.get("event").asText()).isEqualTo("order_status_changed");
+        assertThat(json.get("orderId").asText()).isEqualTo("order-\"1\"");
+        assertThat(json.get("previousStatus").asText()).isEqualTo("PENDING");
+        assertThat(json.get("newStatus").asText()).isEqualTo("APPROVED");
+    }
+
+    @Test
+    @DisplayName("Should reuse the thread's buffer and grow it for large payloads")
+    void shouldReuseBuffer() {
+        ByteBuffer first = NotificationEncoder.encode(new OrderStatusChangedNotification(
+                "order-1", "PARTNER001", OrderStatus.PENDING, OrderStatus.APPROVED, TIMESTAMP));
+        byte[] backing = first.array();
+
+        ByteBuffer second = NotificationEncoder.encode(new OrderStatusChangedNotification(
+                "order-2", "PARTNER001", OrderStatus.APPROVED, OrderStatus.PROCESSING, TIMESTAMP));
+        assertThat(second.array()).isSameAs(backing);
+
+        String longId = "x".repeat(4096);
+        ByteBuffer large = NotificationEncoder.encode(new OrderStatusChangedNotification(
+                longId, "PARTNER001", OrderStatus.APPROVED, OrderStatus.CANCELLED, TIMESTAMP));
+        assertThat(large.remaining()).isGreaterThan(4096);
+        assertThat(StandardCharsets.UTF_8.decode(large).toString()).contains(longId);
+    }
+}
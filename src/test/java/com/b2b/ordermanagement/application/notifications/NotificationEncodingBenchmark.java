@@ -0,0 +1,71 @@
+package com.b2b.ordermanagement.application.notifications;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes allocated per status-change payload, String.format text block vs streaming encoder.
+ * Excluded from {@code test}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Notification encoding allocation benchmark")
+class NotificationEncodingBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 5, 1, 10, 30, 15);
+
+    private static volatile int sink;
+
+    @Test
+    @DisplayName("Streaming encoder allocates less per event than String.format")
+    void compareAllocationPerEvent() {
+        double formatted = bytesPerEvent(i -> {
+            String message = String.format("""
+                {
+                    "event": "order_status_changed",
+                    "orderId": "%s",
+                    "partnerId": "%s",
+                    "previousStatus": "%s",
+                    "newStatus": "%s",
+                    "timestamp": "%s"
+                }
+                """, "order-" + (i & 1023), "PARTNER001", OrderStatus.PENDING, OrderStatus.APPROVED, TIMESTAMP);
+            return message.getBytes(StandardCharsets.UTF_8).length;
+        });
+
+        double streamed = bytesPerEvent(i -> {
+            ByteBuffer payload = NotificationEncoder.encode(new OrderStatusChangedNotification(
+                    "order-" + (i & 1023), "PARTNER001", OrderStatus.PENDING, OrderStatus.APPROVED, TIMESTAMP));
+            return payload.remaining();
+        });
+
+        System.out.printf("String.format text block: %8.1f B/event%n", formatted);
+        System.out.printf("Streaming encoder:        %8.1f B/event%n", streamed);
+        assertThat(streamed).isLessThan(formatted);
+    }
+
+    private static double bytesPerEvent(IntFunction<Integer> encode) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            sink += encode.apply(i);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += encode.apply(i);
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / (double) ITERATIONS;
+    }
+}
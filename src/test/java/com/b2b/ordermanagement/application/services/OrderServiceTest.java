@@ -1,14 +1,39 @@
 package com.b2b.ordermanagement.application.services;
 
+import com.b2b.ordermanagement.application.dto.CountStrategy;
+import com.b2b.ordermanagement.application.dto.CountedPage;
 import com.b2b.ordermanagement.application.dto.CreateOrderDTO;
+import com.b2b.ordermanagement.application.dto.CursorPagedResponse;
+import com.b2b.ordermanagement.application.dto.OrderCursor;
+import com.b2b.ordermanagement.application.dto.OrderFilterDTO;
+import com.b2b.ordermanagement.application.dto.OrderHistoryDTO;
 import com.b2b.ordermanagement.application.dto.OrderResponseDTO;
+import com.b2b.ordermanagement.application.dto.OrderSummaryDTO;
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
 import com.b2b.ordermanagement.application.interfaces.OrderFilterParams;
 import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.entities.OrderEvent;
 import com.b2b.ordermanagement.domain.entities.OrderItem;
+import com.b2b.ordermanagement.domain.entities.OrderSummary;
 import com.b2b.ordermanagement.domain.entities.Partner;
 import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.approval.AutoApprovalRules;
+import com.b2b.ordermanagement.infrastructure.archive.ArchivedItem;
+import com.b2b.ordermanagement.infrastructure.archive.ArchivedOrder;
+import com.b2b.ordermanagement.infrastructure.archive.OrderArchive;
+import com.b2b.ordermanagement.infrastructure.cache.OrderResponseCache;
+import com.b2b.ordermanagement.infrastructure.counting.TotalCounter;
+import com.b2b.ordermanagement.infrastructure.limits.PartnerRateLimiter;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderEventRepository;
 import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSummaryRepository;
+import com.b2b.ordermanagement.infrastructure.search.RecentProductIndex;
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
 import com.b2b.ordermanagement.shared.exceptions.BusinessException;
+import com.b2b.ordermanagement.shared.exceptions.InsufficientCreditException;
+import com.b2b.ordermanagement.shared.exceptions.RateLimitExceededException;
 import com.b2b.ordermanagement.shared.exceptions.ResourceNotFoundException;
 import com.b2b.ordermanagement.shared.mappers.OrderMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,17 +41,23 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -52,6 +83,36 @@ public class OrderServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private OrderResponseCache responseCache;
+
+    @Mock
+    private PartnerRateLimiter rateLimiter;
+
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Mock
+    private OrderEventRepository orderEventRepository;
+
+    @Mock
+    private RecentProductIndex recentProductIndex;
+
+    @Mock
+    private TotalCounter totalCounter;
+
+    @Mock
+    private AutoApprovalRules autoApprovalRules;
+
+    @Mock
+    private OrderArchive orderArchive;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -90,7 +151,102 @@ public class OrderServiceTest {
             assertThat(result.id()).isEqualTo(mockOrder.getId());
             verify(partnerService).getPartnerEntityById("PARTNER001");
             verify(orderRepository).save(any(Order.class));
-            verify(notificationService).simulateMessageSend(eq("order.created"), anyString());
+            verify(notificationService).simulateMessageSend(eq("order.created"), any(ByteBuffer.class));
+            verify(eventPublisher).publishEvent(any(OrderCreatedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Should send no notification for a warm-up request, whose transaction is rolled back")
+        void shouldNotNotifyDuringWarmup() {
+            when(partnerService.getPartnerEntityById("PARTNER001")).thenReturn(mockPartner);
+            when(mockPartner.hasAvailableCredit(any(BigDecimal.class))).thenReturn(true);
+            when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+            when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
+
+            TransactionSynchronizationManager.initSynchronization();
+            WarmupSession.beginRequest();
+            try {
+                orderService.createOrder(validCreateOrderDTO);
+                TransactionSynchronizationUtils.invokeAfterCompletion(
+                        TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+            } finally {
+                WarmupSession.endRequest();
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            verify(notificationService, never()).simulateMessageSend(anyString(), any(ByteBuffer.class));
+        }
+
+        @Test
+        @DisplayName("Should send the notification only once the transaction commits")
+        void shouldNotifyAfterCommit() {
+            when(partnerService.getPartnerEntityById("PARTNER001")).thenReturn(mockPartner);
+            when(mockPartner.hasAvailableCredit(any(BigDecimal.class))).thenReturn(true);
+            when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+            when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                orderService.createOrder(validCreateOrderDTO);
+                verify(notificationService, never()).simulateMessageSend(anyString(), any(ByteBuffer.class));
+
+                TransactionSynchronizationUtils.triggerAfterCommit();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            verify(notificationService).simulateMessageSend(eq("order.created"), any(ByteBuffer.class));
+        }
+
+        @Test
+        @DisplayName("Should save an order matching an auto-approval rule as approved after debiting credit")
+        void shouldAutoApproveMatchingOrder() {
+            when(partnerService.getPartnerEntityById("PARTNER001")).thenReturn(mockPartner);
+            when(mockPartner.hasAvailableCredit(any(BigDecimal.class))).thenReturn(true);
+            when(autoApprovalRules.match(any(Order.class), eq(mockPartner))).thenReturn(Optional.of("small-orders"));
+            when(partnerService.debitCredit(eq("PARTNER001"), any(BigDecimal.class))).thenReturn(CreditDecision.GRANTED);
+            when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+            when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
+
+            orderService.createOrder(validCreateOrderDTO);
+
+            ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+            verify(orderRepository).save(saved.capture());
+            assertThat(saved.getValue().getStatus()).isEqualTo(OrderStatus.APPROVED);
+            verify(notificationService).simulateMessageSend(eq("order.created"), any(ByteBuffer.class));
+            verify(notificationService, never()).simulateMessageSend(eq("order.status.changed"), any(ByteBuffer.class));
+        }
+
+        @Test
+        @DisplayName("Should leave a matching order pending when the credit debit is refused")
+        void shouldLeaveOrderPendingWhenAutoApprovalDebitFails() {
+            when(partnerService.getPartnerEntityById("PARTNER001")).thenReturn(mockPartner);
+            when(mockPartner.hasAvailableCredit(any(BigDecimal.class))).thenReturn(true);
+            when(autoApprovalRules.match(any(Order.class), eq(mockPartner))).thenReturn(Optional.of("small-orders"));
+            when(partnerService.debitCredit(eq("PARTNER001"), any(BigDecimal.class)))
+                    .thenReturn(CreditDecision.INSUFFICIENT_CREDIT);
+            when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+            when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
+
+            orderService.createOrder(validCreateOrderDTO);
+
+            ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+            verify(orderRepository).save(saved.capture());
+            assertThat(saved.getValue().getStatus()).isEqualTo(OrderStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("Should refuse throttled partners before touching the database")
+        void shouldRejectThrottledPartnerBeforeDatabaseWork() {
+            CreateOrderDTO orderDTO = mock(CreateOrderDTO.class);
+            when(orderDTO.partnerId()).thenReturn("PARTNER001");
+            doThrow(new RateLimitExceededException("Rate limit exceeded for partner: PARTNER001", Duration.ofMillis(50)))
+                    .when(rateLimiter).acquire(PartnerRateLimiter.Operation.CREATE, "PARTNER001");
+
+            assertThatThrownBy(() -> orderService.createOrder(orderDTO))
+                    .isInstanceOf(RateLimitExceededException.class);
+
+            verifyNoInteractions(partnerService, orderRepository, notificationService);
         }
 
         @Test
@@ -109,7 +265,7 @@ public class OrderServiceTest {
                     .hasMessageContaining("Insufficient credit available for partner: PARTNER001");
 
             verify(orderRepository, never()).save(any(Order.class));
-            verify(notificationService, never()).simulateMessageSend(anyString(), anyString());
+            verify(notificationService, never()).simulateMessageSend(anyString(), any(ByteBuffer.class));
         }
 
         @Test
@@ -183,6 +339,21 @@ public class OrderServiceTest {
             verify(orderRepository).findById(orderId);
         }
 
+        @Test
+        @DisplayName("Should offer the encoded response to the cache with its version and status")
+        void shouldOfferResponseToCache() {
+            String orderId = "order-123";
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(mockOrder));
+            when(mockOrder.getId()).thenReturn(orderId);
+            when(mockOrder.getVersion()).thenReturn(4L);
+            when(mockOrder.getStatus()).thenReturn(OrderStatus.DELIVERED);
+            when(orderMapper.toResponseDTO(mockOrder)).thenReturn(mockOrderResponseDTO);
+
+            orderService.getOrderById(orderId);
+
+            verify(responseCache).store(orderId, 4L, OrderStatus.DELIVERED, mockOrderResponseDTO);
+        }
+
         @Test
         @DisplayName("Should throw ResourceNotFoundException when order not found")
         void shouldThrowResourceNotFoundExceptionWhenOrderNotFound() {
@@ -193,6 +364,56 @@ public class OrderServiceTest {
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Order not found: " + orderId);
         }
+
+        @Test
+        @DisplayName("Should fall back to the archive when the order is no longer in the database")
+        void shouldReturnArchivedOrder() {
+            String orderId = "archived-order";
+            ArchivedOrder archived = new ArchivedOrder(orderId, "PARTNER001", OrderStatus.DELIVERED,
+                    OrderStatus.SHIPPED, new BigDecimal("200.00"), LocalDateTime.now().minusDays(120),
+                    LocalDateTime.now().minusDays(100), 3L,
+                    List.of(new ArchivedItem(7L, "PRODUCT001", 2, new BigDecimal("100.00"))));
+            when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+            when(orderArchive.find(orderId)).thenReturn(Optional.of(archived));
+            when(orderMapper.toResponseDTO(archived)).thenReturn(mockOrderResponseDTO);
+
+            OrderResponseDTO result = orderService.getOrderById(orderId);
+
+            assertThat(result).isSameAs(mockOrderResponseDTO);
+            verify(responseCache).store(orderId, 3L, OrderStatus.DELIVERED, mockOrderResponseDTO);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Order History Tests")
+    class GetOrderHistoryTests {
+
+        @Test
+        @DisplayName("Should return the logged events of an order in sequence order")
+        void shouldReturnOrderHistory() {
+            String orderId = "order-123";
+            List<OrderEvent> events = List.of(
+                    OrderEvent.created(orderId, 0, "PARTNER001", OrderStatus.PENDING,
+                            new BigDecimal("100.00"), 1, LocalDateTime.now().minusHours(1)),
+                    OrderEvent.statusChanged(orderId, 1, "PARTNER001",
+                            OrderStatus.PENDING, OrderStatus.APPROVED, LocalDateTime.now()));
+            OrderHistoryDTO history = new OrderHistoryDTO(orderId, "PARTNER001", List.of());
+            when(orderEventRepository.findByOrderIdOrderBySequenceAsc(orderId)).thenReturn(events);
+            when(orderMapper.toHistoryDTO(orderId, events)).thenReturn(history);
+
+            assertThat(orderService.getOrderHistory(orderId)).isSameAs(history);
+            verifyNoInteractions(orderRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when the order has no events")
+        void shouldThrowWhenNoHistory() {
+            when(orderEventRepository.findByOrderIdOrderBySequenceAsc("missing")).thenReturn(List.of());
+
+            assertThatThrownBy(() -> orderService.getOrderHistory("missing"))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Order not found: missing");
+        }
     }
 
     @Nested
@@ -201,72 +422,167 @@ public class OrderServiceTest {
 
         private OrderFilterParams mockFilters;
         private Pageable mockPageable;
-        private Page<Order> mockOrderPage;
+        private OrderSummaryDTO mockSummaryDTO;
 
         @BeforeEach
         void setUp() {
             mockFilters = mock(OrderFilterParams.class);
             mockPageable = PageRequest.of(0, 10);
-            mockOrderPage = new PageImpl<>(List.of(mockOrder));
+            mockSummaryDTO = new OrderSummaryDTO("order-123", "PARTNER001", OrderStatus.PENDING,
+                    new BigDecimal("100.00"), 1, LocalDateTime.now(), LocalDateTime.now());
         }
 
         @Test
-        @DisplayName("Should return filtered orders with all filters applied")
-        void shouldReturnFilteredOrdersWithAllFilters() {
+        @DisplayName("Should query and count with the same trimmed filters the page is keyed on")
+        void shouldReturnFilteredOrdersWithCountedTotal() {
             when(mockFilters.hasPartnerId()).thenReturn(true);
-            when(mockFilters.hasStatus()).thenReturn(true);
-            when(mockFilters.hasDateRange()).thenReturn(true);
-            when(mockFilters.getPartnerId()).thenReturn("PARTNER001");
-            when(mockFilters.getStatus()).thenReturn(OrderStatus.PENDING);
-            when(mockFilters.getStartDate()).thenReturn(LocalDateTime.now().minusDays(7));
-            when(mockFilters.getEndDate()).thenReturn(LocalDateTime.now());
-
-            when(orderRepository.findByPartnerIdAndStatusAndCreatedAtBetween(
-                    anyString(), any(OrderStatus.class), any(LocalDateTime.class),
-                    any(LocalDateTime.class), any(Pageable.class)
-            )).thenReturn(mockOrderPage);
+            when(mockFilters.getPartnerId()).thenReturn(" PARTNER001 ");
+            when(orderSummaryRepository.findMatching(eq(new OrderFilterDTO("PARTNER001", null, null, null)), any(Pageable.class)))
+                    .thenReturn(List.of(mock(OrderSummary.class)));
+            when(orderMapper.toSummaryDTO(any(OrderSummary.class))).thenReturn(mockSummaryDTO);
+            when(totalCounter.total(eq("orders"), eq(new OrderFilterDTO("PARTNER001", null, null, null)),
+                    eq(CountStrategy.CACHED), any(Pageable.class), eq(1), any(), any()))
+                    .thenReturn(new TotalCounter.Total(1, CountStrategy.CACHED));
+
+            CountedPage<OrderSummaryDTO> result =
+                    orderService.getFilteredOrders(mockFilters, mockPageable, CountStrategy.CACHED);
+
+            assertThat(result.page().getContent()).containsExactly(mockSummaryDTO);
+            assertThat(result.page().getTotalElements()).isEqualTo(1);
+            assertThat(result.countStrategy()).isEqualTo(CountStrategy.CACHED);
+            verifyNoInteractions(orderRepository);
+        }
 
-            when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
+        @Test
+        @DisplayName("Should default to newest first when no sort is given")
+        void shouldDefaultToNewestFirst() {
+            when(orderSummaryRepository.findMatching(any(), any(Pageable.class))).thenReturn(List.of());
+            when(totalCounter.total(anyString(), any(), any(), any(Pageable.class), anyInt(), any(), any()))
+                    .thenReturn(new TotalCounter.Total(0, CountStrategy.EXACT));
 
-            Page<OrderResponseDTO> result = orderService.getFilteredOrders(mockFilters, mockPageable);
+            orderService.getFilteredOrders(mockFilters, mockPageable, null);
 
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).hasSize(1);
-            verify(orderRepository).findByPartnerIdAndStatusAndCreatedAtBetween(
-                    anyString(), any(OrderStatus.class), any(LocalDateTime.class),
-                    any(LocalDateTime.class), any(Pageable.class)
-            );
+            verify(orderSummaryRepository).findMatching(any(),
+                    argThat(pageable -> pageable.getSort().equals(Sort.by(Sort.Direction.DESC, "createdAt"))));
         }
 
         @Test
-        @DisplayName("Should return all orders when no filters applied")
-        void shouldReturnAllOrdersWhenNoFiltersApplied() {
-            when(mockFilters.hasPartnerId()).thenReturn(false);
-            when(mockFilters.hasStatus()).thenReturn(false);
-            when(mockFilters.hasDateRange()).thenReturn(false);
-            when(orderRepository.findAll(any(Pageable.class))).thenReturn(mockOrderPage);
-            when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
+        @DisplayName("Should handle empty results gracefully")
+        void shouldHandleEmptyResultsGracefully() {
+            when(orderSummaryRepository.findMatching(any(), any(Pageable.class))).thenReturn(List.of());
+            when(totalCounter.total(anyString(), any(), any(), any(Pageable.class), anyInt(), any(), any()))
+                    .thenReturn(new TotalCounter.Total(0, CountStrategy.EXACT));
 
-            Page<OrderResponseDTO> result = orderService.getFilteredOrders(mockFilters, mockPageable);
+            CountedPage<OrderSummaryDTO> result = orderService.getFilteredOrders(mockFilters, mockPageable, null);
 
-            assertThat(result).isNotNull();
-            verify(orderRepository).findAll(any(Pageable.class));
+            assertThat(result.page().getContent()).isEmpty();
+            assertThat(result.page().getTotalElements()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Orders By Product Tests")
+    class GetOrdersByProductTests {
+
+        private final LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+        private OrderSummary summary(String id, LocalDateTime createdAt) {
+            return new OrderSummary(id, "PARTNER001", OrderStatus.PENDING, new BigDecimal("10.00"), 1,
+                    createdAt, createdAt, 0L);
         }
 
         @Test
-        @DisplayName("Should handle empty results gracefully")
-        void shouldHandleEmptyResultsGracefully() {
-            Page<Order> emptyPage = new PageImpl<>(List.of());
-            when(mockFilters.hasPartnerId()).thenReturn(false);
-            when(mockFilters.hasStatus()).thenReturn(false);
-            when(mockFilters.hasDateRange()).thenReturn(false);
-            when(orderRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
+        @DisplayName("Should read the first page from the database and return a cursor when more rows exist")
+        void shouldReturnFirstPageWithCursor() {
+            when(recentProductIndex.lookup(anyString(), any(), any(), any(), any(), anyInt())).thenReturn(Optional.empty());
+            when(orderSummaryRepository.findFirstByProduct(eq("PROD001"), eq(""), eq(""),
+                    any(LocalDateTime.class), any(LocalDateTime.class), eq(3)))
+                    .thenReturn(List.of(summary("o3", now), summary("o2", now.minusMinutes(1)), summary("o1", now.minusMinutes(2))));
+
+            CursorPagedResponse<OrderSummaryDTO> page =
+                    orderService.getOrdersByProduct("PROD001", new OrderFilterDTO(), null, 2);
+
+            assertThat(page.records()).hasSize(2);
+            assertThat(page.nextCursor()).isNotNull();
+            assertThat(OrderCursor.decode(page.nextCursor())).isEqualTo(new OrderCursor(now.minusMinutes(1), "o2"));
+        }
 
-            Page<OrderResponseDTO> result = orderService.getFilteredOrders(mockFilters, mockPageable);
+        @Test
+        @DisplayName("Should continue after the cursor and end without a next cursor")
+        void shouldContinueAfterCursor() {
+            OrderCursor cursor = new OrderCursor(now.minusMinutes(1), "o2");
+            when(recentProductIndex.lookup(anyString(), any(), any(), any(), any(), anyInt())).thenReturn(Optional.empty());
+            when(orderSummaryRepository.findByProductAfter(eq("PROD001"), eq("PARTNER001"), eq("PENDING"),
+                    any(LocalDateTime.class), any(LocalDateTime.class), eq(cursor.createdAt()), eq("o2"), eq(3)))
+                    .thenReturn(List.of(summary("o1", now.minusMinutes(2))));
+
+            CursorPagedResponse<OrderSummaryDTO> page = orderService.getOrdersByProduct("PROD001",
+                    new OrderFilterDTO("PARTNER001", OrderStatus.PENDING, null, null), cursor.encode(), 2);
+
+            assertThat(page.records()).hasSize(1);
+            assertThat(page.nextCursor()).isNull();
+        }
 
-            assertThat(result).isNotNull();
-            assertThat(result.getContent()).isEmpty();
-            assertThat(result.getTotalElements()).isZero();
+        @Test
+        @DisplayName("Should serve recent ranges from the in-memory index in index order")
+        void shouldServeFromRecentIndex() {
+            OrderFilterDTO filters = new OrderFilterDTO(null, null, now.minusMinutes(10), now);
+            when(recentProductIndex.lookup("PROD001", null, filters.getStartDate(), filters.getEndDate(), null, 3))
+                    .thenReturn(Optional.of(List.of("o2", "o1")));
+            when(orderSummaryRepository.findAllById(List.of("o2", "o1")))
+                    .thenReturn(List.of(summary("o1", now.minusMinutes(2)), summary("o2", now.minusMinutes(1))));
+            when(orderMapper.toSummaryDTO(any(OrderSummary.class)))
+                    .thenAnswer(invocation -> {
+                        OrderSummary s = invocation.getArgument(0);
+                        return new OrderSummaryDTO(s.getId(), s.getPartnerId(), s.getStatus(), s.getTotalAmount(),
+                                s.getItemCount(), s.getCreatedAt(), s.getUpdatedAt());
+                    });
+
+            CursorPagedResponse<OrderSummaryDTO> page = orderService.getOrdersByProduct("PROD001", filters, null, 2);
+
+            assertThat(page.records()).extracting(OrderSummaryDTO::id).containsExactly("o2", "o1");
+            verify(orderSummaryRepository, never()).findFirstByProduct(anyString(), anyString(), anyString(),
+                    any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should fall back to the database when the index is ahead of the summaries")
+        void shouldFallBackWhenSummaryMissing() {
+            OrderFilterDTO filters = new OrderFilterDTO(null, null, now.minusMinutes(10), now);
+            when(recentProductIndex.lookup("PROD001", null, filters.getStartDate(), filters.getEndDate(), null, 3))
+                    .thenReturn(Optional.of(List.of("o3", "o2", "o1")));
+            when(orderSummaryRepository.findAllById(List.of("o3", "o2", "o1")))
+                    .thenReturn(List.of(summary("o1", now.minusMinutes(2)), summary("o3", now)));
+            when(orderSummaryRepository.findFirstByProduct(eq("PROD001"), eq(""), eq(""),
+                    eq(filters.getStartDate()), eq(filters.getEndDate()), eq(3)))
+                    .thenReturn(List.of(summary("o3", now), summary("o1", now.minusMinutes(2))));
+
+            CursorPagedResponse<OrderSummaryDTO> page = orderService.getOrdersByProduct("PROD001", filters, null, 2);
+
+            assertThat(page.records()).hasSize(2);
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should cap the page size")
+        void shouldCapPageSize() {
+            when(recentProductIndex.lookup(anyString(), any(), any(), any(), any(), anyInt())).thenReturn(Optional.empty());
+            when(orderSummaryRepository.findFirstByProduct(anyString(), anyString(), anyString(), any(), any(), anyInt()))
+                    .thenReturn(List.of());
+
+            CursorPagedResponse<OrderSummaryDTO> page =
+                    orderService.getOrdersByProduct("PROD001", new OrderFilterDTO(), null, 10_000);
+
+            assertThat(page.size()).isEqualTo(100);
+            verify(orderSummaryRepository).findFirstByProduct(anyString(), anyString(), anyString(), any(), any(), eq(101));
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> orderService.getOrdersByProduct("PROD001", new OrderFilterDTO(), "not-a-cursor", 2))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Invalid cursor");
         }
     }
 
@@ -278,59 +594,99 @@ public class OrderServiceTest {
         @DisplayName("Should approve order successfully when conditions are met")
         void shouldApproveOrderSuccessfully() {
             String orderId = "order-123";
-            when(orderRepository.findByIdWithLock(orderId)).thenReturn(Optional.of(mockOrder));
-            when(mockOrder.canBeApproved()).thenReturn(true);
-            when(mockOrder.getStatus()).thenReturn(OrderStatus.PENDING);
+            when(orderRepository.transitionStatus(eq(orderId), eq("APPROVED"), eq(List.of("PENDING")), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(mockOrder));
+            when(mockOrder.getPreviousStatus()).thenReturn(OrderStatus.PENDING);
+            when(mockOrder.getStatus()).thenReturn(OrderStatus.APPROVED);
             when(mockOrder.getPartnerId()).thenReturn("PARTNER001");
             when(mockOrder.getTotalAmount()).thenReturn(BigDecimal.valueOf(100.00));
-            when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+            when(mockOrder.getVersion()).thenReturn(2L);
+            when(partnerService.debitCredit("PARTNER001", BigDecimal.valueOf(100.00))).thenReturn(CreditDecision.GRANTED);
             when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
 
             OrderResponseDTO result = orderService.approveOrder(orderId);
 
             assertThat(result).isNotNull();
+            verify(responseCache).invalidate(orderId, 2L);
+            verify(eventPublisher).publishEvent(new OrderStatusChangedEvent(
+                    orderId, "PARTNER001", OrderStatus.PENDING, OrderStatus.APPROVED, mockOrder.getUpdatedAt(), 2L));
             verify(partnerService).debitCredit("PARTNER001", BigDecimal.valueOf(100.00));
-            verify(mockOrder).updateStatus(OrderStatus.APPROVED);
-            verify(orderRepository).save(mockOrder);
-            verify(notificationService).simulateMessageSend(eq("order.status.changed"), anyString());
+            verify(orderRepository, never()).save(any(Order.class));
+            verify(notificationService).simulateMessageSend(eq("order.status.changed"), any(ByteBuffer.class));
         }
 
         @Test
-        @DisplayName("Should throw BusinessException when order not found")
-        void shouldThrowBusinessExceptionWhenOrderNotFound() {
+        @DisplayName("Should throttle by the order's partner before running the status update")
+        void shouldThrottleTransitionBeforeUpdating() {
+            String orderId = "order-123";
+            when(orderRepository.findPartnerIdById(orderId)).thenReturn(Optional.of("PARTNER001"));
+            doThrow(new RateLimitExceededException("Rate limit exceeded for partner: PARTNER001", Duration.ofMillis(50)))
+                    .when(rateLimiter).acquire(PartnerRateLimiter.Operation.STATUS_CHANGE, "PARTNER001");
+
+            assertThatThrownBy(() -> orderService.approveOrder(orderId))
+                    .isInstanceOf(RateLimitExceededException.class);
+
+            verify(orderRepository, never()).transitionStatus(anyString(), anyString(), anyCollection(), any(LocalDateTime.class));
+            verify(partnerService, never()).debitCredit(anyString(), any(BigDecimal.class));
+            verifyNoInteractions(eventPublisher, notificationService);
+        }
+
+        @Test
+        @DisplayName("Should propagate ResourceNotFoundException when order not found")
+        void shouldThrowResourceNotFoundExceptionWhenOrderNotFound() {
             String orderId = "non-existent-order";
-            when(orderRepository.findByIdWithLock(orderId)).thenReturn(Optional.empty());
+            when(orderRepository.transitionStatus(eq(orderId), anyString(), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.empty());
+            when(orderRepository.findStatusById(orderId)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> orderService.approveOrder(orderId))
-                    .isInstanceOf(BusinessException.class)
-                    .hasMessageContaining("Error creating order: Order not found: " + orderId);
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Order not found: " + orderId);
 
             verify(partnerService, never()).debitCredit(anyString(), any(BigDecimal.class));
-            verify(orderRepository, never()).save(any(Order.class));
         }
 
         @Test
         @DisplayName("Should throw BusinessException when order cannot be approved")
         void shouldThrowBusinessExceptionWhenOrderCannotBeApproved() {
             String orderId = "order-123";
-            when(orderRepository.findByIdWithLock(orderId)).thenReturn(Optional.of(mockOrder));
-            when(mockOrder.canBeApproved()).thenReturn(false);
-            when(mockOrder.getStatus()).thenReturn(OrderStatus.CANCELLED);
+            when(orderRepository.transitionStatus(eq(orderId), anyString(), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.empty());
+            when(orderRepository.findStatusById(orderId)).thenReturn(Optional.of(OrderStatus.CANCELLED));
 
             assertThatThrownBy(() -> orderService.approveOrder(orderId))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("Order cannot be approved in current status: CANCELLED");
 
             verify(partnerService, never()).debitCredit(anyString(), any(BigDecimal.class));
-            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("Should reject approval with InsufficientCreditException when credit is denied")
+        void shouldRejectApprovalWhenCreditDenied() {
+            String orderId = "order-123";
+            when(orderRepository.transitionStatus(eq(orderId), anyString(), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(mockOrder));
+            when(mockOrder.getPreviousStatus()).thenReturn(OrderStatus.PENDING);
+            when(mockOrder.getPartnerId()).thenReturn("PARTNER001");
+            when(mockOrder.getTotalAmount()).thenReturn(BigDecimal.valueOf(100.00));
+            when(partnerService.debitCredit(anyString(), any(BigDecimal.class))).thenReturn(CreditDecision.INSUFFICIENT_CREDIT);
+
+            assertThatThrownBy(() -> orderService.approveOrder(orderId))
+                    .isInstanceOf(InsufficientCreditException.class)
+                    .hasMessage("Insufficient credit available for partner: PARTNER001")
+                    .satisfies(error -> assertThat(error.getStackTrace()).isEmpty());
+
+            verify(notificationService, never()).simulateMessageSend(anyString(), any(ByteBuffer.class));
         }
 
         @Test
         @DisplayName("Should throw BusinessException when partner service fails")
         void shouldThrowBusinessExceptionWhenPartnerServiceFails() {
             String orderId = "order-123";
-            when(orderRepository.findByIdWithLock(orderId)).thenReturn(Optional.of(mockOrder));
-            when(mockOrder.canBeApproved()).thenReturn(true);
+            when(orderRepository.transitionStatus(eq(orderId), anyString(), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(mockOrder));
+            when(mockOrder.getPreviousStatus()).thenReturn(OrderStatus.PENDING);
             when(mockOrder.getPartnerId()).thenReturn("PARTNER001");
             when(mockOrder.getTotalAmount()).thenReturn(BigDecimal.valueOf(100.00));
             doThrow(new RuntimeException("Partner service error"))
@@ -350,78 +706,74 @@ public class OrderServiceTest {
         @DisplayName("Should cancel pending order successfully without credit restoration")
         void shouldCancelPendingOrderSuccessfully() {
             String orderId = "order-123";
-            when(orderRepository.findByIdWithLock(orderId)).thenReturn(Optional.of(mockOrder));
-            when(mockOrder.canBeCancelled()).thenReturn(true);
-            when(mockOrder.getStatus()).thenReturn(OrderStatus.PENDING);
-            when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+            when(orderRepository.transitionStatus(eq(orderId), eq("CANCELLED"), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(mockOrder));
+            when(mockOrder.getPreviousStatus()).thenReturn(OrderStatus.PENDING);
+            when(mockOrder.getStatus()).thenReturn(OrderStatus.CANCELLED);
             when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
 
             OrderResponseDTO result = orderService.cancelOrder(orderId);
 
             assertThat(result).isNotNull();
-            verify(mockOrder).updateStatus(OrderStatus.CANCELLED);
-            verify(orderRepository).save(mockOrder);
             verify(partnerService, never()).restoreCredit(anyString(), any(BigDecimal.class));
-            verify(notificationService).simulateMessageSend(eq("order.status.changed"), anyString());
+            verify(notificationService).simulateMessageSend(eq("order.status.changed"), any(ByteBuffer.class));
         }
 
         @Test
         @DisplayName("Should cancel approved order and restore credit")
         void shouldCancelApprovedOrderAndRestoreCredit() {
             String orderId = "order-123";
-            when(orderRepository.findByIdWithLock(orderId)).thenReturn(Optional.of(mockOrder));
-            when(mockOrder.canBeCancelled()).thenReturn(true);
-            when(mockOrder.getStatus()).thenReturn(OrderStatus.APPROVED);
+            when(orderRepository.transitionStatus(eq(orderId), eq("CANCELLED"), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(mockOrder));
+            when(mockOrder.getPreviousStatus()).thenReturn(OrderStatus.APPROVED);
+            when(mockOrder.getStatus()).thenReturn(OrderStatus.CANCELLED);
             when(mockOrder.getPartnerId()).thenReturn("PARTNER001");
             when(mockOrder.getTotalAmount()).thenReturn(BigDecimal.valueOf(100.00));
-            when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
             when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
 
             OrderResponseDTO result = orderService.cancelOrder(orderId);
 
             assertThat(result).isNotNull();
             verify(partnerService).restoreCredit("PARTNER001", BigDecimal.valueOf(100.00));
-            verify(mockOrder).updateStatus(OrderStatus.CANCELLED);
-            verify(orderRepository).save(mockOrder);
         }
 
         @Test
-        @DisplayName("Should throw BusinessException when order not found")
-        void shouldThrowBusinessExceptionWhenOrderNotFound() {
+        @DisplayName("Should propagate ResourceNotFoundException when order not found")
+        void shouldThrowResourceNotFoundExceptionWhenOrderNotFound() {
             String orderId = "non-existent-order";
-            when(orderRepository.findByIdWithLock(orderId)).thenReturn(Optional.empty());
+            when(orderRepository.transitionStatus(eq(orderId), anyString(), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.empty());
+            when(orderRepository.findStatusById(orderId)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> orderService.cancelOrder(orderId))
-                    .isInstanceOf(BusinessException.class)
-                    .hasMessageContaining("Error creating order: Order not found: " + orderId);
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Order not found: " + orderId);
 
             verify(partnerService, never()).restoreCredit(anyString(), any(BigDecimal.class));
-            verify(orderRepository, never()).save(any(Order.class));
         }
 
         @Test
         @DisplayName("Should throw BusinessException when order cannot be cancelled")
         void shouldThrowBusinessExceptionWhenOrderCannotBeCancelled() {
             String orderId = "order-123";
-            when(orderRepository.findByIdWithLock(orderId)).thenReturn(Optional.of(mockOrder));
-            when(mockOrder.canBeCancelled()).thenReturn(false);
-            when(mockOrder.getStatus()).thenReturn(OrderStatus.DELIVERED);
+            when(orderRepository.transitionStatus(eq(orderId), anyString(), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.empty());
+            when(orderRepository.findStatusById(orderId)).thenReturn(Optional.of(OrderStatus.DELIVERED));
 
             assertThatThrownBy(() -> orderService.cancelOrder(orderId))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("Order cannot be cancelled in current status: DELIVERED");
 
             verify(partnerService, never()).restoreCredit(anyString(), any(BigDecimal.class));
-            verify(orderRepository, never()).save(any(Order.class));
         }
 
         @Test
         @DisplayName("Should throw BusinessException when partner service fails during credit restoration")
         void shouldThrowBusinessExceptionWhenPartnerServiceFailsDuringCreditRestoration() {
             String orderId = "order-123";
-            when(orderRepository.findByIdWithLock(orderId)).thenReturn(Optional.of(mockOrder));
-            when(mockOrder.canBeCancelled()).thenReturn(true);
-            when(mockOrder.getStatus()).thenReturn(OrderStatus.APPROVED);
+            when(orderRepository.transitionStatus(eq(orderId), anyString(), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(mockOrder));
+            when(mockOrder.getPreviousStatus()).thenReturn(OrderStatus.APPROVED);
             when(mockOrder.getPartnerId()).thenReturn("PARTNER001");
             when(mockOrder.getTotalAmount()).thenReturn(BigDecimal.valueOf(100.00));
             doThrow(new RuntimeException("Partner service error"))
@@ -433,6 +785,99 @@ public class OrderServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Expire Pending Orders Tests")
+    class ExpirePendingOrdersTests {
+
+        @Test
+        @DisplayName("Should report and publish only the orders the conditional update cancelled")
+        void shouldExpireOnlyOrdersStillPending() {
+            LocalDateTime cutoff = LocalDateTime.now().minusHours(72);
+            when(orderRepository.expirePending(eq(List.of("order-123", "order-456")), eq(cutoff), any(LocalDateTime.class)))
+                    .thenReturn(List.of(mockOrder));
+            when(mockOrder.getPreviousStatus()).thenReturn(OrderStatus.PENDING);
+            when(mockOrder.getStatus()).thenReturn(OrderStatus.CANCELLED);
+
+            List<String> expired = orderService.expirePendingOrders(List.of("order-123", "order-456"), cutoff);
+
+            assertThat(expired).containsExactly("order-123");
+            verify(eventPublisher).publishEvent(new OrderStatusChangedEvent("order-123", "PARTNER001",
+                    OrderStatus.PENDING, OrderStatus.CANCELLED, mockOrder.getUpdatedAt(), 0L));
+            verify(notificationService).simulateMessageSend(eq("order.status.changed"), any(ByteBuffer.class));
+            verify(partnerService, never()).restoreCredit(anyString(), any(BigDecimal.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Advance Orders Tests")
+    class AdvanceOrdersTests {
+
+        @Test
+        @DisplayName("Should move claimed orders on in one update and publish each change")
+        void shouldAdvanceOrdersInOneUpdate() {
+            when(orderRepository.transitionAll(eq(List.of("order-123", "order-456")), eq("APPROVED"), eq("PROCESSING"),
+                    any(LocalDateTime.class))).thenReturn(List.of(mockOrder));
+            when(mockOrder.getPreviousStatus()).thenReturn(OrderStatus.APPROVED);
+            when(mockOrder.getStatus()).thenReturn(OrderStatus.PROCESSING);
+
+            List<String> advanced = orderService.advanceOrders(List.of("order-123", "order-456"),
+                    OrderStatus.APPROVED, OrderStatus.PROCESSING);
+
+            assertThat(advanced).containsExactly("order-123");
+            verify(eventPublisher).publishEvent(new OrderStatusChangedEvent("order-123", "PARTNER001",
+                    OrderStatus.APPROVED, OrderStatus.PROCESSING, mockOrder.getUpdatedAt(), 0L));
+            verify(notificationService).simulateMessageSend(eq("order.status.changed"), any(ByteBuffer.class));
+        }
+
+        @Test
+        @DisplayName("Should reject batch transitions that move credit or skip the transition matrix")
+        void shouldRejectCreditAndDisallowedTransitions() {
+            assertThatThrownBy(() -> orderService.advanceOrders(List.of("order-123"), OrderStatus.APPROVED, OrderStatus.CANCELLED))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> orderService.advanceOrders(List.of("order-123"), OrderStatus.PENDING, OrderStatus.APPROVED))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> orderService.advanceOrders(List.of("order-123"), OrderStatus.APPROVED, OrderStatus.SHIPPED))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            verify(orderRepository, never()).transitionAll(anyCollection(), anyString(), anyString(), any(LocalDateTime.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fulfillment Transition Tests")
+    class FulfillmentTransitionTests {
+
+        @Test
+        @DisplayName("Should ship a processing order using the allowed sources from the transition matrix")
+        void shouldShipProcessingOrder() {
+            String orderId = "order-123";
+            when(orderRepository.transitionStatus(eq(orderId), eq("SHIPPED"), eq(List.of("PROCESSING")), any(LocalDateTime.class)))
+                    .thenReturn(Optional.of(mockOrder));
+            when(mockOrder.getPreviousStatus()).thenReturn(OrderStatus.PROCESSING);
+            when(mockOrder.getStatus()).thenReturn(OrderStatus.SHIPPED);
+            when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(mockOrderResponseDTO);
+
+            OrderResponseDTO result = orderService.shipOrder(orderId);
+
+            assertThat(result).isNotNull();
+            verify(partnerService, never()).debitCredit(anyString(), any(BigDecimal.class));
+            verify(partnerService, never()).restoreCredit(anyString(), any(BigDecimal.class));
+        }
+
+        @Test
+        @DisplayName("Should reject delivering an order that was not shipped")
+        void shouldRejectDeliveringPendingOrder() {
+            String orderId = "order-123";
+            when(orderRepository.transitionStatus(eq(orderId), anyString(), anyCollection(), any(LocalDateTime.class)))
+                    .thenReturn(Optional.empty());
+            when(orderRepository.findStatusById(orderId)).thenReturn(Optional.of(OrderStatus.PENDING));
+
+            assertThatThrownBy(() -> orderService.deliverOrder(orderId))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Order cannot be delivered in current status: PENDING");
+        }
+    }
+
     private Partner createMockPartner() {
         Partner partner = mock(Partner.class);
         when(partner.getId()).thenReturn("PARTNER001");
@@ -0,0 +1,33 @@
+package com.b2b.ordermanagement.domain.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderStatus Transition Matrix Tests")
+class OrderStatusTest {
+
+    @Test
+    @DisplayName("Should follow the fulfillment path and allow cancelling until delivery")
+    void shouldFollowTransitionMatrix() {
+        assertThat(OrderStatus.PENDING.canTransitionTo(OrderStatus.APPROVED)).isTrue();
+        assertThat(OrderStatus.APPROVED.canTransitionTo(OrderStatus.PROCESSING)).isTrue();
+        assertThat(OrderStatus.PROCESSING.canTransitionTo(OrderStatus.SHIPPED)).isTrue();
+        assertThat(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.DELIVERED)).isTrue();
+
+        assertThat(OrderStatus.PENDING.canTransitionTo(OrderStatus.SHIPPED)).isFalse();
+        assertThat(OrderStatus.DELIVERED.canTransitionTo(OrderStatus.CANCELLED)).isFalse();
+        assertThat(OrderStatus.CANCELLED.isTerminal()).isTrue();
+        assertThat(OrderStatus.DELIVERED.isTerminal()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should expose allowed source statuses for conditional updates")
+    void shouldExposeSourceNames() {
+        assertThat(OrderStatus.APPROVED.sourceNames()).containsExactly("PENDING");
+        assertThat(OrderStatus.CANCELLED.sourceNames())
+                .containsExactlyInAnyOrder("PENDING", "APPROVED", "PROCESSING", "SHIPPED");
+        assertThat(OrderStatus.PENDING.sourceNames()).isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+package com.b2b.ordermanagement.infrastructure.approval;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.entities.OrderItem;
+import com.b2b.ordermanagement.domain.entities.Partner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AutoApprovalRules Tests")
+class AutoApprovalRulesTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Partner partner = new Partner("PARTNER001", "Acme", new BigDecimal("1000.00"));
+
+    @Test
+    @DisplayName("Should match the first rule whose conditions all hold")
+    void shouldMatchFirstSatisfiedRule() {
+        AutoApprovalRules rules = rules(
+                rule("trusted-partner", Set.of("PARTNER002"), null, null, null, null, null),
+                rule("small-orders", null, new BigDecimal("200"), 3, null, Set.of("PROD009"), null));
+
+        assertThat(rules.match(order("PROD001", 2, "50.00"), partner)).contains("small-orders");
+        assertThat(rules.match(order("PROD001", 5, "50.00"), partner)).isEmpty();
+        assertThat(rules.match(order("PROD009", 1, "10.00"), partner)).isEmpty();
+        assertThat(registry.get("orders.auto.approval").tag("rule", "small-orders").counter().count()).isEqualTo(1);
+        assertThat(registry.get("orders.auto.approval").tag("rule", "none").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should only match orders made of allowed products")
+    void shouldRestrictToAllowedProducts() {
+        AutoApprovalRules rules = rules(rule("catalogue", null, null, null, Set.of("PROD001", "PROD002"), null, null));
+
+        Order mixed = order("PROD001", 1, "10.00");
+        mixed.addItem(new OrderItem("PROD003", 1, new BigDecimal("10.00")));
+
+        assertThat(rules.match(order("PROD002", 1, "10.00"), partner)).contains("catalogue");
+        assertThat(rules.match(mixed, partner)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count the new order towards credit utilization")
+    void shouldLimitCreditUtilizationAfterOrder() {
+        AutoApprovalRules rules = rules(rule("headroom", null, null, null, null, null, new BigDecimal("0.5")));
+        partner.debitCredit(new BigDecimal("400.00"));
+
+        assertThat(rules.match(order("PROD001", 1, "100.00"), partner)).contains("headroom");
+        assertThat(rules.match(order("PROD001", 1, "100.01"), partner)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match nothing when disabled")
+    void shouldMatchNothingWhenDisabled() {
+        AutoApprovalRules rules = new AutoApprovalRules(new AutoApprovalProperties(false,
+                List.of(rule("small-orders", null, new BigDecimal("200"), null, null, null, null))), registry);
+
+        assertThat(rules.match(order("PROD001", 1, "10.00"), partner)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject rules without conditions")
+    void shouldRejectRuleWithoutConditions() {
+        assertThatThrownBy(() -> rule("everything", null, null, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sets no condition");
+    }
+
+    private AutoApprovalRules rules(AutoApprovalProperties.Rule... rules) {
+        return new AutoApprovalRules(new AutoApprovalProperties(true, List.of(rules)), registry);
+    }
+
+    private static AutoApprovalProperties.Rule rule(String name, Set<String> partners, BigDecimal maxAmount,
+                                                    Integer maxItems, Set<String> products,
+                                                    Set<String> excludedProducts, BigDecimal maxCreditUtilization) {
+        return new AutoApprovalProperties.Rule(name, partners, maxAmount, maxItems, products, excludedProducts,
+                maxCreditUtilization);
+    }
+
+    private static Order order(String productId, int lines, String unitPrice) {
+        Order order = new Order("PARTNER001", List.of());
+        for (int i = 0; i < lines; i++) {
+            order.addItem(new OrderItem(productId, 1, new BigDecimal(unitPrice)));
+        }
+        return order;
+    }
+}
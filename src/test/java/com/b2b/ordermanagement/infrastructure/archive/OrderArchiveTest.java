@@ -0,0 +1,107 @@
+package com.b2b.ordermanagement.infrastructure.archive;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderArchive Tests")
+class OrderArchiveTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 11, 3, 9, 15, 30, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<OrderArchive> archives = new ArrayList<>();
+
+    @AfterEach
+    void closeArchives() {
+        archives.forEach(OrderArchive::close);
+    }
+
+    @Test
+    @DisplayName("Should find every appended order across row groups with its items intact")
+    void shouldRoundTripOrders() {
+        OrderArchive archive = archive();
+        List<ArchivedOrder> orders = IntStream.range(0, 25).mapToObj(OrderArchiveTest::order).toList();
+
+        Path file = archive.append(orders);
+
+        assertThat(file).exists();
+        assertThat(file.getFileName().toString()).startsWith("segment-").endsWith(".seg");
+        for (ArchivedOrder order : orders) {
+            assertThat(archive.find(order.id())).contains(order);
+        }
+        assertThat(archive.orderCount()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("Should miss ids outside or between the archived ones")
+    void shouldMissUnknownIds() {
+        OrderArchive archive = archive();
+        archive.append(List.of(order(2), order(4), order(6)));
+
+        assertThat(archive.find("order-00000")).isEmpty();
+        assertThat(archive.find("order-00003")).isEmpty();
+        assertThat(archive.find("order-99999")).isEmpty();
+        assertThat(registry.get("orders.archive.lookups").tag("result", "miss").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should open segments written by another instance on refresh")
+    void shouldPickUpSegmentsFromSharedDirectory() {
+        OrderArchive writer = archive();
+        OrderArchive reader = archive();
+        assertThat(reader.find("order-00001")).isEmpty();
+
+        writer.append(List.of(order(1)));
+        reader.refresh();
+
+        assertThat(reader.find("order-00001")).contains(order(1));
+        assertThat(reader.orderCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore unfinished segment files")
+    void shouldIgnoreTemporaryFiles() throws Exception {
+        Files.write(directory.resolve("segment-20250101T000000000-deadbeef.seg.tmp"), new byte[]{1, 2, 3});
+
+        OrderArchive archive = archive();
+
+        assertThat(archive.orderCount()).isZero();
+    }
+
+    private OrderArchive archive() {
+        OrderArchive archive = new OrderArchive(new ArchiveProperties(true, directory, Duration.ofDays(90), 100, 4,
+                Duration.ofHours(1), Duration.ofMinutes(1)), registry);
+        archives.add(archive);
+        return archive;
+    }
+
+    private static ArchivedOrder order(int n) {
+        List<ArchivedItem> items = IntStream.range(0, n % 3 + 1)
+                .mapToObj(i -> new ArchivedItem(n * 10L + i, "PRODUCT" + i, i + 1, new BigDecimal("19.90")))
+                .toList();
+        BigDecimal total = items.stream().map(ArchivedItem::totalPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+        boolean cancelled = n % 4 == 0;
+        return new ArchivedOrder(String.format("order-%05d", n), "PARTNER00" + (n % 5),
+                cancelled ? OrderStatus.CANCELLED : OrderStatus.DELIVERED,
+                cancelled ? OrderStatus.PENDING : OrderStatus.SHIPPED,
+                total, CREATED.plusHours(n), CREATED.plusDays(n), n, items);
+    }
+}
@@ -0,0 +1,95 @@
+package com.b2b.ordermanagement.infrastructure.archive;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.entities.OrderItem;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderArchiver Tests")
+class OrderArchiverTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderArchive archive = mock(OrderArchive.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final OrderArchiver archiver = new OrderArchiver(
+            new ArchiveProperties(true, Path.of("/tmp/archive"), Duration.ofDays(90), 100, 10,
+                    Duration.ofHours(1), Duration.ofMinutes(1)),
+            orderRepository, archive, transactionManager, new SimpleMeterRegistry(), Clock.systemDefaultZone());
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+    }
+
+    @Test
+    @DisplayName("Should index the archived orders' products before deleting their items")
+    void shouldIndexProductsBeforeDeletingItems() {
+        Order order = new Order("PARTNER001", List.of(
+                new OrderItem("PRODUCT001", 2, new BigDecimal("10.00")),
+                new OrderItem("PRODUCT002", 1, new BigDecimal("5.00"))));
+        List<String> ids = List.of(order.getId());
+        when(orderRepository.claimArchivable(anyList(), any(), anyInt())).thenReturn(ids);
+        when(orderRepository.findWithItemsByIdIn(ids)).thenReturn(List.of(order));
+
+        assertThat(archiver.archiveBatch(CUTOFF)).isEqualTo(1);
+
+        InOrder steps = inOrder(archive, orderRepository);
+        steps.verify(archive).append(List.of(ArchivedOrder.of(order)));
+        steps.verify(orderRepository).indexArchivedProducts(ids);
+        steps.verify(orderRepository).deleteItemsByOrderIdIn(ids);
+        steps.verify(orderRepository).deleteByIdIn(ids);
+    }
+
+    @Test
+    @DisplayName("Should touch nothing when no order is due")
+    void shouldSkipEmptyBatch() {
+        when(orderRepository.claimArchivable(anyList(), any(), anyInt())).thenReturn(List.of());
+
+        assertThat(archiver.archiveBatch(CUTOFF)).isZero();
+
+        verify(archive, never()).append(anyList());
+        verify(orderRepository, never()).indexArchivedProducts(anyList());
+    }
+
+    @Test
+    @DisplayName("Should list archived orders by product from the index that archiving fills")
+    void shouldListArchivedOrdersByProduct() {
+        List<Method> productQueries = Arrays.stream(OrderSummaryRepository.class.getMethods())
+                .filter(method -> method.getName().equals("findFirstByProduct")
+                        || method.getName().equals("findByProductAfter"))
+                .toList();
+
+        assertThat(productQueries).hasSize(2).allSatisfy(method -> assertThat(method.getAnnotation(Query.class).value())
+                .contains("FROM order_items i WHERE i.product_id = :productId")
+                .contains("FROM archived_order_products a WHERE a.product_id = :productId"));
+    }
+}
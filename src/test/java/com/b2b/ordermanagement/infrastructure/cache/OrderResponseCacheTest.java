@@ -0,0 +1,85 @@
+package com.b2b.ordermanagement.infrastructure.cache;
+
+import com.b2b.ordermanagement.application.dto.OrderResponseDTO;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderResponseCache Tests")
+class OrderResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should cache terminal orders only")
+    void shouldCacheTerminalOrdersOnly() {
+        OrderResponseCache cache = cache(DataSize.ofMegabytes(1));
+
+        cache.store("order-1", 3L, OrderStatus.DELIVERED, response("order-1", OrderStatus.DELIVERED));
+        cache.store("order-2", 1L, OrderStatus.APPROVED, response("order-2", OrderStatus.APPROVED));
+
+        assertThat(cache.find("order-1")).hasValueSatisfying(body ->
+                assertThat(new String(body, StandardCharsets.UTF_8)).contains("\"id\":\"order-1\"", "DELIVERED"));
+        assertThat(cache.find("order-2")).isEmpty();
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(registry.get("orders.response.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(registry.get("orders.response.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop entries older than the invalidating version")
+    void shouldInvalidateOlderVersions() {
+        OrderResponseCache cache = cache(DataSize.ofMegabytes(1));
+        cache.store("order-1", 3L, OrderStatus.CANCELLED, response("order-1", OrderStatus.CANCELLED));
+
+        cache.invalidate("order-1", 3L);
+        assertThat(cache.find("order-1")).isPresent();
+
+        cache.invalidate("order-1", 4L);
+        assertThat(cache.find("order-1")).isEmpty();
+        assertThat(cache.usedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict cold entries to stay within the byte budget")
+    void shouldEvictWithinBudget() {
+        OrderResponseCache cache = cache(DataSize.ofBytes(1000));
+
+        for (int i = 0; i < 10; i++) {
+            cache.store("order-" + i, 1L, OrderStatus.DELIVERED, response("order-" + i, OrderStatus.DELIVERED));
+            cache.find("order-0"); // keep the first entry hot
+        }
+
+        assertThat(cache.usedBytes()).isLessThanOrEqualTo(1000);
+        assertThat(cache.find("order-0")).isPresent();
+        assertThat(cache.entryCount()).isLessThan(10);
+        assertThat(registry.get("orders.response.cache.evictions").counter().count()).isPositive();
+    }
+
+    private OrderResponseCache cache(DataSize maxSize) {
+        return new OrderResponseCache(objectMapper, new ResponseCacheProperties(true, maxSize), registry);
+    }
+
+    private static OrderResponseDTO response(String id, OrderStatus status) {
+        LocalDateTime timestamp = LocalDateTime.of(2024, 5, 1, 10, 0);
+        return new OrderResponseDTO(id, "PARTNER001", status, new BigDecimal("99.90"), timestamp, timestamp, List.of());
+    }
+}
@@ -0,0 +1,76 @@
+package com.b2b.ordermanagement.infrastructure.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CaptureWriter Tests")
+class CaptureWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should rotate files by size and keep only the newest")
+    void shouldRotateAndPrune(@TempDir Path directory) throws Exception {
+        CaptureWriter writer = new CaptureWriter(properties(directory, DataSize.ofBytes(300), 2), objectMapper, registry);
+        for (int i = 0; i < 12; i++) {
+            writer.offer(exchange(i));
+        }
+        writer.close();
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.sorted().toList();
+        }
+        assertThat(files).hasSize(2).allMatch(CaptureWriter::isCaptureFile);
+        assertThat(registry.get("http.capture").tag("result", "written").counter().count()).isEqualTo(12);
+
+        List<CapturedExchange> kept = TrafficReplay.load(objectMapper, List.of(directory));
+        assertThat(kept).isNotEmpty();
+        assertThat(kept.get(kept.size() - 1).at()).isEqualTo(11);
+        assertThat(kept).isSortedAccordingTo((a, b) -> Long.compare(a.at(), b.at()));
+    }
+
+    @Test
+    @DisplayName("Should drop exchanges offered after close")
+    void shouldDropAfterClose(@TempDir Path directory) throws Exception {
+        CaptureWriter writer = new CaptureWriter(properties(directory, DataSize.ofMegabytes(1), 5), objectMapper, registry);
+        writer.close();
+
+        writer.offer(exchange(1));
+
+        assertThat(registry.get("http.capture").tag("result", "dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should group replayed paths by endpoint template")
+    void shouldNormalizeEndpoints() {
+        assertThat(ReplayResult.endpoint("PUT", "/api/v1/orders/550e8400-e29b-41d4-a716-446655440001/approve"))
+                .isEqualTo("PUT /api/v1/orders/{id}/approve");
+        assertThat(ReplayResult.endpoint("GET", "/api/v1/partners/PARTNER001/dashboard"))
+                .isEqualTo("GET /api/v1/partners/{id}/dashboard");
+        assertThat(ReplayResult.endpoint("GET", "/api/v1/orders?partnerId=PARTNER001&page=2"))
+                .isEqualTo("GET /api/v1/orders");
+    }
+
+    private static CaptureProperties properties(Path directory, DataSize maxFileSize, int maxFiles) {
+        return new CaptureProperties(true, directory, 1.0, maxFileSize, maxFiles, 100, DataSize.ofKilobytes(64), Set.of("name"));
+    }
+
+    private static CapturedExchange exchange(long at) {
+        return new CapturedExchange(at, "GET", "/api/v1/orders/550e8400-e29b-41d4-a716-44665544000" + (at % 10),
+                null, null, 200, 1_500, 512, null);
+    }
+}
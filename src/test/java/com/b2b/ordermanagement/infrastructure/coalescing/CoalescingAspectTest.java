@@ -0,0 +1,193 @@
+package com.b2b.ordermanagement.infrastructure.coalescing;
+
+import com.b2b.ordermanagement.application.dto.OrderFilterDTO;
+import com.b2b.ordermanagement.application.interfaces.OrderFilterParams;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import com.b2b.ordermanagement.shared.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CoalescingAspect Tests")
+class CoalescingAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private CoalescingAspect aspect;
+    private OrderReads target;
+    private OrderReads proxy;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        aspect = new CoalescingAspect(new OrderMetrics(registry), new CoalescingProperties(Duration.ofSeconds(5)));
+        target = new OrderReads();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run identical concurrent reads once and share the result")
+    void shouldShareInFlightResult() throws Exception {
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> proxy.find("order-123", new OrderFilterDTO("PARTNER001", null, null, null))));
+        }
+        awaitUntil(() -> joined() == 7);
+        target.release.countDown();
+
+        Object first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(aspect.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should treat filters that select the same orders as the same call")
+    void shouldNormalizeFilters() throws Exception {
+        Future<Object> blank = executor.submit(() -> proxy.find("order-123",
+                new OrderFilterDTO("  ", OrderStatus.PENDING, null, null)));
+        awaitUntil(() -> target.calls.get() == 1);
+        Future<Object> halfOpenRange = executor.submit(() -> proxy.find("order-123",
+                new OrderFilterDTO(null, OrderStatus.PENDING, LocalDateTime.now(), null)));
+        awaitUntil(() -> joined() == 1);
+        target.release.countDown();
+
+        assertThat(halfOpenRange.get(5, TimeUnit.SECONDS)).isSameAs(blank.get(5, TimeUnit.SECONDS));
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should share one call between partner ids that differ only by surrounding whitespace")
+    void shouldCoalescePaddedPartnerIds() throws Exception {
+        Future<Object> plain = executor.submit(() -> proxy.find("order-123",
+                new OrderFilterDTO("PARTNER001", null, null, null)));
+        awaitUntil(() -> target.calls.get() == 1);
+        Future<Object> padded = executor.submit(() -> proxy.find("order-123",
+                new OrderFilterDTO(" PARTNER001 ", null, null, null)));
+        awaitUntil(() -> joined() == 1);
+        target.release.countDown();
+
+        assertThat(padded.get(5, TimeUnit.SECONDS)).isSameAs(plain.get(5, TimeUnit.SECONDS));
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(target.partnerIds).containsExactly("PARTNER001");
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader's exception to every waiting caller")
+    void shouldShareFailure() throws Exception {
+        target.failure = new ResourceNotFoundException("Order not found: order-404");
+        Future<Object> leader = executor.submit(() -> proxy.find("order-404", null));
+        awaitUntil(() -> target.calls.get() == 1);
+        Future<Object> follower = executor.submit(() -> proxy.find("order-404", null));
+        awaitUntil(() -> joined() == 1);
+        target.release.countDown();
+
+        for (Future<Object> call : List.of(leader, follower)) {
+            assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should execute again once the previous call has completed")
+    void shouldNotCacheCompletedCalls() {
+        target.release.countDown();
+
+        Object first = proxy.find("order-123", null);
+        Object second = proxy.find("order-123", null);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(target.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should run the call directly when the in-flight one takes longer than the wait limit")
+    void shouldFallBackAfterWaitLimit() throws Exception {
+        CoalescingAspect impatient = new CoalescingAspect(new OrderMetrics(registry),
+                new CoalescingProperties(Duration.ofMillis(50)));
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(impatient);
+        OrderReads impatientProxy = factory.getProxy();
+
+        Future<Object> leader = executor.submit(() -> impatientProxy.find("order-123", null));
+        awaitUntil(() -> target.calls.get() == 1);
+        Future<Object> follower = executor.submit(() -> impatientProxy.find("order-123", null));
+        awaitUntil(() -> registry.find("orders.coalesced.calls").tag("result", "timed_out").counter() != null);
+        awaitUntil(() -> target.calls.get() == 2);
+        target.release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isNotSameAs(leader.get(5, TimeUnit.SECONDS));
+        assertThat(target.calls.get()).isEqualTo(2);
+    }
+
+    private double joined() {
+        var counter = registry.find("orders.coalesced.calls").tag("result", "joined").counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    static class OrderReads {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> partnerIds = new CopyOnWriteArrayList<>();
+        RuntimeException failure;
+
+        @CoalesceConcurrentCalls
+        public Object find(String orderId, OrderFilterParams filters) {
+            calls.incrementAndGet();
+            if (filters != null && filters.hasPartnerId()) {
+                // Query with the normalized copy, as the service does
+                partnerIds.add(OrderFilterDTO.normalized(filters).getPartnerId());
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.b2b.ordermanagement.infrastructure.counting;
+
+import com.b2b.ordermanagement.application.dto.CountStrategy;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TotalCounter Tests")
+class TotalCounterTest {
+
+    private static final Pageable FULL_PAGE = PageRequest.of(2, 10);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TotalCounter counter = new TotalCounter(
+            new CountProperties(CountStrategy.EXACT, Duration.ofMinutes(1), 100, 1_000), new OrderMetrics(registry));
+    private final AtomicInteger exactCalls = new AtomicInteger();
+
+    private long exact() {
+        exactCalls.incrementAndGet();
+        return 5_000;
+    }
+
+    @Test
+    @DisplayName("Should derive the total from a short page without counting")
+    void shouldSkipCountOnShortPage() {
+        TotalCounter.Total total = counter.total("orders", "all", CountStrategy.ESTIMATED, PageRequest.of(3, 10), 4,
+                this::exact, () -> 1_000_000);
+
+        assertThat(total).isEqualTo(new TotalCounter.Total(34, CountStrategy.EXACT));
+        assertThat(exactCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should serve cached totals until invalidated")
+    void shouldCacheUntilInvalidated() {
+        assertThat(counter.total("orders", "P1", CountStrategy.CACHED, FULL_PAGE, 10, this::exact, () -> 0).strategy())
+                .isEqualTo(CountStrategy.EXACT);
+        assertThat(counter.total("orders", "P1", CountStrategy.CACHED, FULL_PAGE, 10, this::exact, () -> 0))
+                .isEqualTo(new TotalCounter.Total(5_000, CountStrategy.CACHED));
+        assertThat(exactCalls).hasValue(1);
+
+        counter.invalidate("partners", key -> true);
+        assertThat(counter.cachedCount()).isEqualTo(1);
+        counter.invalidate("orders", "P1"::equals);
+        assertThat(counter.cachedCount()).isZero();
+
+        counter.total("orders", "P1", CountStrategy.CACHED, FULL_PAGE, 10, this::exact, () -> 0);
+        assertThat(exactCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should use planner estimates only above the exact threshold")
+    void shouldFallBackToExactForSmallOrFailedEstimates() {
+        assertThat(counter.total("orders", "all", CountStrategy.ESTIMATED, FULL_PAGE, 10, this::exact, () -> 250_000))
+                .isEqualTo(new TotalCounter.Total(250_000, CountStrategy.ESTIMATED));
+        assertThat(counter.total("orders", "all", CountStrategy.ESTIMATED, FULL_PAGE, 10, this::exact, () -> 12))
+                .isEqualTo(new TotalCounter.Total(5_000, CountStrategy.EXACT));
+        assertThat(counter.total("orders", "all", CountStrategy.ESTIMATED, FULL_PAGE, 10, this::exact,
+                () -> { throw new IllegalStateException("no plan"); }))
+                .isEqualTo(new TotalCounter.Total(5_000, CountStrategy.EXACT));
+    }
+
+    @Test
+    @DisplayName("Should use the configured default and time every count by strategy")
+    void shouldApplyDefaultAndRecordLatency() {
+        assertThat(counter.total("orders", "all", null, FULL_PAGE, 10, this::exact, () -> 0).strategy())
+                .isEqualTo(CountStrategy.EXACT);
+
+        assertThat(registry.get("pagination.count").tag("resource", "orders").tag("strategy", "exact").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read the row estimate from the top plan node")
+    void shouldParsePlanRows() {
+        assertThat(PlannerEstimator.planRows(List.of(
+                "Index Scan using idx_order_summary_partner_created on order_summary  (cost=0.42..8.44 rows=48213 width=4)",
+                "  Index Cond: ((partner_id)::text = 'PARTNER001'::text)")))
+                .isEqualTo(48_213);
+        assertThatThrownBy(() -> PlannerEstimator.planRows(List.of())).isInstanceOf(IllegalStateException.class);
+    }
+}
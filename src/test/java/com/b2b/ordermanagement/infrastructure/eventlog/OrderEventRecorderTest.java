@@ -0,0 +1,94 @@
+package com.b2b.ordermanagement.infrastructure.eventlog;
+
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import com.b2b.ordermanagement.domain.entities.OrderEvent;
+import com.b2b.ordermanagement.domain.entities.OrderSnapshot;
+import com.b2b.ordermanagement.domain.enums.OrderEventType;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderEventRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSnapshotRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderEventRecorder Tests")
+class OrderEventRecorderTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 10, 9, 0);
+
+    private final OrderEventRepository events = mock(OrderEventRepository.class);
+    private final OrderSnapshotRepository snapshots = mock(OrderSnapshotRepository.class);
+    private final OrderEventRecorder recorder = new OrderEventRecorder(events, snapshots,
+            new EventLogProperties(3, 500, 4));
+
+    @Test
+    @DisplayName("Should append a CREATED event at the order's initial version")
+    void shouldAppendCreatedEvent() {
+        recorder.on(new OrderCreatedEvent("order-1", "PARTNER001", OrderStatus.PENDING,
+                new BigDecimal("150.00"), 2, CREATED_AT, CREATED_AT, 0L, List.of("PROD001")));
+
+        ArgumentCaptor<OrderEvent> appended = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(events).save(appended.capture());
+        assertThat(appended.getValue().getType()).isEqualTo(OrderEventType.CREATED);
+        assertThat(appended.getValue().getSequence()).isZero();
+        assertThat(appended.getValue().getItemCount()).isEqualTo(2);
+        verify(snapshots, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should fold the log into a snapshot every Nth event")
+    void shouldSnapshotOnInterval() {
+        List<OrderEvent> log = List.of(
+                OrderEvent.created("order-1", 0, "PARTNER001", OrderStatus.PENDING, new BigDecimal("150.00"), 2, CREATED_AT),
+                OrderEvent.statusChanged("order-1", 1, "PARTNER001", OrderStatus.PENDING, OrderStatus.APPROVED, CREATED_AT.plusHours(1)),
+                OrderEvent.statusChanged("order-1", 2, "PARTNER001", OrderStatus.APPROVED, OrderStatus.PROCESSING, CREATED_AT.plusHours(2)));
+        when(snapshots.findById("order-1")).thenReturn(Optional.empty());
+        when(events.findByOrderIdAndSequenceGreaterThanOrderBySequenceAsc("order-1", -1)).thenReturn(log);
+
+        recorder.on(new OrderStatusChangedEvent("order-1", "PARTNER001",
+                OrderStatus.APPROVED, OrderStatus.PROCESSING, CREATED_AT.plusHours(2), 2L));
+
+        ArgumentCaptor<OrderSnapshot> saved = ArgumentCaptor.forClass(OrderSnapshot.class);
+        verify(snapshots).save(saved.capture());
+        OrderSnapshot snapshot = saved.getValue();
+        assertThat(snapshot.getSequence()).isEqualTo(2);
+        assertThat(snapshot.getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(snapshot.getItemCount()).isEqualTo(2);
+        assertThat(snapshot.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(snapshot.getUpdatedAt()).isEqualTo(CREATED_AT.plusHours(2));
+    }
+
+    @Test
+    @DisplayName("Should snapshot when an order reaches a terminal status")
+    void shouldSnapshotOnTerminalStatus() {
+        when(snapshots.findById("order-1")).thenReturn(Optional.empty());
+
+        recorder.on(new OrderStatusChangedEvent("order-1", "PARTNER001",
+                OrderStatus.PENDING, OrderStatus.CANCELLED, CREATED_AT.plusHours(1), 1L));
+
+        verify(snapshots).save(any(OrderSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the snapshot between intervals")
+    void shouldNotSnapshotBetweenIntervals() {
+        recorder.on(new OrderStatusChangedEvent("order-1", "PARTNER001",
+                OrderStatus.PENDING, OrderStatus.APPROVED, CREATED_AT.plusHours(1), 1L));
+
+        verify(events).save(any(OrderEvent.class));
+        verify(snapshots, never()).save(any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.b2b.ordermanagement.infrastructure.expiry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel Tests")
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("Should return keys at their deadline across levels and overflow")
+    void shouldExpireAtDeadline() {
+        // 1 ms ticks, 4 slots, 2 levels: 16 ms before overflow
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1, 4, 2, 0);
+        wheel.schedule("now", 0);
+        wheel.schedule("level0", 3);
+        wheel.schedule("level1", 13);
+        wheel.schedule("overflow", 40);
+
+        assertThat(wheel.advanceTo(0)).containsExactly("now");
+        assertThat(wheel.advanceTo(2)).isEmpty();
+        assertThat(wheel.advanceTo(3)).containsExactly("level0");
+        assertThat(wheel.advanceTo(12)).isEmpty();
+        assertThat(wheel.advanceTo(13)).containsExactly("level1");
+        assertThat(wheel.advanceTo(39)).isEmpty();
+        assertThat(wheel.advanceTo(45)).containsExactly("overflow");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never return a key early or lose one while jumping ahead")
+    void shouldMatchNaiveScheduleForRandomDeadlines() {
+        Random random = new Random(42);
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, 3, 1_000);
+        List<long[]> pending = new ArrayList<>();
+        long now = 1_000;
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = now + random.nextInt(20_000);
+            wheel.schedule(Integer.toString(i), deadline);
+            pending.add(new long[]{i, deadline});
+            if (i % 50 == 0) {
+                now += random.nextInt(500);
+                long clock = now;
+                for (String key : wheel.advanceTo(clock)) {
+                    long id = Long.parseLong(key);
+                    long deadlineOf = pending.stream().filter(p -> p[0] == id).findFirst().orElseThrow()[1];
+                    assertThat(deadlineOf).isLessThanOrEqualTo(clock);
+                    pending.removeIf(p -> p[0] == id);
+                }
+                // Nothing is held past the tick that contains its deadline
+                assertThat(pending).allMatch(p -> p[1] > clock - 10);
+            }
+        }
+        wheel.advanceTo(now + 100_000);
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,123 @@
+package com.b2b.ordermanagement.infrastructure.expiry;
+
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import com.b2b.ordermanagement.application.services.OrderService;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.PendingOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderExpiryScheduler Tests")
+class OrderExpirySchedulerTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-01T12:00:00Z"));
+    private final LocalDateTime now = LocalDateTime.now(clock);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderService orderService = mock(OrderService.class);
+    private OrderExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new OrderExpiryScheduler(
+                new ExpiryProperties(true, TTL, Duration.ofSeconds(1), 64, 4, 2, 100, Duration.ofMinutes(5)),
+                orderRepository, orderService, clock);
+    }
+
+    @Test
+    @DisplayName("Should load pending orders and cancel those past the TTL in batches")
+    void shouldExpireLoadedOrdersInBatches() {
+        when(orderRepository.findPendingAfter(any(), any(), any())).thenReturn(List.of(
+                new PendingOrder("o1", now.minusHours(2)),
+                new PendingOrder("o2", now.minusMinutes(90)),
+                new PendingOrder("o3", now.minusMinutes(61)),
+                new PendingOrder("o4", now.minusMinutes(10))));
+        scheduler.loadPending();
+
+        scheduler.tick();
+
+        LocalDateTime cutoff = now.minus(TTL);
+        verify(orderService).expirePendingOrders(List.of("o1", "o2"), cutoff);
+        verify(orderService).expirePendingOrders(List.of("o3"), cutoff);
+        assertThat(scheduler.scheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should schedule committed creations and forget orders that left PENDING")
+    void shouldTrackCreatedAndChangedOrders() {
+        when(orderRepository.findPendingAfter(any(), any(), any())).thenReturn(List.of());
+        scheduler.loadPending();
+        scheduler.on(new OrderCreatedEvent("o1", "P1", OrderStatus.PENDING, BigDecimal.TEN, 1, now, now, 0L, List.of("PROD001")));
+        scheduler.on(new OrderCreatedEvent("o2", "P1", OrderStatus.PENDING, BigDecimal.TEN, 1, now, now, 0L, List.of("PROD001")));
+        scheduler.on(new OrderStatusChangedEvent("o2", "P1", OrderStatus.PENDING, OrderStatus.APPROVED, now, 1L));
+
+        clock.advance(TTL.minusSeconds(1));
+        scheduler.tick();
+        verify(orderService, never()).expirePendingOrders(anyList(), any());
+
+        clock.advance(Duration.ofSeconds(1));
+        scheduler.tick();
+        verify(orderService).expirePendingOrders(List.of("o1"), LocalDateTime.now(clock).minus(TTL));
+    }
+
+    @Test
+    @DisplayName("Should retry a batch that failed to expire")
+    void shouldRescheduleFailedBatch() {
+        when(orderRepository.findPendingAfter(any(), any(), any()))
+                .thenReturn(List.of(new PendingOrder("o1", now.minusHours(2))));
+        when(orderService.expirePendingOrders(anyList(), any())).thenThrow(new IllegalStateException("database down"));
+        scheduler.loadPending();
+
+        scheduler.tick();
+
+        assertThat(scheduler.scheduledCount()).isEqualTo(1);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.b2b.ordermanagement.infrastructure.jfr;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContentionReport Tests")
+class ContentionReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should aggregate lock waits, credit decisions and transitions per partner")
+    void shouldSummarizeRecordingPerPartner() throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(LockAcquisitionEvent.class);
+            recording.enable(CreditCheckEvent.class);
+            recording.enable(OrderTransitionEvent.class);
+            recording.start();
+
+            LockAcquisitionEvent.start().complete("order", "order-1", "PARTNER001", true);
+            LockAcquisitionEvent.start().complete("partner", "PARTNER001", "PARTNER001", true);
+            LockAcquisitionEvent.start().complete("partner", "PARTNER002", "PARTNER002", true);
+            CreditCheckEvent.emit("PARTNER001", "debitCredit", BigDecimal.TEN, BigDecimal.ONE, false);
+            CreditCheckEvent.emit("PARTNER002", "debitCredit", BigDecimal.ONE, BigDecimal.TEN, true);
+            OrderTransitionEvent.emit("order-1", "PARTNER001", null, OrderStatus.PENDING);
+            OrderTransitionEvent.emit("order-1", "PARTNER001", OrderStatus.PENDING, OrderStatus.APPROVED);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<ContentionReport.PartnerContention> report = ContentionReport.summarize(file);
+
+        assertThat(report).extracting(ContentionReport.PartnerContention::partnerId)
+                .containsExactlyInAnyOrder("PARTNER001", "PARTNER002");
+
+        ContentionReport.PartnerContention partner1 = report.stream()
+                .filter(row -> row.partnerId().equals("PARTNER001"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(partner1.lockAcquisitions()).isEqualTo(2);
+        assertThat(partner1.orderLockAcquisitions()).isEqualTo(1);
+        assertThat(partner1.creditChecks()).isEqualTo(1);
+        assertThat(partner1.creditDenials()).isEqualTo(1);
+        assertThat(partner1.transitions()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,168 @@
+package com.b2b.ordermanagement.infrastructure.journal;
+
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderJournal Tests")
+class OrderJournalTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 250_000_000);
+
+    @TempDir
+    Path directory;
+
+    private final List<OrderJournal> journals = new ArrayList<>();
+
+    @AfterEach
+    void stopJournals() {
+        journals.forEach(OrderJournal::stop);
+    }
+
+    @Test
+    @DisplayName("Should replay appended records in order with their offsets and fields intact")
+    void shouldReplayAppendedRecords() {
+        OrderJournal journal = journal(DataSize.ofMegabytes(1), Duration.ofDays(7));
+        JournalRecord created = JournalRecord.of(new OrderCreatedEvent("order-1", "PARTNER001", OrderStatus.PENDING,
+                new BigDecimal("150.00"), 2, NOW, NOW, 0, List.of("PRODUCT001")));
+        JournalRecord approved = JournalRecord.of(new OrderStatusChangedEvent("order-1", "PARTNER001",
+                OrderStatus.PENDING, OrderStatus.APPROVED, NOW.plusMinutes(5), 1));
+
+        assertThat(journal.append(created)).isTrue();
+        assertThat(journal.append(approved)).isTrue();
+        journal.stop();
+
+        List<JournalRecord> read = readAll(journal, journal.firstOffset());
+        assertThat(read).hasSize(2);
+        assertThat(read.get(0)).isEqualTo(created.at(journal.firstOffset()));
+        assertThat(read.get(1)).isEqualTo(approved.at(read.get(1).offset()));
+        assertThat(read.get(1).offset()).isGreaterThan(read.get(0).offset());
+    }
+
+    @Test
+    @DisplayName("Should roll into new segments and resume after the last record on restart")
+    void shouldRollAndRecover() throws Exception {
+        OrderJournal first = journal(DataSize.ofKilobytes(4), Duration.ofDays(7));
+        appendCancellations(first, 0, 150);
+        first.stop();
+        long endBeforeRestart = first.endOffset();
+
+        OrderJournal second = journal(DataSize.ofKilobytes(4), Duration.ofDays(7));
+        assertThat(second.endOffset()).isEqualTo(endBeforeRestart);
+        appendCancellations(second, 150, 50);
+        second.stop();
+
+        List<JournalRecord> read = readAll(second, second.firstOffset());
+        assertThat(read).extracting(JournalRecord::orderId)
+                .containsExactlyElementsOf(Stream.iterate(0, i -> i + 1).limit(200).map(OrderJournalTest::orderId).toList());
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertThat(segments.count()).isGreaterThan(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should resume a tailer from the offset it stopped at")
+    void shouldResumeFromOffset() {
+        OrderJournal journal = journal(DataSize.ofKilobytes(4), Duration.ofDays(7));
+        appendCancellations(journal, 0, 100);
+        journal.stop();
+
+        JournalTailer tailer = journal.tailer(journal.firstOffset());
+        List<JournalRecord> firstPage = new ArrayList<>();
+        assertThat(tailer.poll(firstPage::add, 60)).isEqualTo(60);
+
+        List<JournalRecord> rest = readAll(journal, tailer.offset());
+        assertThat(rest).hasSize(40);
+        assertThat(rest.get(0).orderId()).isEqualTo(orderId(60));
+        assertThat(tailer.poll(record -> {}, 100)).isEqualTo(40);
+        assertThat(tailer.offset()).isEqualTo(journal.endOffset());
+    }
+
+    @Test
+    @DisplayName("Should delete segments past retention when rolling and skip tailers past them")
+    void shouldApplyRetention() throws Exception {
+        OrderJournal journal = journal(DataSize.ofKilobytes(4), Duration.ofHours(1));
+        appendCancellations(journal, 0, 100);
+        awaitRecords(journal, 100);
+        try (Stream<Path> segments = Files.list(directory)) {
+            for (Path segment : segments.toList()) {
+                Files.setLastModifiedTime(segment, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+            }
+        }
+
+        appendCancellations(journal, 100, 100);
+        journal.stop();
+
+        assertThat(Files.exists(directory.resolve(String.format("%020d.journal", 0)))).isFalse();
+        List<JournalRecord> read = readAll(journal, 0);
+        assertThat(read).isNotEmpty().hasSizeLessThan(200);
+        assertThat(read.get(read.size() - 1).orderId()).isEqualTo(orderId(199));
+    }
+
+    @Test
+    @DisplayName("Should refuse records once stopped")
+    void shouldRefuseWhenStopped() {
+        OrderJournal journal = journal(DataSize.ofMegabytes(1), Duration.ofDays(7));
+        journal.stop();
+
+        assertThat(journal.append(cancellation(1))).isFalse();
+    }
+
+    private OrderJournal journal(DataSize segmentSize, Duration retention) {
+        OrderJournal journal = new OrderJournal(new JournalProperties(true, directory, segmentSize, retention, 10_000,
+                Duration.ofMillis(50)), new SimpleMeterRegistry());
+        journal.start();
+        journals.add(journal);
+        return journal;
+    }
+
+    private static void appendCancellations(OrderJournal journal, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            assertThat(journal.append(cancellation(i))).isTrue();
+        }
+    }
+
+    private static JournalRecord cancellation(int n) {
+        return JournalRecord.of(new OrderStatusChangedEvent(orderId(n), "PARTNER00" + (n % 5),
+                OrderStatus.PENDING, OrderStatus.CANCELLED, NOW.plusSeconds(n), 1));
+    }
+
+    private static String orderId(int n) {
+        return String.format("order-%04d", n);
+    }
+
+    private static List<JournalRecord> readAll(OrderJournal journal, long from) {
+        List<JournalRecord> records = new ArrayList<>();
+        JournalTailer tailer = journal.tailer(from);
+        while (tailer.poll(records::add, 64) > 0) {
+            // keep reading
+        }
+        return records;
+    }
+
+    private static void awaitRecords(OrderJournal journal, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (readAll(journal, journal.firstOffset()).size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
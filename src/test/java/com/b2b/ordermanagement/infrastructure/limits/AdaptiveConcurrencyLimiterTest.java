@@ -0,0 +1,86 @@
+package com.b2b.ordermanagement.infrastructure.limits;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final ConcurrencyLimitProperties PROPERTIES = new ConcurrencyLimitProperties(
+            true, List.of("/api/v1/orders/*"), Duration.ofSeconds(1), 1.5, 0.2, 0.9,
+            new ConcurrencyLimitProperties.Limits(10, 2, 100),
+            new ConcurrencyLimitProperties.Limits(10, 2, 100));
+
+    private SimpleMeterRegistry registry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter("write", PROPERTIES.write(), PROPERTIES, registry);
+    }
+
+    @Test
+    @DisplayName("Should reject requests beyond the current limit")
+    void shouldRejectOverLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(10);
+        assertThat(registry.get("http.concurrency.rejected").tag("kind", "write").counter().count()).isEqualTo(1);
+        assertThat(registry.get("http.concurrency.limit").tag("kind", "write").gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while saturated at steady latency")
+    void shouldGrowAtSteadyLatency() {
+        runSaturated(200, 5);
+
+        assertThat(limiter.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises above the baseline")
+    void shouldShrinkWhenLatencyRises() {
+        runSaturated(300, 5);
+        int warmedUp = limiter.limit();
+
+        runSaturated(20, 60);
+
+        assertThat(limiter.limit()).isLessThan(warmedUp);
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively on failures without going below the minimum")
+    void shouldBackOffOnFailures() {
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(5), true);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private void runSaturated(int samples, long latencyMillis) {
+        for (int i = 0; i < samples; i++) {
+            int admitted = 0;
+            while (limiter.tryAcquire()) {
+                admitted++;
+            }
+            for (int j = 0; j < admitted; j++) {
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis), false);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.b2b.ordermanagement.infrastructure.limits;
+
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import com.b2b.ordermanagement.shared.exceptions.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PartnerRateLimiter Tests")
+class PartnerRateLimiterTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should admit a burst and then throttle with a retry hint")
+    void shouldThrottleAfterBurst() {
+        PartnerRateLimiter limiter = limiter(Duration.ofMinutes(10), Map.of());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(PartnerRateLimiter.Operation.CREATE, "PARTNER001");
+        }
+
+        assertThatThrownBy(() -> limiter.acquire(PartnerRateLimiter.Operation.CREATE, "PARTNER001"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasMessage("Rate limit exceeded for partner: PARTNER001")
+                .satisfies(error -> assertThat(((RateLimitExceededException) error).getRetryAfter())
+                        .isPositive()
+                        .isLessThanOrEqualTo(Duration.ofSeconds(1)));
+        assertThat(registry.get("orders.rate.limited").tag("operation", "create").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should spend no tokens on warm-up requests")
+    void shouldIgnoreWarmupRequests() {
+        PartnerRateLimiter limiter = limiter(Duration.ofMinutes(10), Map.of());
+
+        WarmupSession.beginRequest();
+        try {
+            for (int i = 0; i < 10; i++) {
+                limiter.acquire(PartnerRateLimiter.Operation.CREATE, "PARTNER001");
+            }
+        } finally {
+            WarmupSession.endRequest();
+        }
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(PartnerRateLimiter.Operation.CREATE, "PARTNER001");
+        }
+        assertThatThrownBy(() -> limiter.acquire(PartnerRateLimiter.Operation.CREATE, "PARTNER001"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep partners and operations in separate buckets")
+    void shouldIsolatePartnersAndOperations() {
+        PartnerRateLimiter limiter = limiter(Duration.ofMinutes(10), Map.of());
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(PartnerRateLimiter.Operation.CREATE, "PARTNER001");
+        }
+
+        assertThatCode(() -> limiter.acquire(PartnerRateLimiter.Operation.CREATE, "PARTNER002")).doesNotThrowAnyException();
+        assertThatCode(() -> limiter.acquire(PartnerRateLimiter.Operation.STATUS_CHANGE, "PARTNER001")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should apply per-partner overrides")
+    void shouldApplyPartnerOverride() {
+        PartnerRateLimiter limiter = limiter(Duration.ofMinutes(10), Map.of("BIG_PARTNER",
+                new RateLimitProperties.PartnerOverride(new RateLimitProperties.Bucket(1, 20), null)));
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(PartnerRateLimiter.Operation.CREATE, "BIG_PARTNER");
+        }
+        assertThatThrownBy(() -> limiter.acquire(PartnerRateLimiter.Operation.CREATE, "BIG_PARTNER"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Should evict buckets only once they have refilled and stayed idle")
+    void shouldEvictIdleBuckets() throws InterruptedException {
+        RateLimitProperties.Bucket fast = new RateLimitProperties.Bucket(1000, 5);
+        RateLimitProperties.Bucket slow = new RateLimitProperties.Bucket(1, 5);
+        PartnerRateLimiter limiter = new PartnerRateLimiter(
+                new RateLimitProperties(true, Duration.ofMillis(1), fast, slow, Map.of()), registry);
+        limiter.acquire(PartnerRateLimiter.Operation.CREATE, "PARTNER001");
+        limiter.acquire(PartnerRateLimiter.Operation.STATUS_CHANGE, "PARTNER001");
+
+        Thread.sleep(20);
+        limiter.evictIdleBuckets();
+
+        // The 1000/s bucket refilled within a millisecond; the 1/s one still owes most of a second
+        assertThat(limiter.bucketCount(PartnerRateLimiter.Operation.CREATE)).isZero();
+        assertThat(limiter.bucketCount(PartnerRateLimiter.Operation.STATUS_CHANGE)).isEqualTo(1);
+    }
+
+    private PartnerRateLimiter limiter(Duration idleTimeout, Map<String, RateLimitProperties.PartnerOverride> partners) {
+        RateLimitProperties.Bucket bucket = new RateLimitProperties.Bucket(1, 5);
+        return new PartnerRateLimiter(new RateLimitProperties(true, idleTimeout, bucket, bucket, partners), registry);
+    }
+}
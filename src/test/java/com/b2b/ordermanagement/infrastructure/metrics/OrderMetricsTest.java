@@ -0,0 +1,105 @@
+package com.b2b.ordermanagement.infrastructure.metrics;
+
+import com.b2b.ordermanagement.shared.exceptions.BusinessException;
+import com.b2b.ordermanagement.shared.exceptions.InsufficientCreditException;
+import com.b2b.ordermanagement.shared.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderMetrics Tests")
+class OrderMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private OrderMetrics orderMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        orderMetrics = new OrderMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Should record operation latency and outcome count under operation and outcome tags")
+    void shouldRecordOperationByOutcome() {
+        orderMetrics.recordOperation(OrderOperation.APPROVE_ORDER, OperationOutcome.INSUFFICIENT_CREDIT,
+                TimeUnit.MILLISECONDS.toNanos(15));
+
+        var timer = registry.get("orders.operation")
+                .tag("operation", "approveOrder")
+                .tag("outcome", "insufficient_credit")
+                .timer();
+        var counter = registry.get("orders.operation.outcomes")
+                .tag("operation", "approveOrder")
+                .tag("outcome", "insufficient_credit")
+                .counter();
+
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(15.0);
+        assertThat(counter.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should record a successful operation only when its transaction completes")
+    void shouldRecordOperationOnCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            orderMetrics.recordOperationOnCompletion(OrderOperation.CREATE_ORDER, System.nanoTime());
+            orderMetrics.recordOperationOnCompletion(OrderOperation.APPROVE_ORDER, System.nanoTime());
+            assertThat(registry.find("orders.operation").timers()).isEmpty();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(registry.get("orders.operation.outcomes")
+                .tag("operation", "createOrder").tag("outcome", "success").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("orders.operation.outcomes")
+                .tag("operation", "approveOrder").tag("outcome", "error").counter().count()).isEqualTo(1.0);
+        assertThat(registry.find("orders.operation").tag("outcome", "success").timers()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should record order shape, lock waits and notification latency")
+    void shouldRecordDistributions() {
+        orderMetrics.recordOrderShape(3, BigDecimal.valueOf(450));
+        orderMetrics.recordLockWait(OrderMetrics.LockTarget.PARTNER, TimeUnit.MILLISECONDS.toNanos(2));
+        orderMetrics.recordNotification("order.created", true, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(registry.get("orders.items").summary().totalAmount()).isEqualTo(3.0);
+        assertThat(registry.get("orders.amount").summary().totalAmount()).isEqualTo(450.0);
+        assertThat(registry.get("orders.lock.wait").tag("entity", "partner").timer().count()).isEqualTo(1);
+        assertThat(registry.get("orders.notification.send")
+                .tag("topic", "order.created")
+                .tag("result", "sent")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should classify failures into outcomes")
+    void shouldClassifyOutcomes() {
+        assertThat(OperationOutcome.of(new InsufficientCreditException("PARTNER001")))
+                .isEqualTo(OperationOutcome.INSUFFICIENT_CREDIT);
+        assertThat(OperationOutcome.of(new ResourceNotFoundException("Order not found: 1")))
+                .isEqualTo(OperationOutcome.NOT_FOUND);
+        assertThat(OperationOutcome.of(new ObjectOptimisticLockingFailureException("Order", "1")))
+                .isEqualTo(OperationOutcome.CONFLICT);
+        assertThat(OperationOutcome.of(new BusinessException("Order cannot be approved in current status: CANCELLED")))
+                .isEqualTo(OperationOutcome.REJECTED);
+        assertThat(OperationOutcome.of(new IllegalStateException("boom")))
+                .isEqualTo(OperationOutcome.ERROR);
+    }
+}
@@ -0,0 +1,117 @@
+package com.b2b.ordermanagement.infrastructure.processing;
+
+import com.b2b.ordermanagement.application.services.OrderService;
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderProcessor Tests")
+class OrderProcessorTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-03-01T12:00:00Z"), ZoneOffset.UTC);
+    private final LocalDateTime now = LocalDateTime.now(clock);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderService orderService = mock(OrderService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final OrderStage stage = new StartFulfillmentStage();
+
+    @Test
+    @DisplayName("Should claim a batch, advance it in the same transaction and record throughput and lag")
+    void shouldAdvanceClaimedBatch() {
+        Order first = order("o1", now.minusMinutes(5));
+        Order second = order("o2", now.minusMinutes(1));
+        when(orderRepository.claimByStatus("APPROVED", 10)).thenReturn(List.of(first, second));
+        when(orderService.advanceOrders(List.of("o1", "o2"), OrderStatus.APPROVED, OrderStatus.PROCESSING))
+                .thenReturn(List.of("o1", "o2"));
+
+        int claimed = processor(Set.of()).runBatch(stage);
+
+        assertThat(claimed).isEqualTo(2);
+        verify(transactionManager).commit(any());
+        assertThat(registry.get("orders.processing.processed").tag("stage", "start-fulfillment").counter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("orders.processing.lag").tag("stage", "start-fulfillment").timer().max(TimeUnit.MINUTES))
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should not advance anything when no orders are waiting")
+    void shouldSkipEmptyClaim() {
+        when(orderRepository.claimByStatus("APPROVED", 10)).thenReturn(List.of());
+
+        assertThat(processor(Set.of()).runBatch(stage)).isZero();
+
+        verify(orderService, never()).advanceOrders(anyList(), any(), any());
+        assertThat(registry.find("orders.processing.processed").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should roll the batch back when the stage fails")
+    void shouldRollBackFailedBatch() {
+        OrderStage failing = mock(OrderStage.class);
+        when(failing.name()).thenReturn("failing");
+        when(failing.source()).thenReturn(OrderStatus.PROCESSING);
+        Order o1 = order("o1", now);
+        when(orderRepository.claimByStatus("PROCESSING", 10)).thenReturn(List.of(o1));
+        doThrow(new IllegalStateException("carrier unavailable")).when(failing).process(anyList());
+
+        OrderProcessor processor = new OrderProcessor(properties(Set.of()), List.of(failing), orderRepository, orderService,
+                new OrderMetrics(registry), transactionManager, registry, clock);
+
+        assertThatThrownBy(() -> processor.runBatch(failing)).isInstanceOf(IllegalStateException.class);
+        verify(transactionManager).rollback(any());
+        verify(orderService, never()).advanceOrders(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should only run the configured stages and expose their backlog")
+    void shouldRunConfiguredStages() {
+        when(orderRepository.countByStatus(OrderStatus.PROCESSING)).thenReturn(42L);
+
+        processor(Set.of("ship")).refreshBacklog();
+
+        assertThat(registry.get("orders.processing.backlog").tag("stage", "ship").gauge().value()).isEqualTo(42);
+        assertThat(registry.find("orders.processing.backlog").tag("stage", "start-fulfillment").gauge()).isNull();
+    }
+
+    private OrderProcessor processor(Set<String> stages) {
+        return new OrderProcessor(properties(stages), List.of(stage, new ShipOrdersStage()), orderRepository,
+                orderService, new OrderMetrics(registry), transactionManager, registry, clock);
+    }
+
+    private static ProcessingProperties properties(Set<String> stages) {
+        return new ProcessingProperties(true, stages, 2, 10, Duration.ofMillis(100), Duration.ofSeconds(30));
+    }
+
+    private static Order order(String id, LocalDateTime updatedAt) {
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(id);
+        when(order.getUpdatedAt()).thenReturn(updatedAt);
+        return order;
+    }
+}
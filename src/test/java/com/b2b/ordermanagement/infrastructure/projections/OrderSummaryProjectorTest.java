@@ -0,0 +1,52 @@
+package com.b2b.ordermanagement.infrastructure.projections;
+
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.application.events.OrderStatusChangedEvent;
+import com.b2b.ordermanagement.domain.entities.OrderSummary;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OrderSummaryProjector Tests")
+class OrderSummaryProjectorTest {
+
+    private final OrderSummaryRepository repository = mock(OrderSummaryRepository.class);
+    private final OrderSummaryProjector projector = new OrderSummaryProjector(repository);
+
+    @Test
+    @DisplayName("Should insert a summary row when an order is created")
+    void shouldInsertSummaryOnCreate() {
+        LocalDateTime now = LocalDateTime.now();
+
+        projector.on(new OrderCreatedEvent("order-1", "PARTNER001", OrderStatus.PENDING,
+                new BigDecimal("150.00"), 3, now, now, 0L, List.of("PROD001")));
+
+        ArgumentCaptor<OrderSummary> saved = ArgumentCaptor.forClass(OrderSummary.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getId()).isEqualTo("order-1");
+        assertThat(saved.getValue().getItemCount()).isEqualTo(3);
+        assertThat(saved.getValue().getTotalAmount()).isEqualByComparingTo("150.00");
+        assertThat(saved.getValue().getOrderVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should apply status changes guarded by the order version")
+    void shouldApplyVersionedStatusChange() {
+        LocalDateTime changedAt = LocalDateTime.now();
+
+        projector.on(new OrderStatusChangedEvent("order-1", "PARTNER001",
+                OrderStatus.PENDING, OrderStatus.APPROVED, changedAt, 1L));
+
+        verify(repository).applyStatusChange("order-1", OrderStatus.APPROVED, changedAt, 1L);
+    }
+}
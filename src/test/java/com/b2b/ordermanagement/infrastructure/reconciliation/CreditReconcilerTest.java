@@ -0,0 +1,95 @@
+package com.b2b.ordermanagement.infrastructure.reconciliation;
+
+import com.b2b.ordermanagement.domain.entities.Partner;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.PartnerCredit;
+import com.b2b.ordermanagement.infrastructure.repositories.PartnerExposure;
+import com.b2b.ordermanagement.infrastructure.repositories.PartnerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CreditReconciler Tests")
+class CreditReconcilerTest {
+
+    private final PartnerRepository partnerRepository = mock(PartnerRepository.class);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final CreditReconciler reconciler = new CreditReconciler(partnerRepository, orderRepository,
+            mock(PlatformTransactionManager.class), new ReconciliationProperties(2, 2, 1_000_000, 10));
+
+    @Test
+    @DisplayName("Should report partners whose available credit does not match their open orders")
+    void shouldReportMismatchesAcrossChunks() {
+        when(partnerRepository.findAllIds()).thenReturn(List.of("P1", "P2", "P3"));
+        when(partnerRepository.streamCreditBetween("P1", "P1")).thenAnswer(invocation -> Stream.of(
+                new PartnerCredit("P1", new BigDecimal("1000"), new BigDecimal("700"))));
+        when(orderRepository.streamTotalsByPartner(eq("P1"), eq("P1"), anyCollection())).thenAnswer(invocation -> Stream.of(
+                new PartnerExposure("P1", new BigDecimal("300"))));
+        when(partnerRepository.streamCreditBetween("P2", "P3")).thenAnswer(invocation -> Stream.of(
+                new PartnerCredit("P2", new BigDecimal("500"), new BigDecimal("500")),
+                new PartnerCredit("P3", new BigDecimal("500"), new BigDecimal("450"))));
+        when(orderRepository.streamTotalsByPartner(eq("P2"), eq("P3"), anyCollection())).thenAnswer(invocation -> Stream.of(
+                new PartnerExposure("P2", new BigDecimal("20"))));
+
+        ReconciliationReport report = reconciler.reconcile(2, false);
+
+        assertThat(report.partnersChecked()).isEqualTo(3);
+        assertThat(report.mismatches()).isEqualTo(2);
+        assertThat(report.reported()).extracting(CreditMismatch::partnerId).containsExactly("P3", "P2");
+        assertThat(report.reported().get(0).drift()).isEqualByComparingTo("-50");
+        verify(partnerRepository, never()).findByIdWithLock(anyString());
+    }
+
+    @Test
+    @DisplayName("Should repair a mismatch after re-checking it under the partner lock")
+    void shouldRepairUnderPartnerLock() {
+        Partner partner = new Partner("P1", "Acme", new BigDecimal("1000"));
+        when(partnerRepository.findAllIds()).thenReturn(List.of("P1"));
+        when(partnerRepository.streamCreditBetween("P1", "P1")).thenAnswer(invocation -> Stream.of(
+                new PartnerCredit("P1", new BigDecimal("1000"), new BigDecimal("1000"))));
+        when(orderRepository.streamTotalsByPartner(eq("P1"), eq("P1"), anyCollection())).thenAnswer(invocation -> Stream.of(
+                new PartnerExposure("P1", new BigDecimal("250"))));
+        when(partnerRepository.findByIdWithLock("P1")).thenReturn(Optional.of(partner));
+        when(orderRepository.sumTotalByPartner(eq("P1"), anyCollection())).thenReturn(new BigDecimal("250"));
+
+        ReconciliationReport report = reconciler.reconcile(1, true);
+
+        assertThat(report.repaired()).isEqualTo(1);
+        assertThat(report.reported().get(0).repaired()).isTrue();
+        assertThat(partner.getAvailableCredit()).isEqualByComparingTo("750");
+        verify(partnerRepository).save(partner);
+    }
+
+    @Test
+    @DisplayName("Should leave a partner alone when it is consistent under the lock")
+    void shouldSkipRepairWhenDriftWasInFlight() {
+        Partner partner = new Partner("P1", "Acme", new BigDecimal("1000"));
+        when(partnerRepository.findAllIds()).thenReturn(List.of("P1"));
+        when(partnerRepository.streamCreditBetween("P1", "P1")).thenAnswer(invocation -> Stream.of(
+                new PartnerCredit("P1", new BigDecimal("1000"), new BigDecimal("1000"))));
+        when(orderRepository.streamTotalsByPartner(eq("P1"), eq("P1"), anyCollection())).thenAnswer(invocation -> Stream.of(
+                new PartnerExposure("P1", new BigDecimal("250"))));
+        when(partnerRepository.findByIdWithLock("P1")).thenReturn(Optional.of(partner));
+        when(orderRepository.sumTotalByPartner(eq("P1"), anyCollection())).thenReturn(BigDecimal.ZERO);
+
+        ReconciliationReport report = reconciler.reconcile(1, true);
+
+        assertThat(report.repaired()).isZero();
+        verify(partnerRepository, never()).save(any(Partner.class));
+    }
+}
@@ -0,0 +1,76 @@
+package com.b2b.ordermanagement.infrastructure.repositories;
+
+import com.b2b.ordermanagement.domain.entities.Order;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderTransitionsImpl Tests")
+class OrderTransitionsImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final Query query = mock(Query.class);
+    private final OrderTransitions transitions = new OrderTransitionsImpl(entityManager);
+
+    @Test
+    @DisplayName("Should flush and clear the persistence context before mapping the updated row")
+    void shouldReturnFreshOrderFromUpdate() {
+        Order updated = new Order("PARTNER001", List.of());
+        updated.setStatus(OrderStatus.APPROVED);
+        when(entityManager.createNativeQuery(contains("RETURNING *"), eq(Order.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(updated));
+
+        assertThat(transitions.transitionStatus("order-1", "APPROVED", List.of("PENDING"), NOW)).containsSame(updated);
+
+        InOrder order = inOrder(entityManager, query);
+        order.verify(entityManager).flush();
+        order.verify(entityManager).clear();
+        order.verify(entityManager).createNativeQuery(anyString(), eq(Order.class));
+        order.verify(query).setParameter("id", "order-1");
+        order.verify(query).getResultList();
+    }
+
+    @Test
+    @DisplayName("Should return nothing when no row allowed the transition")
+    void shouldReturnEmptyWhenRejected() {
+        when(entityManager.createNativeQuery(anyString(), eq(Order.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+
+        assertThat(transitions.transitionStatus("order-1", "APPROVED", List.of("PENDING"), NOW)).isEmpty();
+        assertThat(transitions.transitionAll(List.of("order-1"), "APPROVED", "PROCESSING", NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should bind batch parameters and return every changed row")
+    void shouldReturnExpiredOrders() {
+        Order first = new Order("PARTNER001", List.of());
+        Order second = new Order("PARTNER002", List.of());
+        when(entityManager.createNativeQuery(contains("status = 'PENDING'"), eq(Order.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(first, second));
+
+        List<Order> expired = transitions.expirePending(List.of("a", "b"), NOW.minusDays(1), NOW);
+
+        assertThat(expired).containsExactly(first, second);
+        InOrder order = inOrder(entityManager, query);
+        order.verify(entityManager).flush();
+        order.verify(entityManager).clear();
+        order.verify(query).setParameter(eq("createdBefore"), any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,109 @@
+package com.b2b.ordermanagement.infrastructure.retry;
+
+import com.b2b.ordermanagement.infrastructure.metrics.OrderMetrics;
+import com.b2b.ordermanagement.shared.exceptions.BusinessException;
+import com.b2b.ordermanagement.shared.exceptions.ConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConflictRetryAspect Tests")
+class ConflictRetryAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private TransactionalOperation target;
+    private TransactionalOperation proxy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        RetryProperties properties = new RetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(2));
+
+        target = new TransactionalOperation();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ConflictRetryAspect(properties, new OrderMetrics(registry)));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should retry optimistic lock failures until the operation succeeds")
+    void shouldRetryOptimisticLockFailure() {
+        target.behaviour = failTimes(2, () -> new ObjectOptimisticLockingFailureException("Order", "order-123"));
+
+        assertThat(proxy.run()).isEqualTo("done");
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(registry.get("orders.retry").tag("result", "retried").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("orders.retry").tag("result", "recovered").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fail fast on business rejections")
+    void shouldNotRetryBusinessException() {
+        target.behaviour = failTimes(5, () -> new BusinessException("Insufficient credit available for partner: PARTNER001"));
+
+        assertThatThrownBy(() -> proxy.run()).isInstanceOf(BusinessException.class);
+        assertThat(target.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up with ConflictException once attempts are exhausted")
+    void shouldThrowConflictWhenExhausted() {
+        target.behaviour = failTimes(10, () -> new CannotAcquireLockException("deadlock detected"));
+
+        assertThatThrownBy(() -> proxy.run())
+                .isInstanceOf(ConflictException.class)
+                .hasCauseInstanceOf(CannotAcquireLockException.class);
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(registry.get("orders.retry").tag("result", "exhausted").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should run once-per-call work on the first attempt only")
+    void shouldRunScopedWorkOncePerCall() {
+        AtomicInteger tokens = new AtomicInteger();
+        Runnable conflict = failTimes(2, () -> new ObjectOptimisticLockingFailureException("Order", "order-123"));
+        target.behaviour = () -> {
+            RetryScope.once("rate-limit", tokens::incrementAndGet);
+            conflict.run();
+        };
+
+        assertThat(proxy.run()).isEqualTo("done");
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(tokens.get()).isEqualTo(1);
+
+        proxy.run();
+        assertThat(tokens.get()).isEqualTo(2);
+    }
+
+    private Runnable failTimes(int failures, Supplier<RuntimeException> error) {
+        return () -> {
+            if (target.calls.get() <= failures) {
+                throw error.get();
+            }
+        };
+    }
+
+    static class TransactionalOperation {
+        final AtomicInteger calls = new AtomicInteger();
+        Runnable behaviour = () -> { };
+
+        @RetryOnConflict
+        public String run() {
+            calls.incrementAndGet();
+            behaviour.run();
+            return "done";
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.b2b.ordermanagement.infrastructure.search;
+
+import com.b2b.ordermanagement.application.dto.OrderCursor;
+import com.b2b.ordermanagement.application.events.OrderCreatedEvent;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecentProductIndex Tests")
+class RecentProductIndexTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-01T12:00:00Z"));
+    private final LocalDateTime start = LocalDateTime.now(clock);
+
+    private RecentProductIndex index(int maxOrdersPerProduct) {
+        return new RecentProductIndex(new ProductIndexProperties(true, true, Duration.ofHours(1), maxOrdersPerProduct), clock);
+    }
+
+    private static OrderCreatedEvent created(String orderId, String partnerId, LocalDateTime createdAt, String... products) {
+        return new OrderCreatedEvent(orderId, partnerId, OrderStatus.PENDING, BigDecimal.TEN, products.length,
+                createdAt, createdAt, 0L, List.of(products));
+    }
+
+    @Test
+    @DisplayName("Should return orders newest first, paging by cursor and filtering by partner")
+    void shouldLookupNewestFirst() {
+        RecentProductIndex index = index(100);
+        index.on(created("o1", "P1", start.plusMinutes(1), "PROD001", "PROD002"));
+        index.on(created("o2", "P2", start.plusMinutes(2), "PROD001"));
+        index.on(created("o3", "P1", start.plusMinutes(3), "PROD001"));
+        clock.advance(Duration.ofMinutes(5));
+
+        LocalDateTime end = LocalDateTime.now(clock);
+        assertThat(index.lookup("PROD001", null, start, end, null, 2)).contains(List.of("o3", "o2"));
+        assertThat(index.lookup("PROD001", null, start, end, new OrderCursor(start.plusMinutes(2), "o2"), 2))
+                .contains(List.of("o1"));
+        assertThat(index.lookup("PROD001", "P1", start, end, null, 10)).contains(List.of("o3", "o1"));
+        assertThat(index.lookup("PROD009", null, start, end, null, 10)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("Should decline ranges that start before what the index has seen")
+    void shouldDeclineUncoveredRanges() {
+        RecentProductIndex index = index(2);
+        index.on(created("o1", "P1", start.plusMinutes(1), "PROD001"));
+        index.on(created("o2", "P1", start.plusMinutes(2), "PROD001"));
+        index.on(created("o3", "P1", start.plusMinutes(3), "PROD001"));
+        LocalDateTime end = start.plusMinutes(10);
+
+        // Before startup
+        assertThat(index.lookup("PROD001", null, start.minusMinutes(1), end, null, 10)).isEmpty();
+        // No date range
+        assertThat(index.lookup("PROD001", null, null, end, null, 10)).isEmpty();
+        // o1 was dropped to stay within two postings per product
+        assertThat(index.lookup("PROD001", null, start.plusMinutes(1), end, null, 10)).isEmpty();
+        assertThat(index.lookup("PROD001", null, start.plusMinutes(2), end, null, 10)).contains(List.of("o3", "o2"));
+    }
+
+    @Test
+    @DisplayName("Should leave every lookup to the database unless declared single-instance")
+    void shouldStayOffWithoutSingleInstance() {
+        RecentProductIndex index = new RecentProductIndex(
+                new ProductIndexProperties(true, false, Duration.ofHours(1), 100), clock);
+        index.on(created("o1", "P1", start.plusMinutes(1), "PROD001"));
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(index.lookup("PROD001", null, start, LocalDateTime.now(clock), null, 10)).isEmpty();
+        assertThat(index.productCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict postings older than the window")
+    void shouldEvictExpiredPostings() {
+        RecentProductIndex index = index(100);
+        index.on(created("o1", "P1", start.plusMinutes(1), "PROD001"));
+        index.on(created("o2", "P1", start.plusMinutes(50), "PROD002"));
+        clock.advance(Duration.ofMinutes(70));
+
+        index.evictExpired();
+
+        assertThat(index.productCount()).isEqualTo(1);
+        assertThat(index.lookup("PROD002", null, start.plusMinutes(15), LocalDateTime.now(clock), null, 10))
+                .contains(List.of("o2"));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
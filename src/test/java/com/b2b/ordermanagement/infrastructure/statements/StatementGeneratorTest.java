@@ -0,0 +1,121 @@
+package com.b2b.ordermanagement.infrastructure.statements;
+
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.repositories.OrderSummaryRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.PartnerRepository;
+import com.b2b.ordermanagement.infrastructure.repositories.StatementLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StatementGenerator Tests")
+class StatementGeneratorTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2025, 3);
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 4, 10, 15, 30);
+
+    @TempDir
+    Path directory;
+
+    private final PartnerRepository partnerRepository = mock(PartnerRepository.class);
+    private final OrderSummaryRepository orderSummaryRepository = mock(OrderSummaryRepository.class);
+
+    @Test
+    @DisplayName("Should write a compressed statement per partner for the month")
+    void shouldWriteStatementPerPartner() throws IOException {
+        when(partnerRepository.findAllIds()).thenReturn(List.of("PARTNER001", "PARTNER002"));
+        when(orderSummaryRepository.streamStatement(eq("PARTNER001"), eq(PERIOD.atDay(1).atStartOfDay()),
+                eq(LocalDateTime.of(2025, 4, 1, 0, 0)))).thenAnswer(invocation -> Stream.of(
+                line("o1", OrderStatus.APPROVED, "150.50"),
+                line("o2", OrderStatus.CANCELLED, "20.00")));
+        when(orderSummaryRepository.streamStatement(eq("PARTNER002"), any(), any())).thenAnswer(invocation -> Stream.empty());
+
+        StatementRunReport report = generator().generate(PERIOD, StatementFormat.CSV, 2);
+
+        assertThat(report.generated()).isEqualTo(2);
+        assertThat(report.orders()).isEqualTo(2);
+        assertThat(read(directory.resolve("2025-03/PARTNER001.csv.gz"))).isEqualTo("""
+                order_id,status,total_amount,item_count,created_at,updated_at
+                o1,APPROVED,150.50,2,2025-03-04T10:15:30,2025-03-04T10:15:30
+                o2,CANCELLED,20.00,2,2025-03-04T10:15:30,2025-03-04T10:15:30
+                """);
+        assertThat(read(directory.resolve("2025-03/PARTNER002.csv.gz"))).hasLineCount(1);
+    }
+
+    @Test
+    @DisplayName("Should total the billable orders in the text format")
+    void shouldTotalTextStatement() throws IOException {
+        when(partnerRepository.findAllIds()).thenReturn(List.of("PARTNER001"));
+        when(orderSummaryRepository.streamStatement(eq("PARTNER001"), any(), any())).thenAnswer(invocation -> Stream.of(
+                line("o1", OrderStatus.APPROVED, "150.50"),
+                line("o2", OrderStatus.CANCELLED, "20.00"),
+                line("o3", OrderStatus.SHIPPED, "9.50")));
+
+        generator().generate(PERIOD, StatementFormat.TEXT, 1);
+
+        assertThat(read(directory.resolve("2025-03/PARTNER001.txt.gz")))
+                .startsWith("Order statement for partner PARTNER001, 2025-03")
+                .endsWith("3 orders, 160.00 excluding cancelled orders\n");
+    }
+
+    @Test
+    @DisplayName("Should resume by skipping finished statements and leave no file for a failed one")
+    void shouldResumeAfterPartialRun() throws IOException {
+        Files.createDirectories(directory.resolve("2025-03"));
+        Files.writeString(directory.resolve("2025-03/PARTNER001.csv.gz"), "done");
+        Files.writeString(directory.resolve("2025-03/PARTNER002.csv.gz.tmp"), "partial");
+        when(partnerRepository.findAllIds()).thenReturn(List.of("PARTNER001", "PARTNER002"));
+        when(orderSummaryRepository.streamStatement(eq("PARTNER002"), any(), any()))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        StatementRunReport report = generator().generate(PERIOD, StatementFormat.CSV, 1);
+
+        assertThat(report.skipped()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(directory.resolve("2025-03/PARTNER002.csv.gz")).doesNotExist();
+        assertThat(directory.resolve("2025-03/PARTNER002.csv.gz.tmp")).doesNotExist();
+        verify(orderSummaryRepository, never()).streamStatement(eq("PARTNER001"), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep partner ids from escaping the statement directory")
+    void shouldSanitizeFileNames() {
+        assertThat(StatementGenerator.fileName("../acme/1", StatementFormat.CSV)).isEqualTo(".._acme_1.csv.gz");
+    }
+
+    private StatementGenerator generator() {
+        return new StatementGenerator(partnerRepository, orderSummaryRepository, mock(PlatformTransactionManager.class),
+                new StatementProperties(directory, 2));
+    }
+
+    private static StatementLine line(String orderId, OrderStatus status, String amount) {
+        return new StatementLine(orderId, status, new BigDecimal(amount), 2, CREATED, CREATED);
+    }
+
+    private static String read(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.b2b.ordermanagement.presentation.config;
+
+import com.b2b.ordermanagement.application.dto.OrderItemResponseDTO;
+import com.b2b.ordermanagement.application.dto.OrderResponseDTO;
+import com.b2b.ordermanagement.application.dto.PagedResponse;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload size and encode/decode cost of a 500-order page as JSON, Smile and CBOR.
+ * Excluded from {@code test}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Binary format benchmark")
+class BinaryFormatBenchmark {
+
+    private static final int ROUNDS = 200;
+    private static final int PAGE_SIZE = 500;
+
+    @Test
+    @DisplayName("Smile and CBOR pages are smaller than JSON")
+    void compareFormats() throws Exception {
+        PagedResponse<OrderResponseDTO> page = samplePage();
+        Map<String, ObjectMapper> mappers = Map.of(
+                "json", mapper(Jackson2ObjectMapperBuilder.json()),
+                "smile", mapper(Jackson2ObjectMapperBuilder.smile()),
+                "cbor", mapper(Jackson2ObjectMapperBuilder.cbor()));
+
+        System.out.printf("%-6s %10s %14s %14s%n", "format", "bytes", "encode(us)", "decode(us)");
+        int jsonSize = 0;
+        for (String format : List.of("json", "smile", "cbor")) {
+            ObjectMapper mapper = mappers.get(format);
+            JavaType type = mapper.getTypeFactory().constructParametricType(PagedResponse.class, OrderResponseDTO.class);
+            byte[] encoded = mapper.writeValueAsBytes(page);
+
+            for (int i = 0; i < ROUNDS; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(page), type);
+            }
+            long encodeStart = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                encoded = mapper.writeValueAsBytes(page);
+            }
+            long encodeNanos = (System.nanoTime() - encodeStart) / ROUNDS;
+            long decodeStart = System.nanoTime();
+            PagedResponse<OrderResponseDTO> decoded = null;
+            for (int i = 0; i < ROUNDS; i++) {
+                decoded = mapper.readValue(encoded, type);
+            }
+            long decodeNanos = (System.nanoTime() - decodeStart) / ROUNDS;
+
+            assertThat(decoded.getRecords()).hasSize(PAGE_SIZE);
+            assertThat(decoded.getRecords().get(0).totalAmount()).isEqualByComparingTo(page.getRecords().get(0).totalAmount());
+            System.out.printf("%-6s %10d %14.1f %14.1f%n", format, encoded.length, encodeNanos / 1000d, decodeNanos / 1000d);
+
+            if (format.equals("json")) {
+                jsonSize = encoded.length;
+            } else {
+                assertThat(encoded.length).isLessThan(jsonSize);
+            }
+        }
+    }
+
+    private static ObjectMapper mapper(Jackson2ObjectMapperBuilder builder) {
+        // Same date handling as Spring Boot's auto-configured builder
+        return builder.featuresToDisable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private static PagedResponse<OrderResponseDTO> samplePage() {
+        List<OrderResponseDTO> orders = new ArrayList<>(PAGE_SIZE);
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 10, 0);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            List<OrderItemResponseDTO> items = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                BigDecimal unitPrice = BigDecimal.valueOf(1999 + i * 7L + j, 2);
+                items.add(new OrderItemResponseDTO((long) i * 3 + j, "PROD" + (j + 1), j + 1,
+                        unitPrice, unitPrice.multiply(BigDecimal.valueOf(j + 1))));
+            }
+            BigDecimal total = items.stream().map(OrderItemResponseDTO::totalPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+            orders.add(new OrderResponseDTO("order-" + i, "PARTNER" + (i % 10), OrderStatus.values()[i % 6],
+                    total, base.plusMinutes(i), base.plusMinutes(i + 5), items));
+        }
+        return new PagedResponse<>(orders, 0, 40, 20_000);
+    }
+}
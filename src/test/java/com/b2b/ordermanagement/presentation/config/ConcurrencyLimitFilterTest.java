@@ -0,0 +1,117 @@
+package com.b2b.ordermanagement.presentation.config;
+
+import com.b2b.ordermanagement.infrastructure.limits.AdaptiveConcurrencyLimiter;
+import com.b2b.ordermanagement.infrastructure.limits.ConcurrencyLimitProperties;
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private static final ConcurrencyLimitProperties PROPERTIES = new ConcurrencyLimitProperties(
+            true, List.of("/api/v1/orders/*"), Duration.ofMillis(1500), 1.5, 0.2, 0.5,
+            new ConcurrencyLimitProperties.Limits(2, 1, 10),
+            new ConcurrencyLimitProperties.Limits(2, 1, 10));
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter readLimiter =
+            new AdaptiveConcurrencyLimiter("read", PROPERTIES.read(), PROPERTIES, registry);
+    private final AdaptiveConcurrencyLimiter writeLimiter =
+            new AdaptiveConcurrencyLimiter("write", PROPERTIES.write(), PROPERTIES, registry);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(readLimiter, writeLimiter,
+            PROPERTIES.retryAfter(), new ObjectMapper().registerModule(new JavaTimeModule()));
+    private final FilterChain chain = mock(FilterChain.class);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    @DisplayName("Should let warm-up requests bypass the limits without taking a slot")
+    void shouldBypassWarmupRequests() throws Exception {
+        assertThat(writeLimiter.tryAcquire()).isTrue();
+        assertThat(writeLimiter.tryAcquire()).isTrue();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+
+        WarmupSession.beginRequest();
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            WarmupSession.endRequest();
+        }
+
+        verify(chain).doFilter(request, response);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(writeLimiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should shed requests over the limit with 503 and Retry-After")
+    void shouldRejectOverLimit() throws Exception {
+        assertThat(writeLimiter.tryAcquire()).isTrue();
+        assertThat(writeLimiter.tryAcquire()).isTrue();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("SERVICE_OVERLOADED");
+        assertThat(registry.get("http.concurrency.rejected").tag("kind", "write").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should admit reads through their own limit when writes are saturated")
+    void shouldSeparateReadsFromWrites() throws Exception {
+        writeLimiter.tryAcquire();
+        writeLimiter.tryAcquire();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/order-1");
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertThat(readLimiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the request completes")
+    void shouldReleaseOnSuccess() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/orders/order-1/approve");
+
+        filter.doFilter(request, response, chain);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(writeLimiter.inFlight()).isZero();
+        assertThat(writeLimiter.limit()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should release the permit and back off when the request throws")
+    void shouldReleaseOnException() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+        doThrow(new IllegalStateException("boom")).when(chain).doFilter(request, response);
+
+        assertThatThrownBy(() -> filter.doFilter(request, response, chain)).hasMessageContaining("boom");
+
+        assertThat(writeLimiter.inFlight()).isZero();
+        assertThat(writeLimiter.limit()).isEqualTo(1);
+    }
+}
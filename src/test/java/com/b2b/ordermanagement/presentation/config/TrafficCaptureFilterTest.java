@@ -0,0 +1,88 @@
+package com.b2b.ordermanagement.presentation.config;
+
+import com.b2b.ordermanagement.infrastructure.capture.CaptureWriter;
+import com.b2b.ordermanagement.infrastructure.capture.CapturedExchange;
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TrafficCaptureFilter Tests")
+class TrafficCaptureFilterTest {
+
+    private final CaptureWriter writer = mock(CaptureWriter.class);
+    private final FilterChain chain = mock(FilterChain.class);
+    private final TrafficCaptureFilter filter =
+            new TrafficCaptureFilter(writer, new ObjectMapper(), 1.0, 64 * 1024, Set.of("name"));
+
+    @Test
+    @DisplayName("Should record the exchange with redacted JSON and still deliver the response")
+    void shouldRecordRedactedExchange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/partners");
+        request.setQueryString("page=0&size=20");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String body = "{\"records\":[{\"id\":\"PARTNER001\",\"name\":\"TechCorp Solutions\"}]}";
+        doAnswer(invocation -> {
+            HttpServletResponse wrapped = invocation.getArgument(1);
+            wrapped.setStatus(200);
+            wrapped.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            wrapped.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(chain).doFilter(any(), any());
+
+        filter.doFilter(request, response, chain);
+
+        ArgumentCaptor<CapturedExchange> captured = ArgumentCaptor.forClass(CapturedExchange.class);
+        verify(writer).offer(captured.capture());
+        CapturedExchange exchange = captured.getValue();
+        assertThat(exchange.method()).isEqualTo("GET");
+        assertThat(exchange.path()).isEqualTo("/api/v1/partners?page=0&size=20");
+        assertThat(exchange.status()).isEqualTo(200);
+        assertThat(exchange.response().at("/records/0/id").asText()).isEqualTo("PARTNER001");
+        assertThat(exchange.response().at("/records/0/name").asText()).isEqualTo("***");
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Should not record warm-up requests")
+    void shouldSkipWarmupRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+
+        WarmupSession.beginRequest();
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+        } finally {
+            WarmupSession.endRequest();
+        }
+
+        verify(chain).doFilter(any(), any());
+        verify(writer, never()).offer(any());
+    }
+
+    @Test
+    @DisplayName("Should still record requests that only carry a warm-up header")
+    void shouldIgnoreWarmupHeaderAlone() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        request.addHeader(WarmupSession.HEADER, "guess");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verify(writer).offer(any());
+    }
+}
@@ -0,0 +1,98 @@
+package com.b2b.ordermanagement.presentation.config;
+
+import com.b2b.ordermanagement.infrastructure.warmup.WarmupSession;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WarmupRollbackFilter Tests")
+class WarmupRollbackFilterTest {
+
+    private final WarmupSession session = mock(WarmupSession.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TransactionStatus transaction = mock(TransactionStatus.class);
+    private final FilterChain chain = mock(FilterChain.class);
+    private final WarmupRollbackFilter filter = new WarmupRollbackFilter(session, transactionManager);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        when(session.matches("token")).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should pass regular requests through without a transaction")
+    void shouldIgnoreRequestsWithoutToken() throws Exception {
+        request.addHeader(WarmupSession.HEADER, "guess");
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("Should roll back warm-up requests and record the handler that served them")
+    void shouldRollBackWarmupRequests() throws Exception {
+        request.addHeader(WarmupSession.HEADER, "token");
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        verify(transactionManager).rollback(transaction);
+        verify(transactionManager, never()).commit(any());
+        verify(session).recordHandler(handler);
+        assertThat(WarmupSession.isWarmupRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should mark the thread as serving a warm-up request until the rollback is done")
+    void shouldMarkWarmupRequests() throws Exception {
+        request.addHeader(WarmupSession.HEADER, "token");
+        doAnswer(invocation -> {
+            assertThat(WarmupSession.isWarmupRequest()).isTrue();
+            return null;
+        }).when(chain).doFilter(request, response);
+        doAnswer(invocation -> {
+            assertThat(WarmupSession.isWarmupRequest()).isTrue();
+            return null;
+        }).when(transactionManager).rollback(transaction);
+
+        filter.doFilter(request, response, chain);
+
+        verify(transactionManager).rollback(transaction);
+        assertThat(WarmupSession.isWarmupRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should roll back even when the request fails")
+    void shouldRollBackOnFailure() throws Exception {
+        request.addHeader(WarmupSession.HEADER, "token");
+        doThrow(new IllegalStateException("boom")).when(chain).doFilter(request, response);
+
+        assertThatThrownBy(() -> filter.doFilter(request, response, chain)).hasMessageContaining("boom");
+
+        verify(transactionManager).rollback(transaction);
+    }
+}
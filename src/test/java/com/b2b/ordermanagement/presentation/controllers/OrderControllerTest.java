@@ -3,10 +3,15 @@ package com.b2b.ordermanagement.presentation.controllers;
 import com.b2b.ordermanagement.application.dto.*;
 import com.b2b.ordermanagement.application.interfaces.OrderFilterParams;
 import com.b2b.ordermanagement.application.services.OrderService;
+import com.b2b.ordermanagement.domain.enums.OrderEventType;
 import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.infrastructure.cache.OrderResponseCache;
 import com.b2b.ordermanagement.shared.exceptions.BusinessException;
 import com.b2b.ordermanagement.shared.exceptions.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,16 +20,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -40,6 +50,9 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderResponseCache orderResponseCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -179,6 +192,43 @@ class OrderControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/orders/{orderId}/history - Get Order History")
+    class GetOrderHistoryTests {
+
+        @Test
+        @DisplayName("Should return the order's events oldest first")
+        void getOrderHistory_WithValidId_ShouldReturnEvents() throws Exception {
+            String orderId = "ORDER001";
+            OrderHistoryDTO history = new OrderHistoryDTO(orderId, "PARTNER001", List.of(
+                    new OrderEventDTO(0, OrderEventType.CREATED, null, OrderStatus.PENDING,
+                            BigDecimal.valueOf(200), 2, LocalDateTime.now().minusHours(1)),
+                    new OrderEventDTO(1, OrderEventType.STATUS_CHANGED, OrderStatus.PENDING, OrderStatus.APPROVED,
+                            null, null, LocalDateTime.now())));
+
+            when(orderService.getOrderHistory(orderId)).thenReturn(history);
+
+            mockMvc.perform(get("/api/v1/orders/{orderId}/history", orderId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.orderId").value(orderId))
+                    .andExpect(jsonPath("$.events", hasSize(2)))
+                    .andExpect(jsonPath("$.events[0].type").value("CREATED"))
+                    .andExpect(jsonPath("$.events[1].previousStatus").value("PENDING"))
+                    .andExpect(jsonPath("$.events[1].status").value("APPROVED"));
+        }
+
+        @Test
+        @DisplayName("Should return 404 when the order has no history")
+        void getOrderHistory_WithUnknownId_ShouldReturnNotFound() throws Exception {
+            when(orderService.getOrderHistory("INVALID_ORDER"))
+                    .thenThrow(new ResourceNotFoundException("Order not found: INVALID_ORDER"));
+
+            mockMvc.perform(get("/api/v1/orders/{orderId}/history", "INVALID_ORDER"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"));
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/orders - Get Orders with Pagination and Filters")
     class GetOrdersWithFiltersTests {
@@ -187,16 +237,16 @@ class OrderControllerTest {
         @DisplayName("Should return paginated orders with default parameters")
         void getOrders_WithDefaultParams_ShouldReturnPaginatedOrders() throws Exception {
             // Arrange
-            OrderResponseDTO order1 = new OrderResponseDTO("ORDER001", "PARTNER001", OrderStatus.PENDING,
-                    BigDecimal.valueOf(200), LocalDateTime.now(), LocalDateTime.now(), List.of());
-            OrderResponseDTO order2 = new OrderResponseDTO("ORDER002", "PARTNER002", OrderStatus.APPROVED,
-                    BigDecimal.valueOf(300), LocalDateTime.now(), LocalDateTime.now(), List.of());
+            OrderSummaryDTO order1 = new OrderSummaryDTO("ORDER001", "PARTNER001", OrderStatus.PENDING,
+                    BigDecimal.valueOf(200), 1, LocalDateTime.now(), LocalDateTime.now());
+            OrderSummaryDTO order2 = new OrderSummaryDTO("ORDER002", "PARTNER002", OrderStatus.APPROVED,
+                    BigDecimal.valueOf(300), 1, LocalDateTime.now(), LocalDateTime.now());
 
-            Page<OrderResponseDTO> page = new PageImpl<>(List.of(order1, order2));
-            PagedResponse<OrderResponseDTO> pagedResponse = PagedResponse.of(page);
+            Page<OrderSummaryDTO> page = new PageImpl<>(List.of(order1, order2));
+            PagedResponse<OrderSummaryDTO> pagedResponse = PagedResponse.of(page);
 
-            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class)))
-                    .thenReturn(page);
+            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class), any()))
+                    .thenReturn(new CountedPage<>(page, CountStrategy.EXACT));
 
             // Act & Assert
             mockMvc.perform(get("/api/v1/orders"))
@@ -212,13 +262,13 @@ class OrderControllerTest {
         @Test
         @DisplayName("Should filter orders by partner ID")
         void getOrders_WithPartnerId_ShouldReturnFilteredOrders() throws Exception {
-            OrderResponseDTO order = new OrderResponseDTO("ORDER001", "PARTNER001", OrderStatus.PENDING,
-                    BigDecimal.valueOf(200), LocalDateTime.now(), LocalDateTime.now(), List.of());
+            OrderSummaryDTO order = new OrderSummaryDTO("ORDER001", "PARTNER001", OrderStatus.PENDING,
+                    BigDecimal.valueOf(200), 1, LocalDateTime.now(), LocalDateTime.now());
 
-            Page<OrderResponseDTO> page = new PageImpl<>(List.of(order));
+            Page<OrderSummaryDTO> page = new PageImpl<>(List.of(order));
 
-            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class)))
-                    .thenReturn(page);
+            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class), any()))
+                    .thenReturn(new CountedPage<>(page, CountStrategy.EXACT));
 
             mockMvc.perform(get("/api/v1/orders")
                             .param("partnerId", "PARTNER001"))
@@ -227,19 +277,19 @@ class OrderControllerTest {
                     .andExpect(jsonPath("$.records[0].partnerId").value("PARTNER001"));
 
             verify(orderService).getFilteredOrders(argThat(filter ->
-                    "PARTNER001".equals(((OrderFilterDTO) filter).getPartnerId())), any(Pageable.class));
+                    "PARTNER001".equals(((OrderFilterDTO) filter).getPartnerId())), any(Pageable.class), any());
         }
 
         @Test
         @DisplayName("Should filter orders by status")
         void getOrders_WithStatus_ShouldReturnFilteredOrders() throws Exception {
-            OrderResponseDTO order = new OrderResponseDTO("ORDER001", "PARTNER001", OrderStatus.APPROVED,
-                    BigDecimal.valueOf(200), LocalDateTime.now(), LocalDateTime.now(), List.of());
+            OrderSummaryDTO order = new OrderSummaryDTO("ORDER001", "PARTNER001", OrderStatus.APPROVED,
+                    BigDecimal.valueOf(200), 1, LocalDateTime.now(), LocalDateTime.now());
 
-            Page<OrderResponseDTO> page = new PageImpl<>(List.of(order));
+            Page<OrderSummaryDTO> page = new PageImpl<>(List.of(order));
 
-            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class)))
-                    .thenReturn(page);
+            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class), any()))
+                    .thenReturn(new CountedPage<>(page, CountStrategy.EXACT));
 
             mockMvc.perform(get("/api/v1/orders")
                             .param("status", "APPROVED"))
@@ -247,19 +297,19 @@ class OrderControllerTest {
                     .andExpect(jsonPath("$.records[0].status").value("APPROVED"));
 
             verify(orderService).getFilteredOrders(argThat(filter ->
-                    OrderStatus.APPROVED.equals(((OrderFilterDTO) filter).getStatus())), any(Pageable.class));
+                    OrderStatus.APPROVED.equals(((OrderFilterDTO) filter).getStatus())), any(Pageable.class), any());
         }
 
         @Test
         @DisplayName("Should filter orders by date range")
         void getOrders_WithDateRange_ShouldReturnFilteredOrders() throws Exception {
-            OrderResponseDTO order = new OrderResponseDTO("ORDER001", "PARTNER001", OrderStatus.PENDING,
-                    BigDecimal.valueOf(200), LocalDateTime.now(), LocalDateTime.now(), List.of());
+            OrderSummaryDTO order = new OrderSummaryDTO("ORDER001", "PARTNER001", OrderStatus.PENDING,
+                    BigDecimal.valueOf(200), 1, LocalDateTime.now(), LocalDateTime.now());
 
-            Page<OrderResponseDTO> page = new PageImpl<>(List.of(order));
+            Page<OrderSummaryDTO> page = new PageImpl<>(List.of(order));
 
-            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class)))
-                    .thenReturn(page);
+            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class), any()))
+                    .thenReturn(new CountedPage<>(page, CountStrategy.EXACT));
 
             mockMvc.perform(get("/api/v1/orders")
                             .param("startDate", "2025-01-01T00:00:00")
@@ -270,7 +320,42 @@ class OrderControllerTest {
             verify(orderService).getFilteredOrders(argThat(filter -> {
                 OrderFilterDTO dto = (OrderFilterDTO) filter;
                 return dto.getStartDate() != null && dto.getEndDate() != null;
-            }), any(Pageable.class));
+            }), any(Pageable.class), any());
+        }
+
+        @Test
+        @DisplayName("Should pass the requested count strategy and report the one used")
+        void getOrders_WithCountStrategy_ShouldReportStrategy() throws Exception {
+            OrderSummaryDTO order = new OrderSummaryDTO("ORDER001", "PARTNER001", OrderStatus.PENDING,
+                    BigDecimal.valueOf(200), 1, LocalDateTime.now(), LocalDateTime.now());
+            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class), eq(CountStrategy.ESTIMATED)))
+                    .thenReturn(new CountedPage<>(new PageImpl<>(List.of(order), PageRequest.of(0, 1), 250_000),
+                            CountStrategy.ESTIMATED));
+
+            mockMvc.perform(get("/api/v1/orders")
+                            .param("size", "1")
+                            .param("countStrategy", "ESTIMATED"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(250_000))
+                    .andExpect(jsonPath("$.countStrategy").value("ESTIMATED"));
+        }
+
+        @Test
+        @DisplayName("Should return keyset pages of the orders containing a product")
+        void getOrdersByProduct_ShouldReturnKeysetPage() throws Exception {
+            OrderSummaryDTO order = new OrderSummaryDTO("ORDER001", "PARTNER001", OrderStatus.PENDING,
+                    BigDecimal.valueOf(200), 1, LocalDateTime.now(), LocalDateTime.now());
+            when(orderService.getOrdersByProduct(eq("PROD001"), any(OrderFilterParams.class), eq("abc"), eq(20)))
+                    .thenReturn(new CursorPagedResponse<>(List.of(order), 20, "next"));
+
+            mockMvc.perform(get("/api/v1/orders/by-product")
+                            .param("productId", "PROD001")
+                            .param("cursor", "abc"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.records[0].id").value("ORDER001"))
+                    .andExpect(jsonPath("$.nextCursor").value("next"));
+
+            verify(orderService, never()).getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class), any());
         }
     }
 
@@ -340,4 +425,152 @@ class OrderControllerTest {
                     .andExpect(jsonPath("$.status").value("CANCELLED"));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("PUT /api/v1/orders/{orderId}/ship - Ship Order")
+    class ShipOrderTests {
+
+        @Test
+        @DisplayName("Should ship order successfully")
+        void shipOrder_WithValidId_ShouldReturnShippedOrder() throws Exception {
+            String orderId = "ORDER001";
+            OrderResponseDTO responseDTO = new OrderResponseDTO(
+                    orderId,
+                    "PARTNER001",
+                    OrderStatus.SHIPPED,
+                    BigDecimal.valueOf(200),
+                    LocalDateTime.now(),
+                    LocalDateTime.now(),
+                    List.of()
+            );
+
+            when(orderService.shipOrder(orderId)).thenReturn(responseDTO);
+
+            mockMvc.perform(put("/api/v1/orders/{orderId}/ship", orderId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(orderId))
+                    .andExpect(jsonPath("$.status").value("SHIPPED"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when order is not in a shippable status")
+        void shipOrder_WithPendingOrder_ShouldReturnBadRequest() throws Exception {
+            String orderId = "ORDER001";
+
+            when(orderService.shipOrder(orderId))
+                    .thenThrow(new BusinessException("Order cannot be shipped in current status: PENDING"));
+
+            mockMvc.perform(put("/api/v1/orders/{orderId}/ship", orderId))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("BUSINESS_RULE_VIOLATION"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/orders/{orderId} - Cached responses")
+    class CachedOrderTests {
+
+        private final byte[] cachedBody = "{\"id\":\"ORDER001\",\"status\":\"DELIVERED\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        @Test
+        @DisplayName("Should serve cached bytes without calling the service")
+        void getOrderById_WithCachedOrder_ShouldServeCachedBytes() throws Exception {
+            when(orderResponseCache.find("ORDER001")).thenReturn(Optional.of(cachedBody));
+
+            mockMvc.perform(get("/api/v1/orders/{orderId}", "ORDER001").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(content().bytes(cachedBody));
+
+            verify(orderService, never()).getOrderById(anyString());
+        }
+
+        @Test
+        @DisplayName("Should bypass the cache when a binary format is requested")
+        void getOrderById_AcceptingCbor_ShouldBypassCache() throws Exception {
+            when(orderResponseCache.find("ORDER001")).thenReturn(Optional.of(cachedBody));
+            when(orderService.getOrderById("ORDER001")).thenReturn(new OrderResponseDTO(
+                    "ORDER001", "PARTNER001", OrderStatus.DELIVERED, BigDecimal.TEN,
+                    LocalDateTime.now(), LocalDateTime.now(), List.of()));
+
+            mockMvc.perform(get("/api/v1/orders/{orderId}", "ORDER001").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+
+            verify(orderResponseCache, never()).find(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Binary content negotiation")
+    class BinaryFormatTests {
+
+        private final OrderResponseDTO responseDTO = new OrderResponseDTO(
+                "ORDER001",
+                "PARTNER001",
+                OrderStatus.APPROVED,
+                new BigDecimal("1234.56"),
+                LocalDateTime.of(2024, 5, 1, 10, 30, 15),
+                LocalDateTime.of(2024, 5, 1, 11, 0),
+                List.of(new OrderItemResponseDTO(1L, "PROD001", 2, new BigDecimal("617.28"), new BigDecimal("1234.56")))
+        );
+
+        @Test
+        @DisplayName("Should return Smile when requested through Accept")
+        void getOrderById_AcceptingSmile_ShouldReturnSmile() throws Exception {
+            when(orderService.getOrderById("ORDER001")).thenReturn(responseDTO);
+
+            byte[] body = mockMvc.perform(get("/api/v1/orders/{orderId}", "ORDER001")
+                            .accept(SMILE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(SMILE))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            JsonNode order = new ObjectMapper(new SmileFactory()).readTree(body);
+            assertThat(order.get("id").asText()).isEqualTo("ORDER001");
+            assertThat(order.get("totalAmount").decimalValue()).isEqualByComparingTo("1234.56");
+            assertThat(order.get("createdAt").asText()).isEqualTo("2024-05-01T10:30:15");
+        }
+
+        @Test
+        @DisplayName("Should return CBOR pages and accept CBOR request bodies")
+        void orders_WithCbor_ShouldRoundTrip() throws Exception {
+            ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+            Page<OrderSummaryDTO> page = new PageImpl<>(List.of(new OrderSummaryDTO(responseDTO.id(),
+                    responseDTO.partnerId(), responseDTO.status(), responseDTO.totalAmount(), 1,
+                    responseDTO.createdAt(), responseDTO.updatedAt())));
+            when(orderService.getFilteredOrders(any(OrderFilterParams.class), any(Pageable.class), any())).thenReturn(new CountedPage<>(page, CountStrategy.EXACT));
+            when(orderService.createOrder(any(CreateOrderDTO.class))).thenReturn(responseDTO);
+
+            byte[] body = mockMvc.perform(get("/api/v1/orders").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            JsonNode paged = cbor.readTree(body);
+            assertThat(paged.get("total").asLong()).isEqualTo(1);
+            assertThat(paged.get("records").get(0).get("status").asText()).isEqualTo("APPROVED");
+
+            CreateOrderDTO createOrderDTO = new CreateOrderDTO("PARTNER001",
+                    List.of(new OrderItemDTO("PROD001", 2, new BigDecimal("617.28"))));
+            mockMvc.perform(post("/api/v1/orders")
+                            .contentType(MediaType.APPLICATION_CBOR)
+                            .content(cbor.writeValueAsBytes(createOrderDTO)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value("ORDER001"));
+        }
+
+        @Test
+        @DisplayName("Should keep JSON as the default representation")
+        void getOrderById_WithoutAccept_ShouldReturnJson() throws Exception {
+            when(orderService.getOrderById("ORDER001")).thenReturn(responseDTO);
+
+            mockMvc.perform(get("/api/v1/orders/{orderId}", "ORDER001"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+}
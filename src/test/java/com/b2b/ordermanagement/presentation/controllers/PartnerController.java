@@ -1,9 +1,16 @@
 package com.b2b.ordermanagement.presentation.controllers;
 
+import com.b2b.ordermanagement.application.dto.CountStrategy;
+import com.b2b.ordermanagement.application.dto.CountedPage;
+import com.b2b.ordermanagement.application.dto.OrderSummaryDTO;
 import com.b2b.ordermanagement.application.dto.PagedResponse;
+import com.b2b.ordermanagement.application.dto.PartnerDashboardDTO;
 import com.b2b.ordermanagement.application.dto.PartnerResponseDTO;
 import com.b2b.ordermanagement.application.interfaces.PartnerFilterParams;
+import com.b2b.ordermanagement.application.dto.StatusTotalsDTO;
 import com.b2b.ordermanagement.application.services.PartnerService;
+import com.b2b.ordermanagement.domain.enums.OrderStatus;
+import com.b2b.ordermanagement.shared.exceptions.ResourceNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -53,8 +60,8 @@ class PartnerControllerTest {
             Page<PartnerResponseDTO> page = new PageImpl<>(List.of(partner1, partner2));
             PagedResponse<PartnerResponseDTO> pagedResponse = PagedResponse.of(page);
 
-            when(partnerService.getFiltered(any(PartnerFilterParams.class), any(Pageable.class)))
-                    .thenReturn(page);
+            when(partnerService.getFiltered(any(PartnerFilterParams.class), any(Pageable.class), any()))
+                    .thenReturn(new CountedPage<>(page, CountStrategy.EXACT));
 
             mockMvc.perform(get("/api/v1/partners"))
                     .andExpect(status().isOk())
@@ -66,4 +73,41 @@ class PartnerControllerTest {
                     .andExpect(jsonPath("$.pages").value(1));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("GET /api/v1/partners/{partnerId}/dashboard - Partner dashboard")
+    class GetDashboardTests {
+
+        @Test
+        @DisplayName("Should return totals by status and recent orders")
+        void getDashboard_WithExistingPartner_ShouldReturnDashboard() throws Exception {
+            OrderSummaryDTO recent = new OrderSummaryDTO("ORDER001", "PARTNER001", OrderStatus.PENDING,
+                    BigDecimal.valueOf(200), 2, LocalDateTime.now(), LocalDateTime.now());
+            PartnerDashboardDTO dashboard = new PartnerDashboardDTO("PARTNER001", 3, BigDecimal.valueOf(700),
+                    BigDecimal.valueOf(9500),
+                    List.of(new StatusTotalsDTO(OrderStatus.PENDING, 2L, BigDecimal.valueOf(200)),
+                            new StatusTotalsDTO(OrderStatus.APPROVED, 1L, BigDecimal.valueOf(500))),
+                    List.of(recent));
+
+            when(partnerService.getPartnerDashboard("PARTNER001")).thenReturn(dashboard);
+
+            mockMvc.perform(get("/api/v1/partners/PARTNER001/dashboard"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalOrders").value(3))
+                    .andExpect(jsonPath("$.byStatus", hasSize(2)))
+                    .andExpect(jsonPath("$.byStatus[0].status").value("PENDING"))
+                    .andExpect(jsonPath("$.recentOrders[0].id").value("ORDER001"))
+                    .andExpect(jsonPath("$.recentOrders[0].itemCount").value(2));
+        }
+
+        @Test
+        @DisplayName("Should return 404 for unknown partner")
+        void getDashboard_WithUnknownPartner_ShouldReturnNotFound() throws Exception {
+            when(partnerService.getPartnerDashboard("UNKNOWN"))
+                    .thenThrow(new ResourceNotFoundException("Partner not found: UNKNOWN"));
+
+            mockMvc.perform(get("/api/v1/partners/UNKNOWN/dashboard"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.b2b.ordermanagement.shared.exceptions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("SampledRejectionLog Tests")
+class SampledRejectionLogTest {
+
+    @Test
+    @DisplayName("Should count every rejection but log only the first and every Nth")
+    void shouldSampleLogLines() {
+        Logger logger = mock(Logger.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SampledRejectionLog log = new SampledRejectionLog(logger, 10, registry);
+
+        for (int i = 0; i < 25; i++) {
+            log.record("BUSINESS_RULE_VIOLATION", "Insufficient credit available for partner: PARTNER001");
+        }
+
+        assertThat(log.count("BUSINESS_RULE_VIOLATION")).isEqualTo(25);
+        assertThat(log.count("RESOURCE_NOT_FOUND")).isZero();
+        assertThat(registry.get("http.rejections").tag("code", "BUSINESS_RULE_VIOLATION").counter().count())
+                .isEqualTo(25);
+        // #1, #10, #20
+        verify(logger, times(3)).warn(anyString(), any(Object[].class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.b2b.ordermanagement.infrastructure.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Compares the latency distributions of two {@link TrafficReplay} runs of the same capture,
+ * per endpoint. Deltas are candidate relative to baseline; positive means slower.
+ *
+ * <pre>
+ * ./gradlew replayDiff -Pbaseline=build/replay/main.jsonl -Pcandidate=build/replay/candidate.jsonl
+ * </pre>
+ */
+public final class ReplayDiff {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private ReplayDiff() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ReplayDiff <baseline.jsonl> <candidate.jsonl>");
+            System.exit(2);
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        print(ReplayResult.latenciesByEndpoint(load(objectMapper, Path.of(args[0]))),
+                ReplayResult.latenciesByEndpoint(load(objectMapper, Path.of(args[1]))),
+                System.out);
+    }
+
+    static List<ReplayResult> load(ObjectMapper objectMapper, Path file) throws IOException {
+        List<ReplayResult> results = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    results.add(objectMapper.readValue(line, ReplayResult.class));
+                }
+            }
+        }
+        return results;
+    }
+
+    static void print(Map<String, long[]> baseline, Map<String, long[]> candidate, PrintStream out) {
+        out.printf("%-45s %7s %7s", "endpoint", "base", "cand");
+        for (double quantile : QUANTILES) {
+            String label = "p" + Math.round(quantile * 100);
+            out.printf(" %10s %10s %8s", label + " base", label + " cand", "delta");
+        }
+        out.println();
+
+        TreeSet<String> endpoints = new TreeSet<>(baseline.keySet());
+        endpoints.addAll(candidate.keySet());
+        for (String endpoint : endpoints) {
+            long[] before = baseline.getOrDefault(endpoint, new long[0]);
+            long[] after = candidate.getOrDefault(endpoint, new long[0]);
+            out.printf("%-45s %7d %7d", endpoint, before.length, after.length);
+            for (double quantile : QUANTILES) {
+                long base = ReplayResult.percentile(before, quantile);
+                long cand = ReplayResult.percentile(after, quantile);
+                String delta = base == 0 || after.length == 0
+                        ? "n/a" : String.format("%+.1f%%", (cand - base) * 100d / base);
+                out.printf(" %10.2f %10.2f %8s", TrafficReplay.millis(base), TrafficReplay.millis(cand), delta);
+            }
+            out.println();
+        }
+    }
+}
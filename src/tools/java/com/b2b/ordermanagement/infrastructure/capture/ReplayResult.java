@@ -0,0 +1,62 @@
+package com.b2b.ordermanagement.infrastructure.capture;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Outcome of one replayed exchange, written as a JSON line by {@link TrafficReplay} and
+ * compared across builds by {@link ReplayDiff}.
+ *
+ * @param endpoint        method and path template, e.g. {@code PUT /api/v1/orders/{id}/approve}
+ * @param status          status from the replay target; 0 when the request failed in transport
+ * @param capturedStatus  status the exchange had when it was recorded
+ * @param lagMicros       how late the request was sent relative to its scheduled time
+ */
+public record ReplayResult(
+        String endpoint,
+        int status,
+        int capturedStatus,
+        long latencyMicros,
+        long capturedLatencyMicros,
+        long lagMicros
+) {
+
+    public static final String ALL = "ALL";
+
+    private static final Pattern RESOURCE_ID = Pattern.compile("^(/api/v\\d+/(?:orders|partners))/[^/]+");
+
+    public static String endpoint(String method, String path) {
+        int query = path.indexOf('?');
+        String withoutQuery = query >= 0 ? path.substring(0, query) : path;
+        return method + ' ' + RESOURCE_ID.matcher(withoutQuery).replaceFirst("$1/{id}");
+    }
+
+    /**
+     * Sorted latencies per endpoint, plus {@value #ALL} across every endpoint.
+     */
+    public static Map<String, long[]> latenciesByEndpoint(List<ReplayResult> results) {
+        Map<String, List<Long>> grouped = new TreeMap<>();
+        for (ReplayResult result : results) {
+            grouped.computeIfAbsent(result.endpoint(), key -> new ArrayList<>()).add(result.latencyMicros());
+            grouped.computeIfAbsent(ALL, key -> new ArrayList<>()).add(result.latencyMicros());
+        }
+        Map<String, long[]> sorted = new TreeMap<>();
+        grouped.forEach((endpoint, latencies) -> {
+            long[] values = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(values);
+            sorted.put(endpoint, values);
+        });
+        return sorted;
+    }
+
+    public static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.max(0, (int) Math.ceil(sorted.length * quantile) - 1)];
+    }
+}
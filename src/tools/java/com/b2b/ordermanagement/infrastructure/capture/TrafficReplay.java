@@ -0,0 +1,173 @@
+package com.b2b.ordermanagement.infrastructure.capture;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Re-issues captured exchanges against a running instance, in capture order and with the
+ * captured gaps between them divided by {@code rate} (1 = original pace, 2 = twice as
+ * fast, 0 = back to back). Writes one {@link ReplayResult} per exchange and prints
+ * per-endpoint latency percentiles.
+ *
+ * <p>Replays are deterministic in order, timing and payloads, not in server state: run
+ * each build against the same freshly seeded database. Orders created during the capture
+ * get new ids on replay, so later requests addressing them answer 404, which the status
+ * mismatch column makes visible.</p>
+ *
+ * <pre>
+ * ./gradlew replayTraffic -PcaptureDir=/tmp/order-management-capture -PreplayOut=build/replay/candidate.jsonl
+ * </pre>
+ */
+public final class TrafficReplay {
+
+    private static final int MAX_IN_FLIGHT = 256;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private TrafficReplay() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Usage: TrafficReplay <target-url> <rate> <results.jsonl> <capture file or dir>...");
+            System.exit(2);
+        }
+        ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        List<CapturedExchange> exchanges = load(objectMapper, Arrays.stream(args).skip(3).map(Path::of).toList());
+        if (exchanges.isEmpty()) {
+            System.err.println("No captured exchanges found");
+            System.exit(1);
+        }
+
+        List<ReplayResult> results = replay(exchanges, URI.create(args[0]), Double.parseDouble(args[1]));
+        Path out = Path.of(args[2]);
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(out)) {
+            for (ReplayResult result : results) {
+                writer.write(objectMapper.writeValueAsString(result));
+                writer.newLine();
+            }
+        }
+        print(results, System.out);
+    }
+
+    static List<CapturedExchange> load(ObjectMapper objectMapper, List<Path> paths) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> listing = Files.list(path)) {
+                    listing.filter(CaptureWriter::isCaptureFile).sorted().forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+        }
+
+        List<CapturedExchange> exchanges = new ArrayList<>();
+        for (Path file : files) {
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        exchanges.add(objectMapper.readValue(line, CapturedExchange.class));
+                    }
+                }
+            }
+        }
+        // Stable, so exchanges recorded in the same millisecond keep their file order
+        exchanges.sort(Comparator.comparingLong(CapturedExchange::at));
+        return exchanges;
+    }
+
+    static List<ReplayResult> replay(List<CapturedExchange> exchanges, URI target, double rate) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        List<ReplayResult> results = Collections.synchronizedList(new ArrayList<>(exchanges.size()));
+
+        long firstAt = exchanges.get(0).at();
+        long start = System.nanoTime();
+        for (CapturedExchange exchange : exchanges) {
+            long dueNanos = rate > 0 ? (long) (TimeUnit.MILLISECONDS.toNanos(exchange.at() - firstAt) / rate) : 0;
+            long wait = start + dueNanos - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            inFlight.acquire();
+
+            long sent = System.nanoTime();
+            long lagMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, sent - start - dueNanos));
+            String endpoint = ReplayResult.endpoint(exchange.method(), exchange.path());
+            client.sendAsync(toRequest(target, exchange), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        results.add(new ReplayResult(
+                                endpoint,
+                                response != null ? response.statusCode() : 0,
+                                exchange.status(),
+                                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent),
+                                exchange.latencyMicros(),
+                                lagMicros));
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquire(MAX_IN_FLIGHT);
+        return results;
+    }
+
+    private static HttpRequest toRequest(URI target, CapturedExchange exchange) {
+        HttpRequest.BodyPublisher body = exchange.body() == null || exchange.body().isNull()
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(exchange.body().toString());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target.resolve(exchange.path()))
+                .method(exchange.method(), body)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        if (exchange.accept() != null) {
+            builder.header("Accept", exchange.accept());
+        }
+        return builder.build();
+    }
+
+    static void print(List<ReplayResult> results, PrintStream out) {
+        Map<String, long[]> latencies = ReplayResult.latenciesByEndpoint(results);
+        out.printf("%-45s %8s %8s %10s %10s %10s %10s%n",
+                "endpoint", "count", "errors", "mismatch", "p50(ms)", "p90(ms)", "p99(ms)");
+        latencies.forEach((endpoint, sorted) -> {
+            List<ReplayResult> rows = results.stream()
+                    .filter(result -> endpoint.equals(ReplayResult.ALL) || endpoint.equals(result.endpoint()))
+                    .toList();
+            long errors = rows.stream().filter(result -> result.status() == 0 || result.status() >= 500).count();
+            long mismatches = rows.stream().filter(result -> result.status() != result.capturedStatus()).count();
+            out.printf("%-45s %8d %8d %10d %10.2f %10.2f %10.2f%n", endpoint, sorted.length, errors, mismatches,
+                    millis(ReplayResult.percentile(sorted, 0.5)),
+                    millis(ReplayResult.percentile(sorted, 0.9)),
+                    millis(ReplayResult.percentile(sorted, 0.99)));
+        });
+        long maxLag = results.stream().mapToLong(ReplayResult::lagMicros).max().orElse(0);
+        out.printf("max send lag: %.2f ms%n", millis(maxLag));
+    }
+
+    static double millis(long micros) {
+        return micros / 1000d;
+    }
+}
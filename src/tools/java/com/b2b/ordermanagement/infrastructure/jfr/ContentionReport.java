@@ -0,0 +1,131 @@
+package com.b2b.ordermanagement.infrastructure.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes a .jfr recording into a per-partner contention report built from the
+ * order-management custom events.
+ *
+ * <pre>
+ * ./gradlew jfrReport -PjfrFile=/tmp/order-management.jfr
+ * </pre>
+ */
+public final class ContentionReport {
+
+    private static final String UNKNOWN_PARTNER = "<unknown>";
+
+    private ContentionReport() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ContentionReport <recording.jfr>");
+            System.exit(2);
+        }
+        print(summarize(Path.of(args[0])), System.out);
+    }
+
+    public static List<PartnerContention> summarize(Path recording) throws IOException {
+        Map<String, Accumulator> partners = new HashMap<>();
+
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                switch (event.getEventType().getName()) {
+                    case LockAcquisitionEvent.NAME -> accumulator(partners, event)
+                            .lockWait(event.getString("entity"), event.getDuration());
+                    case CreditCheckEvent.NAME -> accumulator(partners, event)
+                            .creditCheck(event.getBoolean("granted"));
+                    case OrderTransitionEvent.NAME -> accumulator(partners, event).transitions++;
+                    default -> { }
+                }
+            }
+        }
+
+        return partners.entrySet().stream()
+                .map(entry -> entry.getValue().toContention(entry.getKey()))
+                .sorted(Comparator.comparing(PartnerContention::totalLockWait).reversed())
+                .toList();
+    }
+
+    public static void print(List<PartnerContention> report, PrintStream out) {
+        out.printf("%-20s %8s %8s %12s %12s %12s %8s %8s %8s%n",
+                "partner", "locks", "order", "total(ms)", "p95(ms)", "max(ms)", "credit", "denied", "trans");
+        for (PartnerContention row : report) {
+            out.printf("%-20s %8d %8d %12.3f %12.3f %12.3f %8d %8d %8d%n",
+                    row.partnerId(), row.lockAcquisitions(), row.orderLockAcquisitions(),
+                    millis(row.totalLockWait()), millis(row.p95LockWait()), millis(row.maxLockWait()),
+                    row.creditChecks(), row.creditDenials(), row.transitions());
+        }
+    }
+
+    private static Accumulator accumulator(Map<String, Accumulator> partners, RecordedEvent event) {
+        String partnerId = event.hasField("partnerId") ? event.getString("partnerId") : null;
+        return partners.computeIfAbsent(partnerId != null ? partnerId : UNKNOWN_PARTNER, key -> new Accumulator());
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000d;
+    }
+
+    public record PartnerContention(
+            String partnerId,
+            long lockAcquisitions,
+            long orderLockAcquisitions,
+            Duration totalLockWait,
+            Duration p95LockWait,
+            Duration maxLockWait,
+            long creditChecks,
+            long creditDenials,
+            long transitions
+    ) {}
+
+    private static final class Accumulator {
+        private long[] waits = new long[16];
+        private long lockAcquisitions;
+        private long orderLockAcquisitions;
+        private long totalWaitNanos;
+        private long creditChecks;
+        private long creditDenials;
+        private long transitions;
+
+        void lockWait(String entity, Duration wait) {
+            if (lockAcquisitions == waits.length) {
+                waits = Arrays.copyOf(waits, waits.length * 2);
+            }
+            long nanos = wait.toNanos();
+            waits[(int) lockAcquisitions++] = nanos;
+            totalWaitNanos += nanos;
+            if ("order".equals(entity)) {
+                orderLockAcquisitions++;
+            }
+        }
+
+        void creditCheck(boolean granted) {
+            creditChecks++;
+            if (!granted) {
+                creditDenials++;
+            }
+        }
+
+        PartnerContention toContention(String partnerId) {
+            long[] sorted = Arrays.copyOf(waits, (int) lockAcquisitions);
+            Arrays.sort(sorted);
+            long p95 = sorted.length == 0 ? 0 : sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+            long max = sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+            return new PartnerContention(partnerId, lockAcquisitions, orderLockAcquisitions,
+                    Duration.ofNanos(totalWaitNanos), Duration.ofNanos(p95), Duration.ofNanos(max),
+                    creditChecks, creditDenials, transitions);
+        }
+    }
+}